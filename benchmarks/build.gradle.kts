@@ -0,0 +1,105 @@
+import groovy.json.JsonSlurper
+
+plugins {
+    id("io.spring.dependency-management")
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+val springBootVersion: String by project
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:$springBootVersion")
+    }
+}
+
+dependencies {
+    jmh(project(":modules:customer"))
+    jmh(testFixtures(project(":modules:customer")))
+    jmh(project(":shared:infrastructure"))
+    jmh(testFixtures(project(":shared:infrastructure")))
+
+    jmh("org.springframework.boot:spring-boot-starter-data-jpa")
+    jmh("org.springframework.security:spring-security-crypto")
+    jmh("jakarta.validation:jakarta.validation-api")
+    jmh("tools.jackson.core:jackson-databind")
+    jmh("io.micrometer:micrometer-core")
+    jmh("io.micrometer:micrometer-registry-prometheus")
+    jmh("com.h2database:h2")
+}
+
+// ./gradlew :benchmarks:jmh [-PjmhInclude=Encryption] then :benchmarks:jmhCompare
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    profilers.add("gc")
+    fork.set(2)
+    warmupIterations.set(3)
+    warmup.set("2s")
+    iterations.set(5)
+    timeOnIteration.set("2s")
+    providers.gradleProperty("jmhInclude").orNull?.let { includes.add(it) }
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("baseline/results.json")
+
+tasks.register<Copy>("jmhBaseline") {
+    group = "benchmark"
+    description = "Stores the latest JMH results as the baseline jmhCompare checks against"
+    from(jmhResults)
+    into(jmhBaseline.asFile.parentFile)
+}
+
+tasks.register("jmhCompare") {
+    group = "benchmark"
+    description = "Fails if any benchmark's score or allocation per op is worse than the baseline by more than " +
+            "-PjmhRegressionThreshold (a fraction, default 0.10)"
+    val threshold = providers.gradleProperty("jmhRegressionThreshold").map(String::toDouble).orElse(0.10)
+    inputs.file(jmhResults)
+    inputs.file(jmhBaseline)
+    doLast {
+        val baseline = readJmhResults(jmhBaseline.asFile)
+        val current = readJmhResults(jmhResults.get().asFile)
+        val limit = threshold.get()
+        val regressions = current.mapNotNull { (name, result) ->
+            val before = baseline[name] ?: return@mapNotNull null
+            val scoreChange = if (result.higherIsBetter) before.score / result.score - 1 else result.score / before.score - 1
+            // Allocation is compared only where the baseline allocates enough for a ratio to mean something
+            val allocationChange = if (before.allocatedBytes > 16) result.allocatedBytes / before.allocatedBytes - 1 else 0.0
+            when {
+                scoreChange > limit -> "$name: %.3f -> %.3f %s (%+.1f%%)".format(
+                        before.score, result.score, result.unit, scoreChange * 100)
+                allocationChange > limit -> "$name: %.0f -> %.0f B/op allocated (%+.1f%%)".format(
+                        before.allocatedBytes, result.allocatedBytes, allocationChange * 100)
+                else -> null
+            }
+        }
+        current.keys.filterNot(baseline::containsKey).forEach { logger.lifecycle("No baseline for $it") }
+        if (regressions.isNotEmpty()) {
+            throw GradleException("Benchmarks regressed by more than %.0f%%:\n  ".format(limit * 100) +
+                    regressions.joinToString("\n  "))
+        }
+        logger.lifecycle("${current.size} benchmarks within %.0f%% of baseline".format(limit * 100))
+    }
+}
+
+data class JmhResult(val score: Double, val unit: String, val higherIsBetter: Boolean, val allocatedBytes: Double)
+
+@Suppress("UNCHECKED_CAST")
+fun readJmhResults(file: File): Map<String, JmhResult> {
+    if (!file.exists()) {
+        throw GradleException("$file not found; run :benchmarks:jmh (and :benchmarks:jmhBaseline to record a baseline)")
+    }
+    return (JsonSlurper().parse(file) as List<Map<String, Any?>>).associate { run ->
+        val params = (run["params"] as Map<String, Any?>?)?.entries?.joinToString(",", "(", ")") { "${it.key}=${it.value}" } ?: ""
+        val primary = run["primaryMetric"] as Map<String, Any?>
+        val secondary = run["secondaryMetrics"] as Map<String, Map<String, Any?>>? ?: emptyMap()
+        val allocated = secondary["gc.alloc.rate.norm"]?.get("score") as Number?
+        "${run["benchmark"]}$params" to JmhResult(
+                (primary["score"] as Number).toDouble(),
+                primary["scoreUnit"] as String,
+                run["mode"] == "thrpt",
+                allocated?.toDouble() ?: 0.0)
+    }
+}
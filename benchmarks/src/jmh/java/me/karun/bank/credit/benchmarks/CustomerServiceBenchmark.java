@@ -0,0 +1,131 @@
+package me.karun.bank.credit.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import me.karun.bank.credit.customer.api.CustomerService;
+import me.karun.bank.credit.customer.api.ProfileResponse;
+import me.karun.bank.credit.customer.api.RegistrationRequest;
+import me.karun.bank.credit.customer.api.RegistrationResponse;
+import me.karun.bank.credit.customer.api.WeakPasswordException;
+import me.karun.bank.credit.customer.internal.domain.Address;
+import me.karun.bank.credit.customer.internal.domain.Customer;
+import me.karun.bank.credit.customer.internal.domain.CustomerProfile;
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.customer.internal.repository.InMemoryCustomerProfileRepository;
+import me.karun.bank.credit.customer.internal.repository.InMemoryCustomerRepository;
+import me.karun.bank.credit.customer.internal.repository.InMemoryProfileAuditRepository;
+import me.karun.bank.credit.customer.internal.repository.InMemoryVerificationTokenRepository;
+import me.karun.bank.credit.customer.internal.service.CustomerServiceImpl;
+import me.karun.bank.credit.infrastructure.datasource.ReadYourWritesGuard;
+import me.karun.bank.credit.infrastructure.encryption.AwsSecretsManagerEncryptionService;
+import me.karun.bank.credit.infrastructure.metrics.OperationMetricsInterceptor;
+import me.karun.bank.credit.infrastructure.persistence.NoOpTransactionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CustomerServiceImpl} against in-memory repositories. Password hashing is replaced by a
+ * pass-through encoder so registration measures validation and mapping rather than BCrypt, and
+ * {@code getProfile} measures the read path down to {@code toProfileResponse}. The {@code metered}
+ * variant adds the operation timers, recording into a Prometheus registry as in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomerServiceBenchmark {
+
+    static final String ENCRYPTION_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+    private static final RegistrationRequest VALID = new RegistrationRequest("Jane.Doe@Example.com", "SecurePass123!");
+    private static final RegistrationRequest WEAK_PASSWORD = new RegistrationRequest("jane.doe@example.com", "securepass123!");
+
+    @Param({"plain", "metered"})
+    public String metrics;
+
+    private CustomerService service;
+    private InMemoryCustomerRepository customers;
+    private String customerId;
+
+    @Setup
+    public void setUp() {
+        customers = new InMemoryCustomerRepository();
+        var profiles = new InMemoryCustomerProfileRepository(customers);
+        var audits = new InMemoryProfileAuditRepository();
+        var tokens = new InMemoryVerificationTokenRepository();
+        var encryption = new AwsSecretsManagerEncryptionService(ENCRYPTION_KEY);
+
+        var target = new CustomerServiceImpl(customers, tokens, profiles, audits, new PassThroughPasswordEncoder(),
+                event -> {
+                }, encryption, new ReadYourWritesGuard(Duration.ofSeconds(5)), new NoOpTransactionManager(),
+                new SimpleMeterRegistry());
+        service = "metered".equals(metrics) ? metered(target) : target;
+
+        // A different email from VALID, so registering it is never a duplicate
+        var customer = new Customer("john.roe@example.com", "-", CustomerStatus.PENDING_VERIFICATION, Instant.now());
+        customer.verify();
+        customer.completeProfile();
+        var id = customers.save(customer).getId();
+        profiles.save(new CustomerProfile(id, "Jane", "Doe", LocalDate.of(1990, 1, 15),
+                encryption.encrypt("123-45-6789"), "6789",
+                new Address("123 Main St", "Apt 4", "Springfield", "IL", "62701"), "555-0100"));
+        customerId = id.toString();
+        // Throws, failing the run up front, unless the customer and profile were stored
+        service.getProfile(customerId);
+    }
+
+    @Benchmark
+    public RegistrationResponse registerValid() {
+        var registration = service.register(VALID);
+        // Frees the email for the next invocation and keeps the map at one customer
+        customers.deleteById(registration.customerId());
+        return registration;
+    }
+
+    @Benchmark
+    public Object registerWeakPassword() {
+        try {
+            return service.register(WEAK_PASSWORD);
+        } catch (WeakPasswordException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ProfileResponse getProfile() {
+        return service.getProfile(customerId);
+    }
+
+    private static CustomerService metered(CustomerService target) {
+        var registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        var factory = new ProxyFactory(target);
+        factory.addAdvice(new OperationMetricsInterceptor("customer.operation", () -> registry));
+        return (CustomerService) factory.getProxy();
+    }
+
+    private static final class PassThroughPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.contentEquals(rawPassword);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package me.karun.bank.credit.benchmarks;
+
+import me.karun.bank.credit.infrastructure.encryption.AwsSecretsManagerEncryptionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EncryptionBenchmark {
+
+    private static final String SSN = "123-45-6789";
+
+    private AwsSecretsManagerEncryptionService encryption;
+    private String encryptedSsn;
+
+    @Setup
+    public void setUp() {
+        encryption = new AwsSecretsManagerEncryptionService(CustomerServiceBenchmark.ENCRYPTION_KEY);
+        encryptedSsn = encryption.encrypt(SSN);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryption.encrypt(SSN);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryption.decrypt(encryptedSsn);
+    }
+}
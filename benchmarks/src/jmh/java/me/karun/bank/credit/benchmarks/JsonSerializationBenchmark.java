@@ -0,0 +1,51 @@
+package me.karun.bank.credit.benchmarks;
+
+import me.karun.bank.credit.customer.api.AddressDto;
+import me.karun.bank.credit.customer.api.ProfileResponse;
+import me.karun.bank.credit.customer.web.CustomerJsonModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProfileResponse} through Jackson's reflective serializers and through {@link CustomerJsonModule}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonSerializationBenchmark {
+
+    private static final ProfileResponse PROFILE = new ProfileResponse(UUID.randomUUID(), "Jane", "Doe",
+            LocalDate.of(1990, 1, 15), "6789", new AddressDto("123 Main St", "Apt 4", "Springfield", "IL", "62701"),
+            "555-0100", "COMPLETE", Instant.now(), 3);
+
+    @Param({"reflective", "hand-written"})
+    public String serializers;
+
+    private JsonMapper mapper;
+
+    @Setup
+    public void setUp() {
+        var builder = JsonMapper.builder();
+        if (serializers.equals("hand-written")) {
+            builder.addModule(new CustomerJsonModule());
+        }
+        mapper = builder.build();
+    }
+
+    @Benchmark
+    public byte[] profileResponse() {
+        return mapper.writeValueAsBytes(PROFILE);
+    }
+}
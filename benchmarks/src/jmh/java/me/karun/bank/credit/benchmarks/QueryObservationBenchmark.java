@@ -0,0 +1,86 @@
+package me.karun.bank.credit.benchmarks;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import me.karun.bank.credit.infrastructure.jdbc.QueryMetricsListener;
+import me.karun.bank.credit.infrastructure.jdbc.QueryObservingDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link QueryObservingDataSource} proxies and per-query metrics over a plain
+ * connection. {@code embedded} runs an in-process H2 query, small enough for the overhead to show
+ * in absolute terms; {@code tcp} sends the same query to an H2 server on loopback, so each
+ * statement pays a network round trip as it does against Postgres. The 2% budget is the embedded
+ * difference as a share of the tcp statement, since the round trip varies by more than the
+ * overhead itself. Metrics go to the Prometheus registry the gateway scrapes, since what a
+ * recording costs depends on the registry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryObservationBenchmark {
+
+    private static final String QUERY = "select id, email from customers where id = ?";
+
+    @Param({"plain", "observed"})
+    public String dataSource;
+
+    @Param({"embedded", "tcp"})
+    public String database;
+
+    private Server server;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        var h2 = new JdbcDataSource();
+        if (database.equals("tcp")) {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            h2.setURL("jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:query-observation;DB_CLOSE_DELAY=-1");
+        } else {
+            h2.setURL("jdbc:h2:mem:query-observation;DB_CLOSE_DELAY=-1");
+        }
+        var source = dataSource.equals("observed")
+                ? QueryObservingDataSource.wrap(h2, new QueryMetricsListener(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)))
+                : h2;
+        connection = source.getConnection();
+        try (var statement = connection.createStatement()) {
+            statement.execute("create table if not exists customers (id int primary key, email varchar(255))");
+            statement.execute("merge into customers key (id) values (1, 'jane.doe@example.com')");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    public String selectById() throws SQLException {
+        try (var statement = connection.prepareStatement(QUERY)) {
+            statement.setInt(1, 1);
+            try (var resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(2);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package me.karun.bank.credit.benchmarks;
+
+import me.karun.bank.credit.customer.internal.validation.AdultAgeValidator;
+import me.karun.bank.credit.customer.internal.validation.SsnValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    private static final LocalDate ADULT = LocalDate.of(1990, 1, 15);
+    private static final LocalDate MINOR = LocalDate.now().minusYears(10);
+
+    private final SsnValidator ssnValidator = new SsnValidator();
+    private final AdultAgeValidator adultAgeValidator = new AdultAgeValidator();
+
+    @Benchmark
+    public boolean ssn(SsnInput input) {
+        return ssnValidator.isValid(input.ssn, null);
+    }
+
+    @Benchmark
+    public boolean adultAge() {
+        return adultAgeValidator.isValid(ADULT, null);
+    }
+
+    @Benchmark
+    public boolean minorAge() {
+        return adultAgeValidator.isValid(MINOR, null);
+    }
+
+    @State(Scope.Benchmark)
+    public static class SsnInput {
+
+        // Valid, wrong format, and the all-zeros number that passes the pattern
+        @Param({"123-45-6789", "123456789", "000-00-0000"})
+        public String ssn;
+    }
+}
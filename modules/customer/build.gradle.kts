@@ -1,11 +1,13 @@
 plugins {
     `java-library`
+    `java-test-fixtures`
     id("org.springframework.boot") apply false
     id("io.spring.dependency-management")
 }
 
 val springBootVersion: String by project
 val springdocVersion: String by project
+val postgresqlVersion: String by project
 
 dependencyManagement {
     imports {
@@ -22,12 +24,21 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
 
+    // Metrics
+    implementation("io.micrometer:micrometer-core")
+
     // Password hashing
     implementation("org.springframework.security:spring-security-crypto")
 
     // OpenAPI / Swagger
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:$springdocVersion")
 
+    testFixturesImplementation("org.springframework.boot:spring-boot-starter-data-jpa")
+
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation(testFixtures(project(":shared:infrastructure")))
+    testImplementation("org.testcontainers:testcontainers-junit-jupiter")
+    testImplementation("org.testcontainers:testcontainers-postgresql")
+    testRuntimeOnly("org.postgresql:postgresql:$postgresqlVersion")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package me.karun.bank.credit.customer.api;
+
+import java.time.LocalDate;
+
+public record CohortConversion(
+        LocalDate registeredOn,
+        long registered,
+        long verified,
+        long profileComplete,
+        long suspended,
+        double verificationRate,
+        double completionRate
+) {
+}
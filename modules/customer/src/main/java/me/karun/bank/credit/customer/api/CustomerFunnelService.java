@@ -0,0 +1,5 @@
+package me.karun.bank.credit.customer.api;
+
+public interface CustomerFunnelService {
+    FunnelResponse getFunnel(int days);
+}
@@ -0,0 +1,9 @@
+package me.karun.bank.credit.customer.api;
+
+import java.util.List;
+
+public record CustomerListResponse(
+        List<CustomerSummary> customers,
+        String nextCursor
+) {
+}
@@ -1,5 +1,8 @@
 package me.karun.bank.credit.customer.api;
 
+import java.time.Instant;
+import java.util.function.Consumer;
+
 public interface CustomerService {
     RegistrationResponse register(RegistrationRequest request);
 
@@ -11,5 +14,15 @@ public interface CustomerService {
 
     ProfileResponse getProfile(String customerId);
 
+    ProfileVersion getProfileVersion(String customerId);
+
     ProfileResponse updateProfile(String customerId, ProfileUpdateRequest request);
+
+    ProfileResponse updateProfile(String customerId, ProfileUpdateRequest request, long expectedVersion);
+
+    CustomerListResponse listCustomers(String status, Instant createdFrom, Instant createdTo, String cursor, int limit);
+
+    AuditHistoryResponse getAuditHistory(String customerId, String cursor, int limit);
+
+    void exportAuditHistory(String customerId, Consumer<ProfileAuditEntry> consumer);
 }
@@ -0,0 +1,13 @@
+package me.karun.bank.credit.customer.api;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CustomerSummary(
+        UUID customerId,
+        String email,
+        String status,
+        Instant createdAt,
+        Instant verifiedAt
+) {
+}
@@ -0,0 +1,10 @@
+package me.karun.bank.credit.customer.api;
+
+import java.util.List;
+import java.util.Map;
+
+public record FunnelResponse(
+        Map<String, Long> customersByStatus,
+        List<CohortConversion> cohorts
+) {
+}
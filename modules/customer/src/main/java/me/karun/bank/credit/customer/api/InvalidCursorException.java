@@ -0,0 +1,7 @@
+package me.karun.bank.credit.customer.api;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
@@ -0,0 +1,7 @@
+package me.karun.bank.credit.customer.api;
+
+public class InvalidCustomerFilterException extends RuntimeException {
+    public InvalidCustomerFilterException(String message) {
+        super(message);
+    }
+}
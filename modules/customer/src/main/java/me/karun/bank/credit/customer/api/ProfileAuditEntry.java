@@ -0,0 +1,14 @@
+package me.karun.bank.credit.customer.api;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ProfileAuditEntry(
+        UUID id,
+        String fieldName,
+        String oldValue,
+        String newValue,
+        Instant changedAt,
+        UUID changedBy
+) {
+}
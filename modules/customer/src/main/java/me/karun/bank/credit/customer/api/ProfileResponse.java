@@ -1,5 +1,7 @@
 package me.karun.bank.credit.customer.api;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
@@ -13,5 +15,8 @@ public record ProfileResponse(
     AddressDto address,
     String phone,
     String profileStatus,
-    Instant updatedAt
+    Instant updatedAt,
+    // Sent as the ETag header rather than in the body
+    @JsonIgnore
+    long version
 ) {}
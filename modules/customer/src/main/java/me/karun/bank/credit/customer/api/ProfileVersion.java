@@ -0,0 +1,11 @@
+package me.karun.bank.credit.customer.api;
+
+/**
+ * What a {@link ProfileResponse} depends on beyond its stored fields: the profile's version and
+ * the customer's status, which the response carries but the profile row does not.
+ */
+public record ProfileVersion(
+        long version,
+        String profileStatus
+) {
+}
@@ -0,0 +1,7 @@
+package me.karun.bank.credit.customer.api;
+
+public class ProfileVersionMismatchException extends RuntimeException {
+    public ProfileVersionMismatchException(String message) {
+        super(message);
+    }
+}
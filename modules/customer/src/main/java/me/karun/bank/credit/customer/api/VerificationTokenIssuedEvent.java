@@ -0,0 +1,16 @@
+package me.karun.bank.credit.customer.api;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Published when a verification token is created. Carries the raw token, which is only ever
+ * stored hashed, so listeners must not log or persist it.
+ */
+public record VerificationTokenIssuedEvent(
+        UUID customerId,
+        String email,
+        String token,
+        Instant expiresAt
+) {
+}
@@ -1,14 +1,44 @@
 package me.karun.bank.credit.customer.internal.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import me.karun.bank.credit.customer.api.CustomerService;
+import me.karun.bank.credit.customer.internal.repository.CustomerRepository;
+import me.karun.bank.credit.customer.internal.warmup.CustomerWarmupTask;
+import me.karun.bank.credit.customer.web.CustomerController;
+import me.karun.bank.credit.customer.web.CustomerJsonModule;
 import me.karun.bank.credit.infrastructure.encryption.AwsSecretsManagerEncryptionService;
 import me.karun.bank.credit.infrastructure.encryption.EncryptionService;
+import me.karun.bank.credit.infrastructure.jfr.OperationEventInterceptor;
+import me.karun.bank.credit.infrastructure.metrics.OperationMetricsInterceptor;
+import me.karun.bank.credit.infrastructure.warmup.WarmupTask;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.Method;
 
 @Configuration
+@EnableScheduling
+@ImportRuntimeHints(CustomerRuntimeHints.class)
 public class CustomerConfig {
 
     @Bean
@@ -21,4 +51,46 @@ public class CustomerConfig {
         // TODO #23: Integrate with AWS Secrets Manager after story #49 (auth) is complete
         return new AwsSecretsManagerEncryptionService(encryptionKey);
     }
+
+    // Both outside the transaction advisor, so timings include the commit
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor customerOperationMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        var interceptor = new OperationMetricsInterceptor("customer.operation",
+                SingletonSupplier.of(meterRegistry::getObject));
+        var advisor = new DefaultPointcutAdvisor(customerServiceMethods(), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor customerOperationEventAdvisor() {
+        var advisor = new DefaultPointcutAdvisor(customerServiceMethods(), new OperationEventInterceptor("CustomerService"));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+
+    private static Pointcut customerServiceMethods() {
+        return new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return CustomerService.class.isAssignableFrom(targetClass)
+                        && ClassUtils.hasMethod(CustomerService.class, method.getName(), method.getParameterTypes());
+            }
+        };
+    }
+
+    @Bean
+    public JacksonModule customerJsonModule() {
+        return new CustomerJsonModule();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "platform.warmup", name = "enabled", havingValue = "true")
+    public WarmupTask customerWarmupTask(ObjectMapper objectMapper, Validator validator, CustomerController controller,
+                                         CustomerRepository customerRepository,
+                                         PlatformTransactionManager transactionManager) {
+        return new CustomerWarmupTask(objectMapper, validator, controller, customerRepository, transactionManager);
+    }
 }
@@ -0,0 +1,56 @@
+package me.karun.bank.credit.customer.internal.config;
+
+import me.karun.bank.credit.customer.api.AddressDto;
+import me.karun.bank.credit.customer.api.CustomerSummary;
+import me.karun.bank.credit.customer.api.ProfileAuditEntry;
+import me.karun.bank.credit.customer.api.ProfileRequest;
+import me.karun.bank.credit.customer.api.ProfileUpdateRequest;
+import me.karun.bank.credit.customer.api.ProfileVersion;
+import me.karun.bank.credit.customer.internal.domain.Address;
+import me.karun.bank.credit.customer.internal.domain.Customer;
+import me.karun.bank.credit.customer.internal.domain.CustomerProfile;
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.customer.internal.domain.ProfileAudit;
+import me.karun.bank.credit.customer.internal.domain.VerificationToken;
+import me.karun.bank.credit.customer.internal.validation.AdultAge;
+import me.karun.bank.credit.customer.internal.validation.AdultAgeValidator;
+import me.karun.bank.credit.customer.internal.validation.SsnValidator;
+import me.karun.bank.credit.customer.internal.validation.ValidSsn;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reachability metadata for native images: types Hibernate and Hibernate Validator
+ * instantiate or introspect reflectively.
+ */
+public class CustomerRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            Customer.class, CustomerProfile.class, Address.class, ProfileAudit.class, VerificationToken.class);
+    private static final List<Class<?>> PROJECTIONS = List.of(
+            ProfileAuditEntry.class, CustomerSummary.class, ProfileVersion.class);
+    private static final List<Class<?>> VALIDATED_REQUESTS = List.of(
+            ProfileRequest.class, ProfileUpdateRequest.class, AddressDto.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        var reflection = hints.reflection();
+        ENTITIES.forEach(entity -> reflection.registerType(entity,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.ACCESS_DECLARED_FIELDS));
+        reflection.registerType(CustomerStatus.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        PROJECTIONS.forEach(projection -> reflection.registerType(projection, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+
+        VALIDATED_REQUESTS.forEach(request -> reflection.registerType(request,
+                MemberCategory.ACCESS_DECLARED_FIELDS,
+                MemberCategory.INVOKE_PUBLIC_METHODS));
+        List.of(AdultAge.class, ValidSsn.class).forEach(constraint ->
+                reflection.registerType(constraint, MemberCategory.INVOKE_PUBLIC_METHODS));
+        List.of(AdultAgeValidator.class, SsnValidator.class).forEach(validator ->
+                reflection.registerType(validator, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+    }
+}
@@ -3,6 +3,10 @@ package me.karun.bank.credit.customer.internal.domain;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 @Embeddable
 public class Address {
 
@@ -50,4 +54,34 @@ public class Address {
     public String getZipCode() {
         return zipCode;
     }
+
+    public List<FieldChange> changesTo(Address other) {
+        var changes = new ArrayList<FieldChange>();
+        changes.addAll(FieldChange.between("address.street", street, other.street));
+        changes.addAll(FieldChange.between("address.unit", unit, other.unit));
+        changes.addAll(FieldChange.between("address.city", city, other.city));
+        changes.addAll(FieldChange.between("address.state", state, other.state));
+        changes.addAll(FieldChange.between("address.zipCode", zipCode, other.zipCode));
+        return changes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Address other)) {
+            return false;
+        }
+        return Objects.equals(street, other.street)
+                && Objects.equals(unit, other.unit)
+                && Objects.equals(city, other.city)
+                && Objects.equals(state, other.state)
+                && Objects.equals(zipCode, other.zipCode);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(street, unit, city, state, zipCode);
+    }
 }
@@ -0,0 +1,42 @@
+package me.karun.bank.credit.customer.internal.domain;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+public record AuditPartition(YearMonth month) {
+
+    private static final String TABLE_PREFIX = "profile_audit_p";
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    public static Optional<AuditPartition> fromTableName(String tableName) {
+        if (!tableName.startsWith(TABLE_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            var month = YearMonth.parse(tableName.substring(TABLE_PREFIX.length()), MONTH_SUFFIX);
+            return Optional.of(new AuditPartition(month));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String tableName() {
+        return TABLE_PREFIX + month.format(MONTH_SUFFIX);
+    }
+
+    public Instant lowerBound() {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    public Instant upperBound() {
+        return month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    public boolean isBefore(YearMonth other) {
+        return month.isBefore(other);
+    }
+}
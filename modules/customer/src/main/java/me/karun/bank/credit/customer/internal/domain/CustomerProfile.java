@@ -3,6 +3,8 @@ package me.karun.bank.credit.customer.internal.domain;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Entity
@@ -40,6 +42,10 @@ public class CustomerProfile {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    // Boxed so Spring Data treats a null version as new and persists without a merge select
+    @Version
+    private Long version;
+
     protected CustomerProfile() {}
 
     public CustomerProfile(
@@ -103,6 +109,10 @@ public class CustomerProfile {
         return updatedAt;
     }
 
+    public long getVersion() {
+        return version != null ? version : 0;
+    }
+
     public void update(
         String firstName,
         String lastName,
@@ -122,13 +132,35 @@ public class CustomerProfile {
         this.updatedAt = Instant.now();
     }
 
-    public void updateAddress(Address address) {
-        this.address = address;
-        this.updatedAt = Instant.now();
+    public List<FieldChange> updateAddress(Address address) {
+        var changes = this.address.changesTo(address);
+        if (!changes.isEmpty()) {
+            this.address = address;
+            this.updatedAt = Instant.now();
+        }
+        return changes;
     }
 
-    public void updatePhone(String phone) {
-        this.phone = phone;
-        this.updatedAt = Instant.now();
+    public List<FieldChange> updatePhone(String phone) {
+        var changes = FieldChange.between("phone", this.phone, phone);
+        if (!changes.isEmpty()) {
+            this.phone = phone;
+            this.updatedAt = Instant.now();
+        }
+        return changes;
+    }
+
+    public boolean hasSameDetails(
+        String firstName,
+        String lastName,
+        LocalDate dateOfBirth,
+        Address address,
+        String phone
+    ) {
+        return Objects.equals(this.firstName, firstName)
+            && Objects.equals(this.lastName, lastName)
+            && Objects.equals(this.dateOfBirth, dateOfBirth)
+            && Objects.equals(this.address, address)
+            && Objects.equals(this.phone, phone);
     }
 }
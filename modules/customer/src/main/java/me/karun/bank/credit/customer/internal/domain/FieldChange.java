@@ -0,0 +1,14 @@
+package me.karun.bank.credit.customer.internal.domain;
+
+import java.util.List;
+import java.util.Objects;
+
+public record FieldChange(String fieldName, String oldValue, String newValue) {
+
+    public static List<FieldChange> between(String fieldName, String oldValue, String newValue) {
+        if (Objects.equals(oldValue, newValue)) {
+            return List.of();
+        }
+        return List.of(new FieldChange(fieldName, oldValue, newValue));
+    }
+}
@@ -0,0 +1,9 @@
+package me.karun.bank.credit.customer.internal.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Customers who registered on one UTC day and went on to reach a status.
+ */
+public record FunnelCohort(LocalDate registeredOn, CustomerStatus reached) {
+}
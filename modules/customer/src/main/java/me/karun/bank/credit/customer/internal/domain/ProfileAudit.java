@@ -1,6 +1,7 @@
 package me.karun.bank.credit.customer.internal.domain;
 
 import jakarta.persistence.*;
+import me.karun.bank.credit.infrastructure.persistence.TimeOrderedId;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -9,7 +10,7 @@ import java.util.UUID;
 public class ProfileAudit {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(name = "customer_id", nullable = false)
@@ -0,0 +1,4 @@
+package me.karun.bank.credit.customer.internal.domain;
+
+public record StatusCount(CustomerStatus status, long customers) {
+}
@@ -1,11 +1,21 @@
 package me.karun.bank.credit.customer.internal.repository;
 
+import me.karun.bank.credit.customer.api.ProfileVersion;
 import me.karun.bank.credit.customer.internal.domain.CustomerProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CustomerProfileRepository extends JpaRepository<CustomerProfile, UUID> {
+
+    @Query("""
+            select new me.karun.bank.credit.customer.api.ProfileVersion(p.version, cast(c.status as String))
+            from CustomerProfile p join Customer c on c.id = p.customerId
+            where p.customerId = :customerId
+            """)
+    Optional<ProfileVersion> findVersionById(UUID customerId);
 }
@@ -1,11 +1,41 @@
 package me.karun.bank.credit.customer.internal.repository;
 
+import me.karun.bank.credit.customer.api.CustomerSummary;
 import me.karun.bank.credit.customer.internal.domain.Customer;
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CustomerRepository extends JpaRepository<Customer, UUID> {
     Optional<Customer> findByEmail(String email);
+
+    // Both listing queries seek on idx_customers_status_created_at_id, which includes email and
+    // verified_at, so a page reads limit + 1 index entries and never touches password hashes
+    @Query("""
+            select new me.karun.bank.credit.customer.api.CustomerSummary(
+                c.id, c.email, cast(c.status as String), c.createdAt, c.verifiedAt)
+            from Customer c
+            where c.status = :status
+              and c.createdAt >= :createdFrom
+              and c.createdAt < :createdTo
+            order by c.createdAt desc, c.id desc
+            """)
+    List<CustomerSummary> findLatestSummaries(CustomerStatus status, Instant createdFrom, Instant createdTo, Limit limit);
+
+    @Query("""
+            select new me.karun.bank.credit.customer.api.CustomerSummary(
+                c.id, c.email, cast(c.status as String), c.createdAt, c.verifiedAt)
+            from Customer c
+            where c.status = :status
+              and c.createdAt >= :createdFrom
+              and (c.createdAt, c.id) < (:createdAt, :id)
+            order by c.createdAt desc, c.id desc
+            """)
+    List<CustomerSummary> findSummariesBefore(CustomerStatus status, Instant createdFrom, Instant createdAt, UUID id, Limit limit);
 }
@@ -0,0 +1,114 @@
+package me.karun.bank.credit.customer.internal.repository;
+
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.customer.internal.domain.FunnelCohort;
+import me.karun.bank.credit.customer.internal.domain.StatusCount;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class FunnelCountRepository {
+
+    private static final Comparator<FunnelCohort> COHORT_ORDER =
+            Comparator.comparing(FunnelCohort::registeredOn).thenComparing(FunnelCohort::reached);
+
+    // Reached counts per registration day, recomputed from the source tables
+    private static final String COHORTS_FROM_CUSTOMERS = """
+            SELECT cohort.registered_on, reached.status, reached.customers
+            FROM (
+                SELECT (c.created_at AT TIME ZONE 'UTC')::date AS registered_on,
+                       count(*) AS registered,
+                       count(c.verified_at) AS verified,
+                       count(p.customer_id) AS profile_complete,
+                       count(*) FILTER (WHERE c.status = 'SUSPENDED') AS suspended
+                FROM customer.customers c
+                LEFT JOIN customer.customer_profiles p ON p.customer_id = c.id
+                WHERE c.created_at >= ?
+                GROUP BY 1
+            ) cohort
+            CROSS JOIN LATERAL (VALUES
+                ('PENDING_VERIFICATION', cohort.registered),
+                ('VERIFIED', cohort.verified),
+                ('PROFILE_COMPLETE', cohort.profile_complete),
+                ('SUSPENDED', cohort.suspended)
+            ) AS reached(status, customers)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FunnelCountRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public List<StatusCount> findStatusCounts() {
+        return jdbcTemplate.query("SELECT status, customers FROM customer.funnel_status_counts",
+                (rs, rowNum) -> new StatusCount(CustomerStatus.valueOf(rs.getString(1)), rs.getLong(2)));
+    }
+
+    public Map<FunnelCohort, Long> findCohortCounts(LocalDate registeredFrom) {
+        var counts = new LinkedHashMap<FunnelCohort, Long>();
+        jdbcTemplate.query("""
+                        SELECT cohort_date, status, customers FROM customer.funnel_cohort_counts
+                        WHERE cohort_date >= ?
+                        ORDER BY cohort_date DESC
+                        """,
+                rs -> {
+                    var cohort = new FunnelCohort(rs.getDate(1).toLocalDate(), CustomerStatus.valueOf(rs.getString(2)));
+                    counts.put(cohort, rs.getLong(3));
+                },
+                Date.valueOf(registeredFrom));
+        return counts;
+    }
+
+    /**
+     * Adds each delta to its row in one upsert, so replicas flushing at the same time accumulate
+     * rather than overwrite. Rows are written in key order so concurrent flushes lock them in the
+     * same order and cannot deadlock.
+     */
+    @Transactional
+    public void addDeltas(Map<CustomerStatus, Long> statusDeltas, Map<FunnelCohort, Long> cohortDeltas) {
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO customer.funnel_status_counts (status, customers) VALUES (?, ?)
+                        ON CONFLICT (status) DO UPDATE SET customers = funnel_status_counts.customers + EXCLUDED.customers
+                        """,
+                statusDeltas.entrySet().stream()
+                        .sorted(Map.Entry.comparingByKey())
+                        .map(delta -> new Object[]{delta.getKey().name(), delta.getValue()})
+                        .toList());
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO customer.funnel_cohort_counts (cohort_date, status, customers) VALUES (?, ?, ?)
+                        ON CONFLICT (cohort_date, status) DO UPDATE SET customers = funnel_cohort_counts.customers + EXCLUDED.customers
+                        """,
+                cohortDeltas.entrySet().stream()
+                        .sorted(Map.Entry.comparingByKey(COHORT_ORDER))
+                        .map(delta -> new Object[]{Date.valueOf(delta.getKey().registeredOn()), delta.getKey().reached().name(), delta.getValue()})
+                        .toList());
+    }
+
+    /**
+     * Replaces the status totals, and the cohorts registered on or after {@code cohortsFrom},
+     * with counts from the customers table.
+     */
+    @Transactional
+    public void reconcile(LocalDate cohortsFrom) {
+        jdbcTemplate.update("UPDATE customer.funnel_status_counts SET customers = 0");
+        jdbcTemplate.update("""
+                INSERT INTO customer.funnel_status_counts (status, customers)
+                SELECT status, count(*) FROM customer.customers GROUP BY status
+                ON CONFLICT (status) DO UPDATE SET customers = EXCLUDED.customers
+                """);
+        jdbcTemplate.update("DELETE FROM customer.funnel_cohort_counts WHERE cohort_date >= ?", Date.valueOf(cohortsFrom));
+        jdbcTemplate.update("INSERT INTO customer.funnel_cohort_counts (cohort_date, status, customers) " + COHORTS_FROM_CUSTOMERS,
+                cohortsFrom.atStartOfDay().atOffset(ZoneOffset.UTC));
+    }
+}
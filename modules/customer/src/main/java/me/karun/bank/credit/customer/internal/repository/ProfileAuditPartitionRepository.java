@@ -0,0 +1,121 @@
+package me.karun.bank.credit.customer.internal.repository;
+
+import me.karun.bank.credit.customer.internal.domain.AuditPartition;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+public class ProfileAuditPartitionRepository {
+
+    private static final int EXPORT_FETCH_SIZE = 5_000;
+    private static final String MAINTENANCE_LOCK = "customer.profile_audit.maintenance";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportJdbcTemplate;
+
+    public ProfileAuditPartitionRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+    }
+
+    /**
+     * Runs the partition maintenance only if no other replica is running it, and reports whether it ran.
+     */
+    public boolean runExclusively(Runnable maintenance) {
+        return runExclusively(MAINTENANCE_LOCK, maintenance);
+    }
+
+    /**
+     * Runs the job only if no other replica holds the named lock, and reports whether it ran. The
+     * advisory lock is held by a transaction on a connection of its own, so the job's statements
+     * keep committing on their own connections, and the lock is released however that connection
+     * ends, including when the replica holding it dies.
+     */
+    public boolean runExclusively(String lock, Runnable job) {
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                try (var statement = connection.prepareStatement("SELECT pg_try_advisory_xact_lock(hashtext(?))")) {
+                    statement.setString(1, lock);
+                    try (var resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        if (!resultSet.getBoolean(1)) {
+                            return false;
+                        }
+                    }
+                }
+                job.run();
+                return true;
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            DataAccessException translated = jdbcTemplate.getExceptionTranslator().translate("runExclusively", null, e);
+            throw translated != null ? translated : new IllegalStateException(e);
+        }
+    }
+
+    public List<AuditPartition> findAllPartitions() {
+        return jdbcTemplate.queryForList("""
+                        SELECT tablename FROM pg_tables
+                        WHERE schemaname = 'customer' AND tablename LIKE 'profile\\_audit\\_p%'
+                        """, String.class).stream()
+                .map(AuditPartition::fromTableName)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    public Set<AuditPartition> findAttachedPartitions() {
+        var tableNames = jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits
+                JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                JOIN pg_namespace ns ON ns.oid = parent.relnamespace
+                WHERE ns.nspname = 'customer' AND parent.relname = 'profile_audit'
+                """, String.class);
+        var partitions = new HashSet<AuditPartition>();
+        tableNames.forEach(name -> AuditPartition.fromTableName(name).ifPresent(partitions::add));
+        return partitions;
+    }
+
+    public void createPartition(AuditPartition partition) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS customer.%s PARTITION OF customer.profile_audit FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(partition.tableName(), partition.lowerBound(), partition.upperBound()));
+    }
+
+    public void detachPartition(AuditPartition partition) {
+        jdbcTemplate.execute("ALTER TABLE customer.profile_audit DETACH PARTITION customer.%s"
+                .formatted(partition.tableName()));
+    }
+
+    public long countRows(AuditPartition partition) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer.%s".formatted(partition.tableName()), Long.class);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamRows(AuditPartition partition, RowCallbackHandler rowHandler) {
+        exportJdbcTemplate.query("""
+                SELECT id, customer_id, field_name, old_value, new_value, changed_at, changed_by
+                FROM customer.%s
+                ORDER BY changed_at, id
+                """.formatted(partition.tableName()), rowHandler);
+    }
+
+    public void dropPartition(AuditPartition partition) {
+        jdbcTemplate.execute("DROP TABLE customer.%s".formatted(partition.tableName()));
+    }
+}
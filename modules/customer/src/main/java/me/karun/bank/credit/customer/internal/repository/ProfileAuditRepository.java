@@ -1,11 +1,51 @@
 package me.karun.bank.credit.customer.internal.repository;
 
+import jakarta.persistence.QueryHint;
+import me.karun.bank.credit.customer.api.ProfileAuditEntry;
 import me.karun.bank.credit.customer.internal.domain.ProfileAudit;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProfileAuditRepository extends JpaRepository<ProfileAudit, UUID> {
+
+    String EXPORT_FETCH_SIZE = "1000";
+
+    @Query("""
+            select new me.karun.bank.credit.customer.api.ProfileAuditEntry(
+                a.id, a.fieldName, a.oldValue, a.newValue, a.changedAt, a.changedBy)
+            from ProfileAudit a
+            where a.customerId = :customerId
+            order by a.changedAt desc, a.id desc
+            """)
+    List<ProfileAuditEntry> findLatestEntries(UUID customerId, Limit limit);
+
+    @Query("""
+            select new me.karun.bank.credit.customer.api.ProfileAuditEntry(
+                a.id, a.fieldName, a.oldValue, a.newValue, a.changedAt, a.changedBy)
+            from ProfileAudit a
+            where a.customerId = :customerId
+              and (a.changedAt, a.id) < (:changedAt, :id)
+            order by a.changedAt desc, a.id desc
+            """)
+    List<ProfileAuditEntry> findEntriesBefore(UUID customerId, Instant changedAt, UUID id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("""
+            select new me.karun.bank.credit.customer.api.ProfileAuditEntry(
+                a.id, a.fieldName, a.oldValue, a.newValue, a.changedAt, a.changedBy)
+            from ProfileAudit a
+            where a.customerId = :customerId
+            order by a.changedAt desc, a.id desc
+            """)
+    Stream<ProfileAuditEntry> streamEntries(UUID customerId);
 }
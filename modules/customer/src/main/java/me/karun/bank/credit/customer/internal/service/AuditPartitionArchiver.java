@@ -0,0 +1,76 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import me.karun.bank.credit.customer.internal.domain.AuditPartition;
+import me.karun.bank.credit.customer.internal.repository.ProfileAuditPartitionRepository;
+import me.karun.bank.credit.infrastructure.csv.CsvWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class AuditPartitionArchiver {
+
+    private static final List<String> HEADER = List.of(
+            "id", "customer_id", "field_name", "old_value", "new_value", "changed_at", "changed_by"
+    );
+
+    private final ProfileAuditPartitionRepository partitionRepository;
+    private final Path archiveDirectory;
+
+    public AuditPartitionArchiver(
+            ProfileAuditPartitionRepository partitionRepository,
+            @Value("${customer.audit.retention.archive-dir:audit-archive}") Path archiveDirectory) {
+        this.partitionRepository = partitionRepository;
+        this.archiveDirectory = archiveDirectory;
+    }
+
+    public Path archive(AuditPartition partition) {
+        var archiveFile = archiveDirectory.resolve(partition.tableName() + ".csv.gz");
+        try {
+            Files.createDirectories(archiveDirectory);
+            var tempFile = Files.createTempFile(archiveDirectory, partition.tableName(), ".tmp");
+            var exportedRows = writeArchive(partition, tempFile);
+            verifyRowCount(partition, exportedRows);
+            Files.move(tempFile, archiveFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return archiveFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive " + partition.tableName(), e);
+        }
+    }
+
+    private long writeArchive(AuditPartition partition, Path file) throws IOException {
+        var exportedRows = new long[1];
+        try (var csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8)))) {
+            csv.writeRow(HEADER);
+            partitionRepository.streamRows(partition, resultSet -> {
+                var row = new Object[HEADER.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = resultSet.getString(i + 1);
+                }
+                csv.writeRow(Arrays.asList(row));
+                exportedRows[0]++;
+            });
+        }
+        return exportedRows[0];
+    }
+
+    private void verifyRowCount(AuditPartition partition, long exportedRows) {
+        var storedRows = partitionRepository.countRows(partition);
+        if (storedRows != exportedRows) {
+            throw new IllegalStateException("Archive of %s has %d rows but table has %d"
+                    .formatted(partition.tableName(), exportedRows, storedRows));
+        }
+    }
+}
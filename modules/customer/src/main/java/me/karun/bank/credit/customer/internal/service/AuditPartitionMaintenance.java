@@ -0,0 +1,87 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import me.karun.bank.credit.customer.internal.domain.AuditPartition;
+import me.karun.bank.credit.customer.internal.repository.ProfileAuditPartitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+
+@Component
+public class AuditPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditPartitionMaintenance.class);
+
+    private final ProfileAuditPartitionRepository partitionRepository;
+    private final AuditPartitionArchiver archiver;
+    private final int monthsAhead;
+    private final boolean retentionEnabled;
+    private final int hotMonths;
+
+    public AuditPartitionMaintenance(
+            ProfileAuditPartitionRepository partitionRepository,
+            AuditPartitionArchiver archiver,
+            @Value("${customer.audit.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${customer.audit.retention.enabled:false}") boolean retentionEnabled,
+            @Value("${customer.audit.retention.hot-months:24}") int hotMonths) {
+        this.partitionRepository = partitionRepository;
+        this.archiver = archiver;
+        this.monthsAhead = monthsAhead;
+        this.retentionEnabled = retentionEnabled;
+        this.hotMonths = hotMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${customer.audit.partitions.cron:0 0 3 * * *}", zone = "UTC")
+    public void maintainPartitions() {
+        maintainPartitions(YearMonth.now(ZoneOffset.UTC));
+    }
+
+    void maintainPartitions(YearMonth currentMonth) {
+        // Every replica runs this at startup and on the same cron; only one may detach, archive and drop
+        var ran = partitionRepository.runExclusively(() -> {
+            createUpcomingPartitions(currentMonth);
+            if (retentionEnabled) {
+                archiveExpiredPartitions(currentMonth.minusMonths(hotMonths));
+            }
+        });
+        if (!ran) {
+            log.info("Skipped audit partition maintenance; another instance is running it");
+        }
+    }
+
+    private void createUpcomingPartitions(YearMonth currentMonth) {
+        var existing = partitionRepository.findAttachedPartitions();
+        for (int offset = 0; offset <= monthsAhead; offset++) {
+            var partition = new AuditPartition(currentMonth.plusMonths(offset));
+            if (!existing.contains(partition)) {
+                partitionRepository.createPartition(partition);
+                log.info("Created audit partition {}", partition.tableName());
+            }
+        }
+    }
+
+    private void archiveExpiredPartitions(YearMonth oldestHotMonth) {
+        var attached = partitionRepository.findAttachedPartitions();
+        partitionRepository.findAllPartitions().stream()
+                .filter(partition -> partition.isBefore(oldestHotMonth))
+                .sorted(Comparator.comparing(AuditPartition::month))
+                .forEach(partition -> archivePartition(partition, attached.contains(partition)));
+    }
+
+    private void archivePartition(AuditPartition partition, boolean attached) {
+        if (attached) {
+            partitionRepository.detachPartition(partition);
+        }
+        var archiveFile = archiver.archive(partition);
+        partitionRepository.dropPartition(partition);
+        log.info("Archived audit partition {} to {}", partition.tableName(), archiveFile);
+    }
+}
@@ -0,0 +1,130 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.customer.internal.domain.FunnelCohort;
+import me.karun.bank.credit.customer.internal.repository.FunnelCountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live customer counts per {@link CustomerStatus}, kept without counting the customers table.
+ * Each committed status transition bumps striped in-memory deltas; a scheduled flush adds them to
+ * the summary tables, where every replica's deltas accumulate, and reloads the totals. The
+ * {@code customer.status} gauge reads those totals plus this replica's pending deltas, so a scrape
+ * never queries.
+ */
+@Component
+public class CustomerFunnelCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerFunnelCounters.class);
+
+    private final FunnelCountRepository repository;
+    private final Map<CustomerStatus, LongAdder> pendingStatus = new EnumMap<>(CustomerStatus.class);
+    // One key per registration day and status, so the map grows by four keys a day
+    private final ConcurrentMap<FunnelCohort, LongAdder> pendingCohorts = new ConcurrentHashMap<>();
+    private final Map<CustomerStatus, AtomicLong> flushed = new EnumMap<>(CustomerStatus.class);
+
+    public CustomerFunnelCounters(FunnelCountRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        for (var status : CustomerStatus.values()) {
+            pendingStatus.put(status, new LongAdder());
+            flushed.put(status, new AtomicLong());
+            Gauge.builder("customer.status", this, counters -> counters.count(status))
+                    .description("Customers currently in each status of the onboarding funnel")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    // Counted after commit, so a rolled-back verification never reaches the totals
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusTransition(CustomerStatusTransition transition) {
+        if (transition.from() != null) {
+            pendingStatus.get(transition.from()).decrement();
+        }
+        pendingStatus.get(transition.to()).increment();
+        var registeredOn = LocalDate.ofInstant(transition.registeredAt(), ZoneOffset.UTC);
+        pendingCohorts.computeIfAbsent(new FunnelCohort(registeredOn, transition.to()), cohort -> new LongAdder())
+                .increment();
+    }
+
+    public long count(CustomerStatus status) {
+        return flushed.get(status).get() + pendingStatus.get(status).sum();
+    }
+
+    public Map<CustomerStatus, Long> counts() {
+        var counts = new EnumMap<CustomerStatus, Long>(CustomerStatus.class);
+        for (var status : CustomerStatus.values()) {
+            counts.put(status, count(status));
+        }
+        return counts;
+    }
+
+    @Scheduled(fixedDelayString = "${customer.funnel.flush-interval:PT5S}", initialDelayString = "${customer.funnel.flush-interval:PT5S}")
+    public synchronized void flush() {
+        var statusDeltas = new EnumMap<CustomerStatus, Long>(CustomerStatus.class);
+        pendingStatus.forEach((status, pending) -> {
+            var delta = pending.sumThenReset();
+            if (delta != 0) {
+                statusDeltas.put(status, delta);
+            }
+        });
+        var cohortDeltas = new HashMap<FunnelCohort, Long>();
+        pendingCohorts.forEach((cohort, pending) -> {
+            var delta = pending.sumThenReset();
+            if (delta != 0) {
+                cohortDeltas.put(cohort, delta);
+            }
+        });
+        if (!statusDeltas.isEmpty() || !cohortDeltas.isEmpty()) {
+            addDeltas(statusDeltas, cohortDeltas);
+        }
+        // Even with nothing of its own to flush, a replica picks up the others' flushes
+        reloadTotals();
+    }
+
+    private void addDeltas(Map<CustomerStatus, Long> statusDeltas, Map<FunnelCohort, Long> cohortDeltas) {
+        try {
+            repository.addDeltas(statusDeltas, cohortDeltas);
+        } catch (DataAccessException e) {
+            // Put the deltas back for the next flush to retry
+            statusDeltas.forEach((status, delta) -> pendingStatus.get(status).add(delta));
+            cohortDeltas.forEach((cohort, delta) -> pendingCohorts.get(cohort).add(delta));
+            log.warn("Could not flush funnel counters, retrying on the next flush: {}", e.getMessage());
+            return;
+        }
+        statusDeltas.forEach((status, delta) -> flushed.get(status).addAndGet(delta));
+    }
+
+    /**
+     * Replaces the flushed totals with the summary table's, which include other replicas' flushes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadTotals() {
+        try {
+            var totals = new EnumMap<CustomerStatus, Long>(CustomerStatus.class);
+            repository.findStatusCounts().forEach(count -> totals.put(count.status(), count.customers()));
+            flushed.forEach((status, total) -> total.set(totals.getOrDefault(status, 0L)));
+        } catch (DataAccessException e) {
+            log.warn("Could not load funnel totals: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import me.karun.bank.credit.customer.api.CohortConversion;
+import me.karun.bank.credit.customer.api.CustomerFunnelService;
+import me.karun.bank.credit.customer.api.FunnelResponse;
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.customer.internal.repository.FunnelCountRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves the funnel from the counters and the cohort summary table; neither read scans customers.
+ * Cohorts trail live traffic by up to one flush interval.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CustomerFunnelServiceImpl implements CustomerFunnelService {
+
+    private static final int MAX_COHORT_DAYS = 90;
+
+    private final CustomerFunnelCounters counters;
+    private final FunnelCountRepository funnelCountRepository;
+
+    public CustomerFunnelServiceImpl(CustomerFunnelCounters counters, FunnelCountRepository funnelCountRepository) {
+        this.counters = counters;
+        this.funnelCountRepository = funnelCountRepository;
+    }
+
+    @Override
+    public FunnelResponse getFunnel(int days) {
+        var customersByStatus = new LinkedHashMap<String, Long>();
+        counters.counts().forEach((status, count) -> customersByStatus.put(status.name(), count));
+
+        var cohortDays = Math.max(1, Math.min(days, MAX_COHORT_DAYS));
+        var registeredFrom = LocalDate.now(ZoneOffset.UTC).minusDays(cohortDays - 1L);
+        var reachedByDay = new LinkedHashMap<LocalDate, Map<CustomerStatus, Long>>();
+        funnelCountRepository.findCohortCounts(registeredFrom).forEach((cohort, count) ->
+                reachedByDay.computeIfAbsent(cohort.registeredOn(), day -> new EnumMap<>(CustomerStatus.class))
+                        .put(cohort.reached(), count));
+
+        List<CohortConversion> cohorts = reachedByDay.entrySet().stream()
+                .map(day -> toCohortConversion(day.getKey(), day.getValue()))
+                .toList();
+        return new FunnelResponse(customersByStatus, cohorts);
+    }
+
+    private CohortConversion toCohortConversion(LocalDate registeredOn, Map<CustomerStatus, Long> reached) {
+        var registered = reached.getOrDefault(CustomerStatus.PENDING_VERIFICATION, 0L);
+        var verified = reached.getOrDefault(CustomerStatus.VERIFIED, 0L);
+        var profileComplete = reached.getOrDefault(CustomerStatus.PROFILE_COMPLETE, 0L);
+        var suspended = reached.getOrDefault(CustomerStatus.SUSPENDED, 0L);
+        return new CohortConversion(
+                registeredOn,
+                registered,
+                verified,
+                profileComplete,
+                suspended,
+                rate(verified, registered),
+                rate(profileComplete, verified)
+        );
+    }
+
+    private static double rate(long converted, long eligible) {
+        return eligible == 0 ? 0 : (double) converted / eligible;
+    }
+}
@@ -1,25 +1,41 @@
 package me.karun.bank.credit.customer.internal.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.karun.bank.credit.infrastructure.datasource.ReadYourWritesGuard;
 import me.karun.bank.credit.customer.api.*;
 import me.karun.bank.credit.customer.internal.domain.Address;
 import me.karun.bank.credit.customer.internal.domain.Customer;
 import me.karun.bank.credit.customer.internal.domain.CustomerProfile;
 import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.customer.internal.domain.FieldChange;
 import me.karun.bank.credit.customer.internal.domain.ProfileAudit;
 import me.karun.bank.credit.customer.internal.domain.VerificationToken;
 import me.karun.bank.credit.customer.internal.repository.CustomerProfileRepository;
 import me.karun.bank.credit.customer.internal.repository.CustomerRepository;
 import me.karun.bank.credit.customer.internal.repository.ProfileAuditRepository;
 import me.karun.bank.credit.customer.internal.repository.VerificationTokenRepository;
+import me.karun.bank.credit.infrastructure.concurrent.SingleFlight;
 import me.karun.bank.credit.infrastructure.encryption.EncryptionService;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 @Service
@@ -30,6 +46,12 @@ public class CustomerServiceImpl implements CustomerService {
     );
     private static final int TOKEN_EXPIRY_HOURS = 24;
     private static final int MAX_RESEND_PER_HOUR = 3;
+    private static final int MAX_AUDIT_PAGE_SIZE = 500;
+    private static final int MAX_CUSTOMER_PAGE_SIZE = 500;
+    // Open-ended ranges still bind both bounds, so every page runs the same index range scan
+    private static final Instant UNBOUNDED_FROM = Instant.EPOCH;
+    private static final Instant UNBOUNDED_TO = Instant.parse("9999-12-31T00:00:00Z");
+    private static final Duration SHARED_PROFILE_LOAD_TIMEOUT = Duration.ofSeconds(5);
 
     private final CustomerRepository customerRepository;
     private final VerificationTokenRepository tokenRepository;
@@ -38,6 +60,10 @@ public class CustomerServiceImpl implements CustomerService {
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
     private final EncryptionService encryptionService;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter skippedProfileWrites;
+    private final SingleFlight<UUID, ProfileResponse> profileLoads = new SingleFlight<>(SHARED_PROFILE_LOAD_TIMEOUT);
 
     public CustomerServiceImpl(
             CustomerRepository customerRepository,
@@ -46,7 +72,10 @@ public class CustomerServiceImpl implements CustomerService {
             ProfileAuditRepository auditRepository,
             PasswordEncoder passwordEncoder,
             ApplicationEventPublisher eventPublisher,
-            EncryptionService encryptionService) {
+            EncryptionService encryptionService,
+            ReadYourWritesGuard readYourWritesGuard,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
         this.customerRepository = customerRepository;
         this.tokenRepository = tokenRepository;
         this.profileRepository = profileRepository;
@@ -54,6 +83,15 @@ public class CustomerServiceImpl implements CustomerService {
         this.passwordEncoder = passwordEncoder;
         this.eventPublisher = eventPublisher;
         this.encryptionService = encryptionService;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.skippedProfileWrites = Counter.builder("customer.profile.writes.skipped")
+                .description("Profile writes skipped because the request did not change any field")
+                .register(meterRegistry);
+        FunctionCounter.builder("customer.profile.reads.coalesced", profileLoads, SingleFlight::sharedLoads)
+                .description("Profile reads served by a concurrent caller's load instead of their own queries")
+                .register(meterRegistry);
     }
 
     @Override
@@ -79,6 +117,7 @@ public class CustomerServiceImpl implements CustomerService {
                 savedCustomer.getEmail(),
                 savedCustomer.getCreatedAt()
         ));
+        eventPublisher.publishEvent(new CustomerStatusTransition(null, savedCustomer.getStatus(), savedCustomer.getCreatedAt()));
 
         return new RegistrationResponse(
                 savedCustomer.getId(),
@@ -103,8 +142,11 @@ public class CustomerServiceImpl implements CustomerService {
                 .orElseThrow(TokenNotFoundException::new);
 
         if (!customer.isVerified()) {
+            var previousStatus = customer.getStatus();
             customer.verify();
             customerRepository.save(customer);
+            recordProfileWrite(customer.getId());
+            eventPublisher.publishEvent(new CustomerStatusTransition(previousStatus, customer.getStatus(), customer.getCreatedAt()));
         }
 
         tokenRepository.delete(token);
@@ -138,17 +180,19 @@ public class CustomerServiceImpl implements CustomerService {
             throw new RateLimitExceededException();
         }
 
-        createVerificationToken(customer.getId());
+        createVerificationToken(customer);
 
         return new ResendVerificationResponse("Verification email sent if account exists");
     }
 
-    private void createVerificationToken(java.util.UUID customerId) {
+    private void createVerificationToken(Customer customer) {
         var rawToken = java.util.UUID.randomUUID().toString();
         var tokenHash = hashToken(rawToken);
         var expiresAt = Instant.now().plus(TOKEN_EXPIRY_HOURS, ChronoUnit.HOURS);
-        var verificationToken = new VerificationToken(customerId, tokenHash, expiresAt);
+        var verificationToken = new VerificationToken(customer.getId(), tokenHash, expiresAt);
         tokenRepository.save(verificationToken);
+
+        eventPublisher.publishEvent(new VerificationTokenIssuedEvent(customer.getId(), customer.getEmail(), rawToken, expiresAt));
     }
 
     private long countRecentTokens(java.util.UUID customerId) {
@@ -208,18 +252,17 @@ public class CustomerServiceImpl implements CustomerService {
             throw new CustomerNotVerifiedException("Customer must verify email before completing profile");
         }
 
+        var address = toAddress(request.address());
+
+        var existingProfile = profileRepository.findById(UUID.fromString(customerId));
+        if (existingProfile.isPresent() && isUnchanged(existingProfile.get(), request, address)) {
+            skippedProfileWrites.increment();
+            return toProfileResponse(customer, existingProfile.get());
+        }
+
         var encryptedSsn = encryptionService.encrypt(request.ssn());
         var ssnLastFour = request.ssn().substring(request.ssn().length() - 4);
 
-        var address = new Address(
-                request.address().street(),
-                request.address().unit(),
-                request.address().city(),
-                request.address().state(),
-                request.address().zipCode()
-        );
-
-        var existingProfile = profileRepository.findById(UUID.fromString(customerId));
         if (existingProfile.isPresent()) {
             var profile = existingProfile.get();
             profile.update(
@@ -231,7 +274,7 @@ public class CustomerServiceImpl implements CustomerService {
                     address,
                     request.phone()
             );
-            profileRepository.save(profile);
+            profileRepository.saveAndFlush(profile);
         } else {
             var profile = new CustomerProfile(
                     UUID.fromString(customerId),
@@ -245,30 +288,74 @@ public class CustomerServiceImpl implements CustomerService {
             );
             profileRepository.save(profile);
 
+            var previousStatus = customer.getStatus();
             customer.completeProfile();
             customerRepository.save(customer);
+            eventPublisher.publishEvent(new CustomerStatusTransition(previousStatus, customer.getStatus(), customer.getCreatedAt()));
         }
 
+        recordProfileWrite(customer.getId());
+
         var updatedProfile = profileRepository.findById(UUID.fromString(customerId)).get();
         var updatedCustomer = customerRepository.findById(UUID.fromString(customerId)).get();
 
         return toProfileResponse(updatedCustomer, updatedProfile);
     }
 
+    private boolean isUnchanged(CustomerProfile profile, ProfileRequest request, Address address) {
+        return profile.hasSameDetails(
+                request.firstName(),
+                request.lastName(),
+                request.dateOfBirth(),
+                address,
+                request.phone()
+        ) && isSameSsn(profile, request.ssn());
+    }
+
+    private boolean isSameSsn(CustomerProfile profile, String ssn) {
+        return ssn.endsWith(profile.getSsnLastFour())
+                && encryptionService.decrypt(profile.getSsnEncrypted()).equals(ssn);
+    }
+
+    // Deliberately not @Transactional: callers waiting on a shared load must not each hold a pooled
+    // connection, so only the load itself opens a read-only transaction, reading the customer and
+    // profile through one connection
     @Override
     public ProfileResponse getProfile(String customerId) {
-        var customer = customerRepository.findById(UUID.fromString(customerId))
-                .orElseThrow(() -> new CustomerNotFoundException("Customer not found"));
+        var customerUuid = UUID.fromString(customerId);
+        return profileLoads.load(customerUuid, () -> readYourWritesGuard.readFor(customerUuid, () ->
+                readOnlyTransaction.execute(status -> {
+                    var customer = customerRepository.findById(customerUuid)
+                            .orElseThrow(() -> new CustomerNotFoundException("Customer not found"));
 
-        var profile = profileRepository.findById(UUID.fromString(customerId))
-                .orElseThrow(() -> new CustomerNotFoundException("Profile not found"));
+                    var profile = profileRepository.findById(customerUuid)
+                            .orElseThrow(() -> new CustomerNotFoundException("Profile not found"));
 
-        return toProfileResponse(customer, profile);
+                    return toProfileResponse(customer, profile);
+                })));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileVersion getProfileVersion(String customerId) {
+        var customerUuid = UUID.fromString(customerId);
+        return readYourWritesGuard.readFor(customerUuid, () -> profileRepository.findVersionById(customerUuid)
+                .orElseThrow(() -> new CustomerNotFoundException("Profile not found")));
     }
 
     @Override
     @Transactional
     public ProfileResponse updateProfile(String customerId, ProfileUpdateRequest request) {
+        return updateProfile(customerId, request, OptionalLong.empty());
+    }
+
+    @Override
+    @Transactional
+    public ProfileResponse updateProfile(String customerId, ProfileUpdateRequest request, long expectedVersion) {
+        return updateProfile(customerId, request, OptionalLong.of(expectedVersion));
+    }
+
+    private ProfileResponse updateProfile(String customerId, ProfileUpdateRequest request, OptionalLong expectedVersion) {
         var customerUuid = UUID.fromString(customerId);
         var customer = customerRepository.findById(customerUuid)
                 .orElseThrow(() -> new CustomerNotFoundException("Customer not found"));
@@ -276,51 +363,151 @@ public class CustomerServiceImpl implements CustomerService {
         var profile = profileRepository.findById(customerUuid)
                 .orElseThrow(() -> new CustomerNotFoundException("Profile not found"));
 
-        request.address().ifPresent(addressDto -> {
-            var oldAddress = profile.getAddress();
-            var newAddress = new Address(
-                    addressDto.street(),
-                    addressDto.unit(),
-                    addressDto.city(),
-                    addressDto.state(),
-                    addressDto.zipCode()
-            );
-            profile.updateAddress(newAddress);
-            auditAddressChange(customerUuid, oldAddress, newAddress);
-        });
+        if (expectedVersion.isPresent() && expectedVersion.getAsLong() != profile.getVersion()) {
+            throw new ProfileVersionMismatchException("Profile is at version " + profile.getVersion()
+                    + ", not " + expectedVersion.getAsLong());
+        }
 
-        request.phone().ifPresent(newPhone -> {
-            var oldPhone = profile.getPhone();
-            profile.updatePhone(newPhone);
-            auditFieldChange(customerUuid, "phone", oldPhone, newPhone);
-        });
+        var changes = new ArrayList<FieldChange>();
+        request.address().ifPresent(addressDto -> changes.addAll(profile.updateAddress(toAddress(addressDto))));
+        request.phone().ifPresent(newPhone -> changes.addAll(profile.updatePhone(newPhone)));
 
-        profileRepository.save(profile);
+        if (changes.isEmpty()) {
+            skippedProfileWrites.increment();
+            return toProfileResponse(customer, profile);
+        }
+
+        // Flush so the version check runs now and the response carries the incremented version
+        profileRepository.saveAndFlush(profile);
+        changes.forEach(change -> auditFieldChange(customerUuid, change));
+        recordProfileWrite(customerUuid);
 
         return toProfileResponse(customer, profile);
     }
 
-    private void auditAddressChange(UUID customerId, Address oldAddress, Address newAddress) {
-        if (!oldAddress.getStreet().equals(newAddress.getStreet())) {
-            auditFieldChange(customerId, "address.street", oldAddress.getStreet(), newAddress.getStreet());
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerListResponse listCustomers(String status, Instant createdFrom, Instant createdTo, String cursor, int limit) {
+        var customerStatus = parseStatus(status);
+        var from = createdFrom != null ? createdFrom : UNBOUNDED_FROM;
+        var to = createdTo != null ? createdTo : UNBOUNDED_TO;
+        if (!from.isBefore(to)) {
+            throw new InvalidCustomerFilterException("createdFrom must be before createdTo");
         }
-        if (!java.util.Objects.equals(oldAddress.getUnit(), newAddress.getUnit())) {
-            auditFieldChange(customerId, "address.unit", oldAddress.getUnit(), newAddress.getUnit());
+
+        var pageSize = Math.max(1, Math.min(limit, MAX_CUSTOMER_PAGE_SIZE));
+        var customers = findCustomerSummaries(customerStatus, from, to, cursor, Limit.of(pageSize + 1));
+        if (customers.size() <= pageSize) {
+            return new CustomerListResponse(customers, null);
         }
-        if (!oldAddress.getCity().equals(newAddress.getCity())) {
-            auditFieldChange(customerId, "address.city", oldAddress.getCity(), newAddress.getCity());
+
+        var page = List.copyOf(customers.subList(0, pageSize));
+        var lastCustomer = page.get(pageSize - 1);
+        return new CustomerListResponse(page, new KeysetCursor(lastCustomer.createdAt(), lastCustomer.customerId()).encode());
+    }
+
+    private List<CustomerSummary> findCustomerSummaries(CustomerStatus status, Instant from, Instant to,
+                                                        String cursor, Limit limit) {
+        if (cursor == null || cursor.isBlank()) {
+            return customerRepository.findLatestSummaries(status, from, to, limit);
         }
-        if (!oldAddress.getState().equals(newAddress.getState())) {
-            auditFieldChange(customerId, "address.state", oldAddress.getState(), newAddress.getState());
+        var position = KeysetCursor.decode(cursor);
+        return customerRepository.findSummariesBefore(status, from, position.position(), position.id(), limit);
+    }
+
+    private static CustomerStatus parseStatus(String status) {
+        if (status != null) {
+            for (var candidate : CustomerStatus.values()) {
+                if (candidate.name().equals(status)) {
+                    return candidate;
+                }
+            }
         }
-        if (!oldAddress.getZipCode().equals(newAddress.getZipCode())) {
-            auditFieldChange(customerId, "address.zipCode", oldAddress.getZipCode(), newAddress.getZipCode());
+        throw new InvalidCustomerFilterException("Unknown customer status: " + status);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AuditHistoryResponse getAuditHistory(String customerId, String cursor, int limit) {
+        var customerUuid = UUID.fromString(customerId);
+        return readYourWritesGuard.readFor(customerUuid, () -> {
+            checkCustomerExists(customerUuid);
+
+            var pageSize = Math.max(1, Math.min(limit, MAX_AUDIT_PAGE_SIZE));
+            var entries = findAuditEntries(customerUuid, cursor, Limit.of(pageSize + 1));
+            if (entries.size() <= pageSize) {
+                return new AuditHistoryResponse(entries, null);
+            }
+
+            var page = List.copyOf(entries.subList(0, pageSize));
+            var lastEntry = page.get(pageSize - 1);
+            return new AuditHistoryResponse(page, new KeysetCursor(lastEntry.changedAt(), lastEntry.id()).encode());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAuditHistory(String customerId, Consumer<ProfileAuditEntry> consumer) {
+        var customerUuid = UUID.fromString(customerId);
+        readYourWritesGuard.readFor(customerUuid, () -> {
+            checkCustomerExists(customerUuid);
+
+            try (var entries = auditRepository.streamEntries(customerUuid)) {
+                entries.forEach(consumer);
+            }
+        });
+    }
+
+    private List<ProfileAuditEntry> findAuditEntries(UUID customerId, String cursor, Limit limit) {
+        if (cursor == null || cursor.isBlank()) {
+            return auditRepository.findLatestEntries(customerId, limit);
+        }
+        var position = KeysetCursor.decode(cursor);
+        return auditRepository.findEntriesBefore(customerId, position.position(), position.id(), limit);
+    }
+
+    private void checkCustomerExists(UUID customerId) {
+        if (!customerRepository.existsById(customerId)) {
+            throw new CustomerNotFoundException("Customer not found");
         }
     }
 
-    private void auditFieldChange(UUID customerId, String fieldName, String oldValue, String newValue) {
-        var audit = new ProfileAudit(customerId, fieldName, oldValue, newValue, customerId);
+    private void auditFieldChange(UUID customerId, FieldChange change) {
+        var event = new ProfileAuditWriteEvent();
+        event.begin();
+        var audit = new ProfileAudit(customerId, change.fieldName(), change.oldValue(), change.newValue(), customerId);
         auditRepository.save(audit);
+        event.end();
+        if (event.shouldCommit()) {
+            event.customerId = customerId.toString();
+            event.fieldName = change.fieldName();
+            event.commit();
+        }
+    }
+
+    private Address toAddress(AddressDto addressDto) {
+        return new Address(
+                addressDto.street(),
+                addressDto.unit(),
+                addressDto.city(),
+                addressDto.state(),
+                addressDto.zipCode()
+        );
+    }
+
+    private void recordProfileWrite(UUID customerId) {
+        readYourWritesGuard.recordWrite(customerId);
+        // Reads that started before the commit must not be shared with callers arriving after it
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    profileLoads.forget(customerId);
+                }
+            });
+        } else {
+            profileLoads.forget(customerId);
+        }
     }
 
     private ProfileResponse toProfileResponse(Customer customer, CustomerProfile profile) {
@@ -339,7 +526,8 @@ public class CustomerServiceImpl implements CustomerService {
                 ),
                 profile.getPhone(),
                 customer.getStatus().name(),
-                profile.getUpdatedAt() != null ? profile.getUpdatedAt() : profile.getCreatedAt()
+                profile.getUpdatedAt() != null ? profile.getUpdatedAt() : profile.getCreatedAt(),
+                profile.getVersion()
         );
     }
 }
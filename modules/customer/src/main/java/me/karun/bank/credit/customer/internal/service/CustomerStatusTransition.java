@@ -0,0 +1,11 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+
+import java.time.Instant;
+
+/**
+ * A customer moved from one status to another; {@code from} is null on registration.
+ */
+public record CustomerStatusTransition(CustomerStatus from, CustomerStatus to, Instant registeredAt) {
+}
@@ -0,0 +1,74 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import me.karun.bank.credit.customer.internal.repository.FunnelCountRepository;
+import me.karun.bank.credit.customer.internal.repository.ProfileAuditPartitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Recounts the funnel summary tables from the customers table, correcting drift from lost
+ * flushes, replicas that died holding deltas, and rows written outside the service (bulk loads).
+ * <p>
+ * The recount leaves a bounded error of its own. Transitions that committed before it but had
+ * not been flushed yet (up to one flush interval of every other replica's traffic, plus any
+ * local transition committed between the flush below and the recount) are in the recount and
+ * are added again when flushed. Until the next reconciliation the counts can therefore be off by
+ * the transitions made in about one flush interval before it ran, which is why it runs when
+ * traffic is lowest. The error is replaced on every run rather than accumulating.
+ * <p>
+ * Every replica runs the same cron, so the recount takes an advisory lock and only one of them
+ * makes it; the others skip that night's run.
+ */
+@Component
+public class FunnelReconciliation {
+
+    private static final Logger log = LoggerFactory.getLogger(FunnelReconciliation.class);
+    private static final String RECONCILE_LOCK = "customer.funnel.reconcile";
+
+    private final FunnelCountRepository repository;
+    private final ProfileAuditPartitionRepository lockRepository;
+    private final CustomerFunnelCounters counters;
+    private final int cohortDays;
+
+    public FunnelReconciliation(
+            FunnelCountRepository repository,
+            ProfileAuditPartitionRepository lockRepository,
+            CustomerFunnelCounters counters,
+            @Value("${customer.funnel.reconcile-days:35}") int cohortDays) {
+        this.repository = repository;
+        this.lockRepository = lockRepository;
+        this.counters = counters;
+        this.cohortDays = cohortDays;
+    }
+
+    @Scheduled(cron = "${customer.funnel.reconcile-cron:0 30 3 * * *}", zone = "UTC")
+    public void reconcile() {
+        reconcile(LocalDate.now(ZoneOffset.UTC));
+    }
+
+    void reconcile(LocalDate today) {
+        var ran = lockRepository.runExclusively(RECONCILE_LOCK, () -> recount(today));
+        if (!ran) {
+            log.info("Skipped funnel reconciliation; another instance is running it");
+        }
+    }
+
+    private void recount(LocalDate today) {
+        counters.flush();
+        var before = counters.counts();
+        repository.reconcile(today.minusDays(cohortDays));
+        counters.reloadTotals();
+        var after = counters.counts();
+        before.forEach((status, count) -> {
+            if (!after.get(status).equals(count)) {
+                log.info("Reconciled funnel count for {}: {} -> {}", status, count, after.get(status));
+            }
+        });
+    }
+}
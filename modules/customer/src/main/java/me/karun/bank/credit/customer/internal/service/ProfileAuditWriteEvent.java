@@ -0,0 +1,22 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("me.karun.bank.credit.ProfileAuditWrite")
+@Label("Profile Audit Write")
+@Description("Saving one profile field change to the audit trail")
+@Category({"Credit Card Lending", "Customer"})
+@StackTrace(false)
+class ProfileAuditWriteEvent extends Event {
+
+    @Label("Customer Id")
+    String customerId;
+
+    @Label("Field")
+    String fieldName;
+}
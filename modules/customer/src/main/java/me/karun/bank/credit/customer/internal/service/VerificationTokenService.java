@@ -1,10 +1,11 @@
 package me.karun.bank.credit.customer.internal.service;
 
 import me.karun.bank.credit.customer.api.CustomerRegisteredEvent;
+import me.karun.bank.credit.customer.api.VerificationTokenIssuedEvent;
 import me.karun.bank.credit.customer.internal.domain.VerificationToken;
 import me.karun.bank.credit.customer.internal.repository.VerificationTokenRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -17,9 +18,11 @@ public class VerificationTokenService {
     private static final int TOKEN_EXPIRY_HOURS = 24;
 
     private final VerificationTokenRepository tokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public VerificationTokenService(VerificationTokenRepository tokenRepository) {
+    public VerificationTokenService(VerificationTokenRepository tokenRepository, ApplicationEventPublisher eventPublisher) {
         this.tokenRepository = tokenRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @EventListener
@@ -30,6 +33,8 @@ public class VerificationTokenService {
 
         var verificationToken = new VerificationToken(event.customerId(), tokenHash, expiresAt);
         tokenRepository.save(verificationToken);
+
+        eventPublisher.publishEvent(new VerificationTokenIssuedEvent(event.customerId(), event.email(), rawToken, expiresAt));
     }
 
     private String hashToken(String rawToken) {
@@ -0,0 +1,99 @@
+package me.karun.bank.credit.customer.internal.warmup;
+
+import jakarta.validation.Validator;
+import me.karun.bank.credit.customer.api.AddressDto;
+import me.karun.bank.credit.customer.api.ProfileRequest;
+import me.karun.bank.credit.customer.api.ProfileUpdateRequest;
+import me.karun.bank.credit.customer.internal.domain.Customer;
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.customer.internal.repository.CustomerRepository;
+import me.karun.bank.credit.customer.web.CustomerController;
+import me.karun.bank.credit.infrastructure.warmup.WarmupTask;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Runs the profile endpoints end to end (JSON binding, bean validation, the controller and service
+ * beans, SSN encryption, ETag handling, the JPA repositories and response serialization) for a
+ * customer created for the round, inside a transaction that is always rolled back. Nothing is
+ * committed, and status transitions are only counted after commit, so the funnel never sees the
+ * warm-up; the operation and query timers do.
+ */
+public class CustomerWarmupTask implements WarmupTask {
+
+    private static final int AUDIT_PAGE_SIZE = 1;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CustomerController controller;
+    private final CustomerRepository customerRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final byte[] profileRequest;
+    private final byte[] updateRequest;
+    private final ProfileRequest invalidRequest;
+
+    public CustomerWarmupTask(ObjectMapper objectMapper, Validator validator, CustomerController controller,
+                              CustomerRepository customerRepository, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.controller = controller;
+        this.customerRepository = customerRepository;
+        this.transactionManager = transactionManager;
+
+        var address = new AddressDto("123 Main St", "Apt 4", "Springfield", "IL", "62701");
+        this.profileRequest = objectMapper.writeValueAsBytes(
+                new ProfileRequest("Jane", "O'Doe", LocalDate.of(1990, 1, 15), "123-45-6789", address, "555-0100"));
+        this.updateRequest = objectMapper.writeValueAsBytes(new ProfileUpdateRequest(
+                Optional.of(new AddressDto("9 Elm St", null, "Springfield", "IL", "62704")), Optional.of("555-0199")));
+        this.invalidRequest = new ProfileRequest("J", "", LocalDate.now(), "000-00-0000",
+                new AddressDto("", null, "", "XX", "1234"), null);
+    }
+
+    @Override
+    public void run() {
+        var transaction = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        try {
+            exerciseProfile(customerRepository.save(verifiedCustomer()).getId().toString());
+        } finally {
+            transactionManager.rollback(transaction);
+        }
+    }
+
+    private void exerciseProfile(String customerId) {
+        var request = objectMapper.readValue(profileRequest, ProfileRequest.class);
+        validator.validate(request);
+        validator.validate(invalidRequest);
+        var completed = controller.completeProfile(customerId, request);
+        objectMapper.writeValueAsBytes(completed.getBody());
+        // The same details again take the unchanged path, which decrypts the stored SSN
+        controller.completeProfile(customerId, request);
+
+        var etag = completed.getHeaders().getETag();
+        controller.getProfile(customerId, etag);
+        objectMapper.writeValueAsBytes(controller.getProfile(customerId, null).getBody());
+
+        var update = objectMapper.readValue(updateRequest, ProfileUpdateRequest.class);
+        validator.validate(update);
+        objectMapper.writeValueAsBytes(controller.updateProfile(customerId, etag, update).getBody());
+        // Back to the original details: completeProfile's update path
+        controller.completeProfile(customerId, request);
+
+        // The update wrote several audit entries, so the first page has a cursor to follow
+        var firstPage = controller.getAuditHistory(customerId, null, AUDIT_PAGE_SIZE);
+        objectMapper.writeValueAsBytes(firstPage);
+        objectMapper.writeValueAsBytes(controller.getAuditHistory(customerId, firstPage.nextCursor(), AUDIT_PAGE_SIZE));
+    }
+
+    private static Customer verifiedCustomer() {
+        var customer = new Customer("warmup-" + UUID.randomUUID() + "@example.com", "-",
+                CustomerStatus.PENDING_VERIFICATION, Instant.now());
+        customer.verify();
+        return customer;
+    }
+}
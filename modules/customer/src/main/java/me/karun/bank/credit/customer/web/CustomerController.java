@@ -8,22 +8,38 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import me.karun.bank.credit.customer.api.*;
+import me.karun.bank.credit.infrastructure.bulkhead.Bulkhead;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.OptionalLong;
 
 @RestController
 @RequestMapping("/api/v1/customers")
 @Tag(name = "Customers", description = "Customer registration and management")
 public class CustomerController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final CustomerService customerService;
+    private final ObjectMapper objectMapper;
 
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(CustomerService customerService, ObjectMapper objectMapper) {
         this.customerService = customerService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
+    @Bulkhead("registration")
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Register a new customer", description = "Creates a new customer account with email and password")
     @ApiResponses({
@@ -38,6 +54,23 @@ public class CustomerController {
         return customerService.register(request);
     }
 
+    @GetMapping
+    @Operation(summary = "List customers", description = "Page through customers in one status, newest first, optionally within a createdAt range [createdFrom, createdTo), using the cursor returned by the previous page")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Customer page retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = CustomerListResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown status, empty date range or invalid pagination cursor",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public CustomerListResponse listCustomers(
+            @RequestParam String status,
+            @RequestParam(required = false) Instant createdFrom,
+            @RequestParam(required = false) Instant createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return customerService.listCustomers(status, createdFrom, createdTo, cursor, limit);
+    }
+
     @PostMapping("/verify-email")
     @Operation(summary = "Verify email address", description = "Verifies a customer's email using the token sent during registration")
     @ApiResponses({
@@ -68,6 +101,7 @@ public class CustomerController {
     // TODO #49: Replace path param with @AuthenticationPrincipal after auth implementation
     // Will become: PUT /api/v1/customers/me/profile with customer ID from SecurityContext
     @PutMapping("/{customerId}/profile")
+    @Bulkhead("profile-writes")
     @Operation(summary = "Complete customer profile", description = "Submit personal information required for credit application")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Profile completed successfully",
@@ -79,35 +113,104 @@ public class CustomerController {
             @ApiResponse(responseCode = "404", description = "Customer not found",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
-    public ProfileResponse completeProfile(
+    public ResponseEntity<ProfileResponse> completeProfile(
             @PathVariable String customerId,
             @Valid @RequestBody ProfileRequest request) {
-        return customerService.completeProfile(customerId, request);
+        return withETag(customerService.completeProfile(customerId, request));
     }
 
     @GetMapping("/{customerId}/profile")
-    @Operation(summary = "Get customer profile", description = "Retrieve customer profile information with masked SSN")
+    @Bulkhead("profile-reads")
+    @Operation(summary = "Get customer profile", description = "Retrieve customer profile information with masked SSN. "
+            + "Send the ETag back in If-None-Match to get 304 without the body when the profile is unchanged.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Profile retrieved successfully",
                     content = @Content(schema = @Schema(implementation = ProfileResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Profile unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Customer or profile not found",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
-    public ProfileResponse getProfile(@PathVariable String customerId) {
-        return customerService.getProfile(customerId);
+    public ResponseEntity<ProfileResponse> getProfile(
+            @PathVariable String customerId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            // Version probe only: the profile is neither loaded nor serialized when the client is current
+            var current = customerService.getProfileVersion(customerId);
+            var etag = ProfileETag.of(current.version(), current.profileStatus());
+            if (ProfileETag.matchesAny(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        return withETag(customerService.getProfile(customerId));
     }
 
     @PatchMapping("/{customerId}/profile")
-    @Operation(summary = "Update customer profile", description = "Partially update mutable profile fields (address, phone). Immutable fields cannot be changed.")
+    @Bulkhead("profile-writes")
+    @Operation(summary = "Update customer profile", description = "Partially update mutable profile fields (address, phone). Immutable fields cannot be changed. "
+            + "Send the ETag in If-Match to update only if nobody else has changed the profile since.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Profile updated successfully",
                     content = @Content(schema = @Schema(implementation = ProfileResponse.class))),
             @ApiResponse(responseCode = "404", description = "Customer or profile not found",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "409", description = "Profile changed concurrently; retry with a fresh ETag",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "412", description = "Profile no longer matches the ETag in If-Match",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
-    public ProfileResponse updateProfile(
+    public ResponseEntity<ProfileResponse> updateProfile(
             @PathVariable String customerId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ProfileUpdateRequest request) {
-        return customerService.updateProfile(customerId, request);
+        var requiredVersion = ifMatch != null ? ProfileETag.requiredVersion(ifMatch) : OptionalLong.empty();
+        var profile = requiredVersion.isPresent()
+                ? customerService.updateProfile(customerId, request, requiredVersion.getAsLong())
+                : customerService.updateProfile(customerId, request);
+        return withETag(profile);
+    }
+
+    @GetMapping("/{customerId}/profile/audit")
+    @Operation(summary = "Get profile audit history", description = "Page through profile changes, newest first, using the cursor returned by the previous page")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Audit history page retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = AuditHistoryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid pagination cursor",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "404", description = "Customer not found",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public AuditHistoryResponse getAuditHistory(
+            @PathVariable String customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return customerService.getAuditHistory(customerId, cursor, limit);
+    }
+
+    @GetMapping(value = "/{customerId}/profile/audit/export", produces = NDJSON)
+    @Operation(summary = "Export profile audit history", description = "Stream the full profile audit history as newline-delimited JSON, newest first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Audit history streamed successfully",
+                    content = @Content(mediaType = NDJSON, schema = @Schema(implementation = ProfileAuditEntry.class))),
+            @ApiResponse(responseCode = "404", description = "Customer not found",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public StreamingResponseBody exportAuditHistory(@PathVariable String customerId) {
+        return outputStream -> customerService.exportAuditHistory(
+                customerId,
+                entry -> writeNdjsonLine(outputStream, entry)
+        );
+    }
+
+    private static ResponseEntity<ProfileResponse> withETag(ProfileResponse profile) {
+        return ResponseEntity.ok().eTag(ProfileETag.of(profile.version(), profile.profileStatus())).body(profile);
+    }
+
+    private void writeNdjsonLine(OutputStream outputStream, ProfileAuditEntry entry) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(entry));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
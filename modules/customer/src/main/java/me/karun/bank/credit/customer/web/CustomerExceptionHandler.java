@@ -1,8 +1,12 @@
 package me.karun.bank.credit.customer.web;
 
 import me.karun.bank.credit.customer.api.*;
+import me.karun.bank.credit.infrastructure.concurrent.SingleFlightTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,6 +18,8 @@ import java.util.stream.Collectors;
 @RestControllerAdvice(assignableTypes = CustomerController.class)
 public class CustomerExceptionHandler {
 
+    private static final String SHARED_LOAD_RETRY_AFTER_SECONDS = "1";
+
     @ExceptionHandler(InvalidEmailException.class)
     public ProblemDetail handleInvalidEmail(InvalidEmailException ex) {
         var problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
@@ -70,6 +76,34 @@ public class CustomerExceptionHandler {
         return problem;
     }
 
+    @ExceptionHandler(ProfileVersionMismatchException.class)
+    public ProblemDetail handleProfileVersionMismatch(ProfileVersionMismatchException ex) {
+        var problem = ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+        problem.setTitle("Profile Version Mismatch");
+        problem.setType(URI.create("https://api.example.com/errors/profile-version-mismatch"));
+        return problem;
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ProblemDetail handleConcurrentModification(ObjectOptimisticLockingFailureException ex) {
+        var problem = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
+                "The profile was changed by another request; fetch it again and retry");
+        problem.setTitle("Concurrent Modification");
+        problem.setType(URI.create("https://api.example.com/errors/concurrent-modification"));
+        return problem;
+    }
+
+    // Retry-After marks the 503 as shed load, which admission control does not count as a failure
+    @ExceptionHandler(SingleFlightTimeoutException.class)
+    public ResponseEntity<ProblemDetail> handleSharedLoadTimeout(SingleFlightTimeoutException ex) {
+        var problem = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        problem.setTitle("Service Unavailable");
+        problem.setType(URI.create("https://api.example.com/errors/service-unavailable"));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, SHARED_LOAD_RETRY_AFTER_SECONDS)
+                .body(problem);
+    }
+
     @ExceptionHandler(CustomerNotVerifiedException.class)
     public ProblemDetail handleCustomerNotVerified(CustomerNotVerifiedException ex) {
         var problem = ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN, ex.getMessage());
@@ -78,6 +112,22 @@ public class CustomerExceptionHandler {
         return problem;
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursor(InvalidCursorException ex) {
+        var problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        problem.setTitle("Invalid Cursor");
+        problem.setType(URI.create("https://api.example.com/errors/invalid-cursor"));
+        return problem;
+    }
+
+    @ExceptionHandler(InvalidCustomerFilterException.class)
+    public ProblemDetail handleInvalidCustomerFilter(InvalidCustomerFilterException ex) {
+        var problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        problem.setTitle("Invalid Customer Filter");
+        problem.setType(URI.create("https://api.example.com/errors/invalid-customer-filter"));
+        return problem;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ProblemDetail handleValidationErrors(MethodArgumentNotValidException ex) {
         var errors = ex.getBindingResult().getFieldErrors().stream()
@@ -0,0 +1,36 @@
+package me.karun.bank.credit.customer.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import me.karun.bank.credit.customer.api.CustomerFunnelService;
+import me.karun.bank.credit.customer.api.FunnelResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/customers/funnel")
+@Tag(name = "Customers", description = "Customer registration and management")
+public class CustomerFunnelController {
+
+    private final CustomerFunnelService funnelService;
+
+    public CustomerFunnelController(CustomerFunnelService funnelService) {
+        this.funnelService = funnelService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get the onboarding funnel", description = "Live customer counts per status, and conversion rates for each daily registration cohort over the last days (at most 90)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Funnel retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = FunnelResponse.class)))
+    })
+    public FunnelResponse getFunnel(@RequestParam(defaultValue = "7") int days) {
+        return funnelService.getFunnel(days);
+    }
+}
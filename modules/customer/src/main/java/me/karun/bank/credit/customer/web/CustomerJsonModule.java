@@ -0,0 +1,190 @@
+package me.karun.bank.credit.customer.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import me.karun.bank.credit.customer.api.AddressDto;
+import me.karun.bank.credit.customer.api.ProfileResponse;
+import me.karun.bank.credit.customer.api.RegistrationResponse;
+import me.karun.bank.credit.customer.api.VerifyEmailResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.UUID;
+
+/**
+ * Hand-written serializers for the hottest customer responses. Field names are encoded once and
+ * values go straight to the generator, so no bean introspection or property iteration happens
+ * per response. Output matches what the reflective serializers produce; everything else, and
+ * dates when the mapper writes them as timestamps, is left to Jackson.
+ */
+public class CustomerJsonModule extends SimpleModule {
+
+    private static final SerializedString CUSTOMER_ID = new SerializedString("customerId");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString VERIFIED_AT = new SerializedString("verifiedAt");
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString DATE_OF_BIRTH = new SerializedString("dateOfBirth");
+    private static final SerializedString SSN_LAST_FOUR = new SerializedString("ssnLastFour");
+    private static final SerializedString ADDRESS = new SerializedString("address");
+    private static final SerializedString PHONE = new SerializedString("phone");
+    private static final SerializedString PROFILE_STATUS = new SerializedString("profileStatus");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString STREET = new SerializedString("street");
+    private static final SerializedString UNIT = new SerializedString("unit");
+    private static final SerializedString CITY = new SerializedString("city");
+    private static final SerializedString STATE = new SerializedString("state");
+    private static final SerializedString ZIP_CODE = new SerializedString("zipCode");
+
+    public CustomerJsonModule() {
+        super("customer-json");
+        addSerializer(RegistrationResponse.class, new RegistrationResponseSerializer());
+        addSerializer(VerifyEmailResponse.class, new VerifyEmailResponseSerializer());
+        addSerializer(ProfileResponse.class, new ProfileResponseSerializer());
+        addSerializer(AddressDto.class, new AddressSerializer());
+    }
+
+    static final class RegistrationResponseSerializer extends StdSerializer<RegistrationResponse> {
+
+        RegistrationResponseSerializer() {
+            super(RegistrationResponse.class);
+        }
+
+        @Override
+        public void serialize(RegistrationResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            var out = new FieldWriter(gen, ctxt, RegistrationResponse.class);
+            gen.writeStartObject(value);
+            out.uuid(CUSTOMER_ID, value.customerId());
+            out.string(EMAIL, value.email());
+            out.string(STATUS, value.status());
+            out.temporal(CREATED_AT, value.createdAt());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class VerifyEmailResponseSerializer extends StdSerializer<VerifyEmailResponse> {
+
+        VerifyEmailResponseSerializer() {
+            super(VerifyEmailResponse.class);
+        }
+
+        @Override
+        public void serialize(VerifyEmailResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            var out = new FieldWriter(gen, ctxt, VerifyEmailResponse.class);
+            gen.writeStartObject(value);
+            out.uuid(CUSTOMER_ID, value.customerId());
+            out.string(EMAIL, value.email());
+            out.string(STATUS, value.status());
+            out.temporal(VERIFIED_AT, value.verifiedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ProfileResponseSerializer extends StdSerializer<ProfileResponse> {
+
+        ProfileResponseSerializer() {
+            super(ProfileResponse.class);
+        }
+
+        @Override
+        public void serialize(ProfileResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            var out = new FieldWriter(gen, ctxt, ProfileResponse.class);
+            gen.writeStartObject(value);
+            out.uuid(CUSTOMER_ID, value.customerId());
+            out.string(FIRST_NAME, value.firstName());
+            out.string(LAST_NAME, value.lastName());
+            out.temporal(DATE_OF_BIRTH, value.dateOfBirth());
+            out.string(SSN_LAST_FOUR, value.ssnLastFour());
+            if (value.address() != null) {
+                gen.writeName(ADDRESS);
+                AddressSerializer.write(value.address(), gen, ctxt);
+            } else {
+                out.nullValue(ADDRESS);
+            }
+            out.string(PHONE, value.phone());
+            out.string(PROFILE_STATUS, value.profileStatus());
+            out.temporal(UPDATED_AT, value.updatedAt());
+            // version travels in the ETag header, not the body
+            gen.writeEndObject();
+        }
+    }
+
+    static final class AddressSerializer extends StdSerializer<AddressDto> {
+
+        AddressSerializer() {
+            super(AddressDto.class);
+        }
+
+        @Override
+        public void serialize(AddressDto value, JsonGenerator gen, SerializationContext ctxt) {
+            write(value, gen, ctxt);
+        }
+
+        static void write(AddressDto value, JsonGenerator gen, SerializationContext ctxt) {
+            var out = new FieldWriter(gen, ctxt, AddressDto.class);
+            gen.writeStartObject(value);
+            out.string(STREET, value.street());
+            out.string(UNIT, value.unit());
+            out.string(CITY, value.city());
+            out.string(STATE, value.state());
+            out.string(ZIP_CODE, value.zipCode());
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes one property at a time, honouring the mapper's null inclusion and date settings so
+     * the output is the same as Jackson's own serializers would give.
+     */
+    private record FieldWriter(JsonGenerator gen, SerializationContext ctxt, boolean writeNulls) {
+
+        FieldWriter(JsonGenerator gen, SerializationContext ctxt, Class<?> type) {
+            this(gen, ctxt, includesNulls(ctxt.getDefaultPropertyInclusion(type)));
+        }
+
+        private static boolean includesNulls(JsonInclude.Value inclusion) {
+            var include = inclusion.getValueInclusion();
+            return include == JsonInclude.Include.ALWAYS || include == JsonInclude.Include.USE_DEFAULTS;
+        }
+
+        void string(SerializableString name, String value) {
+            if (value == null) {
+                nullValue(name);
+            } else {
+                gen.writeName(name);
+                gen.writeString(value);
+            }
+        }
+
+        void uuid(SerializableString name, UUID value) {
+            string(name, value == null ? null : value.toString());
+        }
+
+        void temporal(SerializableString name, TemporalAccessor value) {
+            if (value == null) {
+                nullValue(name);
+            } else if (ctxt.isEnabled(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+                gen.writeName(name);
+                ctxt.writeValue(gen, value);
+            } else {
+                // ISO-8601, as Instant and LocalDate print themselves
+                gen.writeName(name);
+                gen.writeString(value.toString());
+            }
+        }
+
+        void nullValue(SerializableString name) {
+            if (writeNulls) {
+                gen.writeName(name);
+                gen.writeNull();
+            }
+        }
+    }
+}
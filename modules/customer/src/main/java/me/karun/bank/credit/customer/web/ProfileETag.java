@@ -0,0 +1,55 @@
+package me.karun.bank.credit.customer.web;
+
+import me.karun.bank.credit.customer.api.ProfileVersionMismatchException;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * Maps the profile's optimistic-lock version and the customer's status, both of which the profile
+ * response carries, to a strong ETag, {@code "<version>-<status>"}.
+ */
+final class ProfileETag {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final char VERSION_SEPARATOR = '-';
+
+    private ProfileETag() {
+    }
+
+    static String of(long version, String profileStatus) {
+        return "\"" + version + VERSION_SEPARATOR + profileStatus + "\"";
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires: {@code *} or any listed tag with the same opaque value.
+     */
+    static boolean matchesAny(String ifNoneMatch, String etag) {
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    /**
+     * The version an If-Match header requires, or empty for {@code *}. Weak or malformed tags can
+     * never match under the strong comparison If-Match requires. The status is not compared: an
+     * update only changes profile fields, so a status change alone cannot be lost by it.
+     */
+    static OptionalLong requiredVersion(String ifMatch) {
+        var tag = ifMatch.trim();
+        if (tag.equals("*")) {
+            return OptionalLong.empty();
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            var value = tag.substring(1, tag.length() - 1);
+            var separator = value.indexOf(VERSION_SEPARATOR);
+            try {
+                return OptionalLong.of(Long.parseLong(separator < 0 ? value : value.substring(0, separator)));
+            } catch (NumberFormatException ignored) {
+                // fall through to the mismatch below
+            }
+        }
+        throw new ProfileVersionMismatchException("If-Match " + ifMatch + " does not identify a profile version");
+    }
+}
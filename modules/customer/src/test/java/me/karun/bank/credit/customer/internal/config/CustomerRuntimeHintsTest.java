@@ -0,0 +1,64 @@
+package me.karun.bank.credit.customer.internal.config;
+
+import me.karun.bank.credit.customer.api.CustomerSummary;
+import me.karun.bank.credit.customer.api.ProfileAuditEntry;
+import me.karun.bank.credit.customer.api.ProfileRequest;
+import me.karun.bank.credit.customer.internal.domain.CustomerProfile;
+import me.karun.bank.credit.customer.internal.validation.AdultAgeValidator;
+import me.karun.bank.credit.customer.internal.validation.SsnValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new CustomerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldRegisterEntityFieldsAndConstructors() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(CustomerProfile.class)
+                .withMemberCategories(MemberCategory.ACCESS_DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterConstraintValidatorConstructors() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(AdultAgeValidator.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(SsnValidator.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterValidatedRequestFields() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProfileRequest.class)
+                .withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterAuditProjectionConstructor() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProfileAuditEntry.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterCustomerListingProjectionConstructor() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(CustomerSummary.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                .accepts(hints);
+    }
+}
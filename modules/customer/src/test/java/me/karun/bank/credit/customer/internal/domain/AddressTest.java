@@ -3,6 +3,7 @@ package me.karun.bank.credit.customer.internal.domain;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 class AddressTest {
 
@@ -23,4 +24,27 @@ class AddressTest {
 
         assertThat(address.getUnit()).isNull();
     }
+
+    @Test
+    void shouldReportNoChanges_whenAddressesAreEqual() {
+        var address = new Address("123 Main St", null, "New York", "NY", "10001");
+
+        var changes = address.changesTo(new Address("123 Main St", null, "New York", "NY", "10001"));
+
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    void shouldReportEachChangedField_whenAddressesDiffer() {
+        var address = new Address("123 Main St", null, "New York", "NY", "10001");
+
+        var changes = address.changesTo(new Address("123 Main St", "Apt 2", "Brooklyn", "NY", "10001"));
+
+        assertThat(changes)
+                .extracting(FieldChange::fieldName, FieldChange::oldValue, FieldChange::newValue)
+                .containsExactly(
+                        tuple("address.unit", null, "Apt 2"),
+                        tuple("address.city", "New York", "Brooklyn")
+                );
+    }
 }
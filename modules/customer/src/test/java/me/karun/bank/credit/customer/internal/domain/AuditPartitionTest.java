@@ -0,0 +1,41 @@
+package me.karun.bank.credit.customer.internal.domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditPartitionTest {
+
+    @Test
+    void shouldNameTableAfterMonth() {
+        var partition = new AuditPartition(YearMonth.of(2025, 3));
+
+        assertThat(partition.tableName()).isEqualTo("profile_audit_p2025_03");
+    }
+
+    @Test
+    void shouldCoverWholeMonthInUtc() {
+        var partition = new AuditPartition(YearMonth.of(2025, 12));
+
+        assertThat(partition.lowerBound()).isEqualTo(Instant.parse("2025-12-01T00:00:00Z"));
+        assertThat(partition.upperBound()).isEqualTo(Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void shouldParseTableName_whenNameFollowsConvention() {
+        var partition = AuditPartition.fromTableName("profile_audit_p2024_11");
+
+        assertThat(partition).contains(new AuditPartition(YearMonth.of(2024, 11)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"profile_audit", "profile_audit_unpartitioned", "profile_audit_p2024", "customers"})
+    void shouldNotParseTableName_whenNameDoesNotFollowConvention(String tableName) {
+        assertThat(AuditPartition.fromTableName(tableName)).isEmpty();
+    }
+}
@@ -55,4 +55,45 @@ class CustomerProfileTest {
 
         assertThat(profile.getPhone()).isNull();
     }
+
+    @Test
+    void shouldNotTouchUpdatedAt_whenPhoneIsUnchanged() {
+        var address = new Address("123 Main St", null, "New York", "NY", "10001");
+        var profile = new CustomerProfile(
+            UUID.randomUUID(),
+            "John",
+            "Doe",
+            LocalDate.of(1990, 5, 15),
+            "encrypted-ssn-value",
+            "6789",
+            address,
+            "+1-555-123-4567"
+        );
+
+        var changes = profile.updatePhone("+1-555-123-4567");
+
+        assertThat(changes).isEmpty();
+        assertThat(profile.getUpdatedAt()).isNull();
+    }
+
+    @Test
+    void shouldReturnChangeAndTouchUpdatedAt_whenPhoneChanges() {
+        var address = new Address("123 Main St", null, "New York", "NY", "10001");
+        var profile = new CustomerProfile(
+            UUID.randomUUID(),
+            "John",
+            "Doe",
+            LocalDate.of(1990, 5, 15),
+            "encrypted-ssn-value",
+            "6789",
+            address,
+            "+1-555-123-4567"
+        );
+
+        var changes = profile.updatePhone("+1-555-999-8888");
+
+        assertThat(changes).containsExactly(new FieldChange("phone", "+1-555-123-4567", "+1-555-999-8888"));
+        assertThat(profile.getPhone()).isEqualTo("+1-555-999-8888");
+        assertThat(profile.getUpdatedAt()).isNotNull();
+    }
 }
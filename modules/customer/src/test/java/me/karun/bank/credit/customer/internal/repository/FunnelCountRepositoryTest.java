@@ -0,0 +1,173 @@
+package me.karun.bank.credit.customer.internal.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.karun.bank.credit.customer.api.AddressDto;
+import me.karun.bank.credit.customer.api.CustomerService;
+import me.karun.bank.credit.customer.api.ProfileRequest;
+import me.karun.bank.credit.customer.api.RegistrationRequest;
+import me.karun.bank.credit.customer.api.VerifyEmailRequest;
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.customer.internal.domain.FunnelCohort;
+import me.karun.bank.credit.customer.internal.domain.VerificationToken;
+import me.karun.bank.credit.customer.internal.service.AuditPartitionMaintenance;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        classes = FunnelCountRepositoryTest.TestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "platform.migration.on-startup=migrate",
+                "platform.migration.change-log=classpath:db/changelog/customer.changelog.xml",
+                "spring.jpa.hibernate.ddl-auto=validate",
+                "customer.bcrypt.strength=4",
+                "customer.encryption.key=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=",
+                // Only the tests write to the summary tables
+                "customer.funnel.flush-interval=PT1H"
+        })
+@Testcontainers(disabledWithoutDocker = true)
+class FunnelCountRepositoryTest {
+
+    private static final LocalDate OLD_COHORT = LocalDate.of(2020, 1, 1);
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @MockitoBean
+    private AuditPartitionMaintenance auditPartitionMaintenance;
+
+    @Autowired
+    private FunnelCountRepository repository;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private VerificationTokenRepository tokenRepository;
+
+    @Test
+    void shouldAccumulateDeltas_whenFlushedRepeatedly() {
+        var before = statusCounts();
+        var cohort = new FunnelCohort(OLD_COHORT, CustomerStatus.VERIFIED);
+        var cohortBefore = repository.findCohortCounts(OLD_COHORT).getOrDefault(cohort, 0L);
+
+        repository.addDeltas(Map.of(CustomerStatus.VERIFIED, 2L, CustomerStatus.PENDING_VERIFICATION, -2L), Map.of(cohort, 2L));
+        repository.addDeltas(Map.of(CustomerStatus.VERIFIED, 1L, CustomerStatus.PENDING_VERIFICATION, -1L), Map.of(cohort, 1L));
+
+        var after = statusCounts();
+        assertThat(after.get(CustomerStatus.VERIFIED) - before.get(CustomerStatus.VERIFIED)).isEqualTo(3);
+        assertThat(after.get(CustomerStatus.PENDING_VERIFICATION) - before.get(CustomerStatus.PENDING_VERIFICATION)).isEqualTo(-3);
+        assertThat(repository.findCohortCounts(OLD_COHORT)).containsEntry(cohort, cohortBefore + 3);
+    }
+
+    @Test
+    void shouldReplaceCountsWithCustomerTotals_whenReconciling() {
+        var today = LocalDate.now(ZoneOffset.UTC);
+        registeredCustomer();
+        verifiedCustomer();
+        var profileComplete = verifiedCustomer();
+        customerService.completeProfile(profileComplete.toString(), profileRequest());
+        var oldCohort = new FunnelCohort(OLD_COHORT, CustomerStatus.PENDING_VERIFICATION);
+        repository.addDeltas(Map.of(CustomerStatus.SUSPENDED, 7L), Map.of(
+                new FunnelCohort(today, CustomerStatus.VERIFIED), 7L,
+                oldCohort, 5L));
+        var oldCohortBefore = repository.findCohortCounts(OLD_COHORT).get(oldCohort);
+
+        repository.reconcile(today.minusDays(1));
+
+        assertThat(statusCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                CustomerStatus.PENDING_VERIFICATION, 1L,
+                CustomerStatus.VERIFIED, 1L,
+                CustomerStatus.PROFILE_COMPLETE, 1L,
+                CustomerStatus.SUSPENDED, 0L));
+        assertThat(repository.findCohortCounts(today)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                new FunnelCohort(today, CustomerStatus.PENDING_VERIFICATION), 3L,
+                new FunnelCohort(today, CustomerStatus.VERIFIED), 2L,
+                new FunnelCohort(today, CustomerStatus.PROFILE_COMPLETE), 1L,
+                new FunnelCohort(today, CustomerStatus.SUSPENDED), 0L));
+        // Cohorts older than the reconciled window are left as flushed
+        assertThat(repository.findCohortCounts(OLD_COHORT)).containsEntry(oldCohort, oldCohortBefore);
+    }
+
+    private Map<CustomerStatus, Long> statusCounts() {
+        var counts = new EnumMap<CustomerStatus, Long>(CustomerStatus.class);
+        for (var status : CustomerStatus.values()) {
+            counts.put(status, 0L);
+        }
+        repository.findStatusCounts().forEach(count -> counts.put(count.status(), count.customers()));
+        return counts;
+    }
+
+    private UUID registeredCustomer() {
+        return customerService.register(new RegistrationRequest("funnel-" + UUID.randomUUID() + "@example.com", "SecurePass123!"))
+                .customerId();
+    }
+
+    private UUID verifiedCustomer() {
+        var customerId = registeredCustomer();
+        var rawToken = UUID.randomUUID().toString();
+        tokenRepository.save(new VerificationToken(customerId, Integer.toHexString(rawToken.hashCode()),
+                Instant.now().plus(1, ChronoUnit.HOURS)));
+        customerService.verifyEmail(new VerifyEmailRequest(rawToken));
+        return customerId;
+    }
+
+    private static ProfileRequest profileRequest() {
+        return new ProfileRequest(
+                "John",
+                "Doe",
+                LocalDate.of(1990, 5, 15),
+                "123-45-6789",
+                new AddressDto("123 Main St", "Apt 4B", "New York", "NY", "10001"),
+                "+1-555-123-4567"
+        );
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    // Leaves out other tests' nested configurations, as @SpringBootApplication does
+    @ComponentScan(basePackages = "me.karun.bank.credit",
+            excludeFilters = @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class))
+    @EntityScan("me.karun.bank.credit")
+    @EnableJpaRepositories("me.karun.bank.credit")
+    static class TestApplication {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import me.karun.bank.credit.customer.internal.domain.AuditPartition;
+import me.karun.bank.credit.customer.internal.repository.ProfileAuditPartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuditPartitionMaintenanceTest {
+
+    private static final YearMonth CURRENT_MONTH = YearMonth.of(2025, 6);
+
+    private ProfileAuditPartitionRepository partitionRepository;
+    private AuditPartitionArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        partitionRepository = mock(ProfileAuditPartitionRepository.class);
+        archiver = mock(AuditPartitionArchiver.class);
+        when(partitionRepository.runExclusively(any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return true;
+        });
+    }
+
+    @Test
+    void shouldCreateMissingUpcomingPartitions() {
+        when(partitionRepository.findAttachedPartitions()).thenReturn(Set.of(partition(2025, 6), partition(2025, 7)));
+
+        maintenance(false).maintainPartitions(CURRENT_MONTH);
+
+        verify(partitionRepository).createPartition(partition(2025, 8));
+        verify(partitionRepository).createPartition(partition(2025, 9));
+        verify(partitionRepository, never()).createPartition(partition(2025, 6));
+        verify(partitionRepository, never()).createPartition(partition(2025, 7));
+    }
+
+    @Test
+    void shouldDetachArchiveThenDropPartition_whenOlderThanHotMonths() {
+        var expired = partition(2024, 5);
+        when(partitionRepository.findAttachedPartitions()).thenReturn(Set.of(expired, partition(2024, 6)));
+        when(partitionRepository.findAllPartitions()).thenReturn(List.of(expired, partition(2024, 6)));
+
+        maintenance(true).maintainPartitions(CURRENT_MONTH);
+
+        InOrder inOrder = inOrder(partitionRepository, archiver);
+        inOrder.verify(partitionRepository).detachPartition(expired);
+        inOrder.verify(archiver).archive(expired);
+        inOrder.verify(partitionRepository).dropPartition(expired);
+        verify(archiver, never()).archive(partition(2024, 6));
+    }
+
+    @Test
+    void shouldArchiveWithoutDetaching_whenPartitionAlreadyDetached() {
+        var expired = partition(2023, 1);
+        when(partitionRepository.findAttachedPartitions()).thenReturn(Set.of());
+        when(partitionRepository.findAllPartitions()).thenReturn(List.of(expired));
+
+        maintenance(true).maintainPartitions(CURRENT_MONTH);
+
+        verify(partitionRepository, never()).detachPartition(any());
+        verify(archiver).archive(expired);
+        verify(partitionRepository).dropPartition(expired);
+    }
+
+    @Test
+    void shouldKeepOldPartitions_whenRetentionDisabled() {
+        when(partitionRepository.findAttachedPartitions()).thenReturn(Set.of());
+
+        maintenance(false).maintainPartitions(CURRENT_MONTH);
+
+        verify(partitionRepository, never()).findAllPartitions();
+        verifyNoInteractions(archiver);
+    }
+
+    @Test
+    void shouldSkipMaintenance_whenAnotherInstanceHoldsTheLock() {
+        doReturn(false).when(partitionRepository).runExclusively(any());
+
+        maintenance(true).maintainPartitions(CURRENT_MONTH);
+
+        verify(partitionRepository, never()).findAttachedPartitions();
+        verify(partitionRepository, never()).createPartition(any());
+        verifyNoInteractions(archiver);
+    }
+
+    private AuditPartitionMaintenance maintenance(boolean retentionEnabled) {
+        return new AuditPartitionMaintenance(partitionRepository, archiver, 3, retentionEnabled, 12);
+    }
+
+    private static AuditPartition partition(int year, int month) {
+        return new AuditPartition(YearMonth.of(year, month));
+    }
+}
@@ -0,0 +1,97 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.customer.internal.domain.FunnelCohort;
+import me.karun.bank.credit.customer.internal.domain.StatusCount;
+import me.karun.bank.credit.customer.internal.repository.FunnelCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class CustomerFunnelCountersTest {
+
+    private static final Instant REGISTERED_AT = Instant.parse("2026-03-01T23:59:00Z");
+    private static final LocalDate COHORT = LocalDate.of(2026, 3, 1);
+
+    private FunnelCountRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerFunnelCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(FunnelCountRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        counters = new CustomerFunnelCounters(repository, meterRegistry);
+    }
+
+    @Test
+    void shouldMoveCustomerBetweenStatuses_whenTransitionsArrive() {
+        counters.onStatusTransition(new CustomerStatusTransition(null, CustomerStatus.PENDING_VERIFICATION, REGISTERED_AT));
+        counters.onStatusTransition(new CustomerStatusTransition(null, CustomerStatus.PENDING_VERIFICATION, REGISTERED_AT));
+        counters.onStatusTransition(new CustomerStatusTransition(CustomerStatus.PENDING_VERIFICATION, CustomerStatus.VERIFIED, REGISTERED_AT));
+
+        assertThat(counters.count(CustomerStatus.PENDING_VERIFICATION)).isEqualTo(1);
+        assertThat(counters.count(CustomerStatus.VERIFIED)).isEqualTo(1);
+        assertThat(meterRegistry.get("customer.status").tag("status", "VERIFIED").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAddPendingDeltasToSummaryTables_whenFlushed() {
+        counters.onStatusTransition(new CustomerStatusTransition(null, CustomerStatus.PENDING_VERIFICATION, REGISTERED_AT));
+        counters.onStatusTransition(new CustomerStatusTransition(CustomerStatus.PENDING_VERIFICATION, CustomerStatus.VERIFIED, REGISTERED_AT));
+        when(repository.findStatusCounts()).thenReturn(List.of(new StatusCount(CustomerStatus.VERIFIED, 41)));
+
+        counters.flush();
+
+        verify(repository).addDeltas(
+                Map.of(CustomerStatus.VERIFIED, 1L),
+                Map.of(new FunnelCohort(COHORT, CustomerStatus.PENDING_VERIFICATION), 1L,
+                        new FunnelCohort(COHORT, CustomerStatus.VERIFIED), 1L));
+        assertThat(counters.count(CustomerStatus.VERIFIED)).isEqualTo(41);
+        assertThat(counters.count(CustomerStatus.PENDING_VERIFICATION)).isZero();
+
+        counters.flush();
+
+        verify(repository, times(1)).addDeltas(anyMap(), anyMap());
+    }
+
+    @Test
+    void shouldReloadOtherReplicasTotals_whenNothingIsPendingLocally() {
+        when(repository.findStatusCounts())
+                .thenReturn(List.of(new StatusCount(CustomerStatus.VERIFIED, 41)))
+                .thenReturn(List.of(new StatusCount(CustomerStatus.VERIFIED, 45)));
+
+        counters.flush();
+        counters.flush();
+
+        verify(repository, never()).addDeltas(anyMap(), anyMap());
+        assertThat(counters.count(CustomerStatus.VERIFIED)).isEqualTo(45);
+    }
+
+    @Test
+    void shouldKeepDeltasForNextFlush_whenFlushFails() {
+        counters.onStatusTransition(new CustomerStatusTransition(null, CustomerStatus.PENDING_VERIFICATION, REGISTERED_AT));
+        doThrow(new DataAccessResourceFailureException("down")).doNothing().when(repository).addDeltas(any(), any());
+
+        counters.flush();
+
+        assertThat(counters.count(CustomerStatus.PENDING_VERIFICATION)).isEqualTo(1);
+
+        counters.flush();
+
+        verify(repository, times(2)).addDeltas(
+                Map.of(CustomerStatus.PENDING_VERIFICATION, 1L),
+                Map.of(new FunnelCohort(COHORT, CustomerStatus.PENDING_VERIFICATION), 1L));
+    }
+}
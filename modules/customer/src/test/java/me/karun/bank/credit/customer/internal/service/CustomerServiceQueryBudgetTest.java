@@ -0,0 +1,205 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.karun.bank.credit.customer.api.AddressDto;
+import me.karun.bank.credit.customer.api.CustomerService;
+import me.karun.bank.credit.customer.api.ProfileRequest;
+import me.karun.bank.credit.customer.api.ProfileUpdateRequest;
+import me.karun.bank.credit.customer.api.RegistrationRequest;
+import me.karun.bank.credit.customer.api.VerifyEmailRequest;
+import me.karun.bank.credit.customer.internal.domain.VerificationToken;
+import me.karun.bank.credit.customer.internal.repository.VerificationTokenRepository;
+import me.karun.bank.credit.infrastructure.jdbc.QueryBudget;
+import me.karun.bank.credit.infrastructure.jdbc.QueryBudgetConfiguration;
+import me.karun.bank.credit.infrastructure.jdbc.QueryRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        classes = CustomerServiceQueryBudgetTest.TestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                // The real changelog, so budgets are measured against the production indexes and partitions
+                "platform.migration.on-startup=migrate",
+                "platform.migration.change-log=classpath:db/changelog/customer.changelog.xml",
+                "spring.jpa.hibernate.ddl-auto=validate",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "spring.jpa.properties.hibernate.order_inserts=true",
+                "spring.jpa.properties.hibernate.order_updates=true",
+                "customer.bcrypt.strength=4",
+                "customer.encryption.key=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY="
+        })
+@Testcontainers(disabledWithoutDocker = true)
+class CustomerServiceQueryBudgetTest {
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @MockitoBean
+    private AuditPartitionMaintenance auditPartitionMaintenance;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private VerificationTokenRepository tokenRepository;
+
+    @Autowired
+    private QueryRecorder queryRecorder;
+
+    @Test
+    void shouldRegisterWithinBudget() {
+        var request = new RegistrationRequest(uniqueEmail(), "SecurePass123!");
+
+        QueryBudget.maxStatements(3).withMaxRoundTrips(3)
+                .verify(queryRecorder, () -> customerService.register(request));
+    }
+
+    @Test
+    void shouldVerifyEmailWithinBudget() {
+        var customerId = customerService.register(new RegistrationRequest(uniqueEmail(), "SecurePass123!")).customerId();
+        var rawToken = issueToken(customerId);
+
+        QueryBudget.maxStatements(4).withMaxRoundTrips(4).withMaxRows(2)
+                .verify(queryRecorder, () -> customerService.verifyEmail(new VerifyEmailRequest(rawToken)));
+    }
+
+    @Test
+    void shouldCompleteProfileWithinBudget() {
+        var customerId = verifiedCustomer();
+
+        QueryBudget.maxStatements(4).withMaxRoundTrips(4)
+                .verify(queryRecorder, () -> customerService.completeProfile(customerId.toString(), profileRequest()));
+    }
+
+    @Test
+    void shouldSkipWrites_whenCompletingProfileWithSameDetails() {
+        var customerId = verifiedCustomer();
+        customerService.completeProfile(customerId.toString(), profileRequest());
+
+        var report = queryRecorder.record(() -> customerService.completeProfile(customerId.toString(), profileRequest()));
+
+        QueryBudget.maxStatements(2).assertWithin(report);
+    }
+
+    @Test
+    void shouldBatchAuditInserts_whenUpdatingEveryAddressFieldAndPhone() {
+        var customerId = verifiedCustomer();
+        customerService.completeProfile(customerId.toString(), profileRequest());
+        var request = new ProfileUpdateRequest(
+                Optional.of(new AddressDto("789 Pine Rd", "Unit 5", "Queens", "CA", "90210")),
+                Optional.of("+1-555-777-6666"));
+
+        var report = queryRecorder.record(() -> customerService.updateProfile(customerId.toString(), request));
+
+        QueryBudget.maxStatements(9).withMaxRoundTrips(4).assertWithin(report);
+        assertThat(report.executions()).anyMatch(execution -> execution.statements() == 6);
+    }
+
+    @Test
+    void shouldGetProfileWithinBudget() {
+        var customerId = verifiedCustomer();
+        customerService.completeProfile(customerId.toString(), profileRequest());
+
+        QueryBudget.maxStatements(2).withMaxRows(2)
+                .verify(queryRecorder, () -> customerService.getProfile(customerId.toString()));
+    }
+
+    @Test
+    void shouldProbeProfileVersionWithSingleRowQuery() {
+        var customerId = verifiedCustomer();
+        customerService.completeProfile(customerId.toString(), profileRequest());
+
+        QueryBudget.maxStatements(1).withMaxRows(1)
+                .verify(queryRecorder, () -> customerService.getProfileVersion(customerId.toString()));
+    }
+
+    @Test
+    void shouldListCustomerPagesWithSingleBoundedQuery() {
+        for (int i = 0; i < 3; i++) {
+            customerService.register(new RegistrationRequest(uniqueEmail(), "SecurePass123!"));
+        }
+        var firstPage = customerService.listCustomers("PENDING_VERIFICATION", null, null, null, 2);
+
+        QueryBudget.maxStatements(1).withMaxRows(3)
+                .verify(queryRecorder, () -> customerService.listCustomers("PENDING_VERIFICATION", null, null, firstPage.nextCursor(), 2));
+        assertThat(firstPage.customers()).hasSize(2)
+                .allSatisfy(customer -> assertThat(customer.status()).isEqualTo("PENDING_VERIFICATION"));
+    }
+
+    private UUID verifiedCustomer() {
+        var customerId = customerService.register(new RegistrationRequest(uniqueEmail(), "SecurePass123!")).customerId();
+        customerService.verifyEmail(new VerifyEmailRequest(issueToken(customerId)));
+        return customerId;
+    }
+
+    private String issueToken(UUID customerId) {
+        var rawToken = UUID.randomUUID().toString();
+        var expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+        tokenRepository.save(new VerificationToken(customerId, Integer.toHexString(rawToken.hashCode()), expiresAt));
+        return rawToken;
+    }
+
+    private static ProfileRequest profileRequest() {
+        return new ProfileRequest(
+                "John",
+                "Doe",
+                LocalDate.of(1990, 5, 15),
+                "123-45-6789",
+                new AddressDto("123 Main St", "Apt 4B", "New York", "NY", "10001"),
+                "+1-555-123-4567"
+        );
+    }
+
+    private static String uniqueEmail() {
+        return "budget-" + UUID.randomUUID() + "@example.com";
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    // Leaves out other tests' nested configurations, as @SpringBootApplication does
+    @ComponentScan(basePackages = "me.karun.bank.credit",
+            excludeFilters = @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class))
+    @EntityScan("me.karun.bank.credit")
+    @EnableJpaRepositories("me.karun.bank.credit")
+    @Import(QueryBudgetConfiguration.class)
+    static class TestApplication {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
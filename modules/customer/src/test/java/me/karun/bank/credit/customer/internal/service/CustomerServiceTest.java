@@ -1,12 +1,15 @@
 package me.karun.bank.credit.customer.internal.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import me.karun.bank.credit.customer.api.*;
 import me.karun.bank.credit.customer.internal.domain.Customer;
 import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.customer.internal.domain.ProfileAudit;
 import me.karun.bank.credit.customer.internal.domain.VerificationToken;
 import me.karun.bank.credit.customer.internal.repository.CustomerProfileRepository;
 import me.karun.bank.credit.customer.internal.repository.CustomerRepository;
 import me.karun.bank.credit.customer.internal.repository.VerificationTokenRepository;
+import me.karun.bank.credit.infrastructure.datasource.ReadYourWritesGuard;
 import me.karun.bank.credit.infrastructure.encryption.EncryptionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,13 +18,24 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +51,9 @@ class CustomerServiceTest {
     private PasswordEncoder passwordEncoder;
     private ApplicationEventPublisher eventPublisher;
     private EncryptionService encryptionService;
+    private ReadYourWritesGuard readYourWritesGuard;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
     private CustomerServiceImpl service;
 
     @BeforeEach
@@ -48,7 +65,10 @@ class CustomerServiceTest {
         passwordEncoder = new BCryptPasswordEncoder(12);
         eventPublisher = mock(ApplicationEventPublisher.class);
         encryptionService = mock(EncryptionService.class);
-        service = new CustomerServiceImpl(customerRepository, tokenRepository, profileRepository, auditRepository, passwordEncoder, eventPublisher, encryptionService);
+        readYourWritesGuard = new ReadYourWritesGuard(Duration.ofSeconds(5));
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CustomerServiceImpl(customerRepository, tokenRepository, profileRepository, auditRepository, passwordEncoder, eventPublisher, encryptionService, readYourWritesGuard, transactionManager, meterRegistry);
     }
 
     @Test
@@ -192,6 +212,24 @@ class CustomerServiceTest {
         assertThat(response.verifiedAt()).isNotNull();
     }
 
+    @Test
+    void shouldPublishStatusTransition_whenCustomerIsVerified() {
+        var customerId = UUID.randomUUID();
+        var rawToken = "valid-token";
+        var tokenHash = hashToken(rawToken);
+        var registeredAt = Instant.parse("2026-03-01T10:15:30Z");
+        var customer = new Customer("user@example.com", "hash", CustomerStatus.PENDING_VERIFICATION, registeredAt);
+        ReflectionTestUtils.setField(customer, "id", customerId);
+        var token = new VerificationToken(customerId, tokenHash, Instant.now().plusSeconds(3600));
+        when(tokenRepository.findByTokenHash(tokenHash)).thenReturn(Optional.of(token));
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+
+        service.verifyEmail(new VerifyEmailRequest(rawToken));
+
+        verify(eventPublisher).publishEvent(
+                new CustomerStatusTransition(CustomerStatus.PENDING_VERIFICATION, CustomerStatus.VERIFIED, registeredAt));
+    }
+
     @Test
     void shouldThrowTokenNotFoundException_whenTokenDoesNotExist() {
         var rawToken = "non-existent-token";
@@ -318,6 +356,53 @@ class CustomerServiceTest {
         assertThat(response.ssnLastFour()).isEqualTo("6789");
         assertThat(response.address().street()).isEqualTo("123 Main St");
         assertThat(response.phone()).isEqualTo("+1-555-123-4567");
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void shouldQueryOnce_whenManyCallersReadSameProfileConcurrently() throws Exception {
+        var customerId = UUID.randomUUID();
+        var customer = new Customer("user@example.com", "hash", CustomerStatus.PROFILE_COMPLETE, Instant.now());
+        ReflectionTestUtils.setField(customer, "id", customerId);
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(customerRepository.findById(customerId)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(customer);
+        });
+        when(profileRepository.findById(customerId)).thenReturn(Optional.of(createTestProfile(customerId)));
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var reads = new ArrayList<Future<ProfileResponse>>();
+            reads.add(executor.submit(() -> service.getProfile(customerId.toString())));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).as("first read started loading").isTrue();
+            for (int i = 0; i < 7; i++) {
+                reads.add(executor.submit(() -> service.getProfile(customerId.toString())));
+            }
+            var coalesced = meterRegistry.get("customer.profile.reads.coalesced").functionCounter();
+            awaitUntil(() -> coalesced.count() >= 7);
+
+            release.countDown();
+
+            for (var read : reads) {
+                assertThat(read.get(5, TimeUnit.SECONDS).firstName()).isEqualTo("John");
+            }
+            verify(customerRepository, times(1)).findById(customerId);
+            verify(profileRepository, times(1)).findById(customerId);
+            verify(transactionManager, times(1)).getTransaction(any());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(1);
+        }
     }
 
     private me.karun.bank.credit.customer.internal.domain.CustomerProfile createTestProfile(UUID customerId) {
@@ -374,6 +459,22 @@ class CustomerServiceTest {
         assertThat(response.address().street()).isEqualTo("123 Main St");
     }
 
+    @Test
+    void shouldPinCustomerReadsToPrimary_whenProfileWasJustUpdated() {
+        var customerId = UUID.randomUUID();
+        var customer = new Customer("user@example.com", "hash", CustomerStatus.PROFILE_COMPLETE, Instant.now());
+        ReflectionTestUtils.setField(customer, "id", customerId);
+        var existingProfile = createTestProfile(customerId);
+        var updateRequest = new ProfileUpdateRequest(Optional.empty(), Optional.of("+1-555-999-8888"));
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+        when(profileRepository.findById(customerId)).thenReturn(Optional.of(existingProfile));
+
+        service.updateProfile(customerId.toString(), updateRequest);
+
+        assertThat(readYourWritesGuard.wasRecentlyWritten(customerId)).isTrue();
+        assertThat(readYourWritesGuard.wasRecentlyWritten(UUID.randomUUID())).isFalse();
+    }
+
     @Test
     void shouldUpdateBoth_whenPatchRequestWithAddressAndPhone() {
         var customerId = UUID.randomUUID();
@@ -391,4 +492,267 @@ class CustomerServiceTest {
         assertThat(response.address().city()).isEqualTo("Queens");
         assertThat(response.phone()).isEqualTo("+1-555-777-6666");
     }
+
+    @Test
+    void shouldSkipSaveAndAudit_whenPatchDoesNotChangeAnything() {
+        var customerId = UUID.randomUUID();
+        var customer = new Customer("user@example.com", "hash", CustomerStatus.PROFILE_COMPLETE, Instant.now());
+        ReflectionTestUtils.setField(customer, "id", customerId);
+        var existingProfile = createTestProfile(customerId);
+        var sameAddress = new AddressDto("123 Main St", "Apt 4B", "New York", "NY", "10001");
+        var updateRequest = new ProfileUpdateRequest(Optional.of(sameAddress), Optional.of("+1-555-123-4567"));
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+        when(profileRepository.findById(customerId)).thenReturn(Optional.of(existingProfile));
+
+        var response = service.updateProfile(customerId.toString(), updateRequest);
+
+        verify(profileRepository, never()).saveAndFlush(any());
+        verify(auditRepository, never()).save(any());
+        assertThat(existingProfile.getUpdatedAt()).isNull();
+        assertThat(response.phone()).isEqualTo("+1-555-123-4567");
+        assertThat(meterRegistry.counter("customer.profile.writes.skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAuditOnlyChangedFields_whenPatchChangesSomeFields() {
+        var customerId = UUID.randomUUID();
+        var customer = new Customer("user@example.com", "hash", CustomerStatus.PROFILE_COMPLETE, Instant.now());
+        ReflectionTestUtils.setField(customer, "id", customerId);
+        var existingProfile = createTestProfile(customerId);
+        var movedAddress = new AddressDto("123 Main St", "Apt 4B", "Brooklyn", "NY", "10001");
+        var updateRequest = new ProfileUpdateRequest(Optional.of(movedAddress), Optional.of("+1-555-123-4567"));
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+        when(profileRepository.findById(customerId)).thenReturn(Optional.of(existingProfile));
+        var auditCaptor = ArgumentCaptor.forClass(ProfileAudit.class);
+
+        service.updateProfile(customerId.toString(), updateRequest);
+
+        verify(profileRepository).saveAndFlush(existingProfile);
+        verify(auditRepository).save(auditCaptor.capture());
+        assertThat(auditCaptor.getValue().getFieldName()).isEqualTo("address.city");
+        assertThat(auditCaptor.getValue().getOldValue()).isEqualTo("New York");
+        assertThat(auditCaptor.getValue().getNewValue()).isEqualTo("Brooklyn");
+    }
+
+    @Test
+    void shouldRejectPatch_whenExpectedVersionIsStale() {
+        var customerId = UUID.randomUUID();
+        var customer = new Customer("user@example.com", "hash", CustomerStatus.PROFILE_COMPLETE, Instant.now());
+        ReflectionTestUtils.setField(customer, "id", customerId);
+        var existingProfile = createTestProfile(customerId);
+        ReflectionTestUtils.setField(existingProfile, "version", 3L);
+        var updateRequest = new ProfileUpdateRequest(Optional.empty(), Optional.of("+1-555-999-8888"));
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+        when(profileRepository.findById(customerId)).thenReturn(Optional.of(existingProfile));
+
+        assertThatThrownBy(() -> service.updateProfile(customerId.toString(), updateRequest, 2))
+                .isInstanceOf(ProfileVersionMismatchException.class)
+                .hasMessageContaining("version 3");
+        verify(profileRepository, never()).saveAndFlush(any());
+        assertThat(existingProfile.getPhone()).isEqualTo("+1-555-123-4567");
+    }
+
+    @Test
+    void shouldApplyPatch_whenExpectedVersionMatches() {
+        var customerId = UUID.randomUUID();
+        var customer = new Customer("user@example.com", "hash", CustomerStatus.PROFILE_COMPLETE, Instant.now());
+        ReflectionTestUtils.setField(customer, "id", customerId);
+        var existingProfile = createTestProfile(customerId);
+        ReflectionTestUtils.setField(existingProfile, "version", 3L);
+        var updateRequest = new ProfileUpdateRequest(Optional.empty(), Optional.of("+1-555-999-8888"));
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+        when(profileRepository.findById(customerId)).thenReturn(Optional.of(existingProfile));
+
+        var response = service.updateProfile(customerId.toString(), updateRequest, 3);
+
+        verify(profileRepository).saveAndFlush(existingProfile);
+        assertThat(response.phone()).isEqualTo("+1-555-999-8888");
+    }
+
+    @Test
+    void shouldThrowNotFound_whenProbingVersionOfMissingProfile() {
+        var customerId = UUID.randomUUID();
+        when(profileRepository.findVersionById(customerId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getProfileVersion(customerId.toString()))
+                .isInstanceOf(CustomerNotFoundException.class);
+    }
+
+    @Test
+    void shouldSkipEncryptionAndSave_whenCompletedProfileIsResubmittedUnchanged() {
+        var customerId = UUID.randomUUID();
+        var customer = new Customer("user@example.com", "hash", CustomerStatus.PROFILE_COMPLETE, Instant.now());
+        ReflectionTestUtils.setField(customer, "id", customerId);
+        var existingProfile = createTestProfile(customerId);
+        var request = new ProfileRequest(
+                "John",
+                "Doe",
+                java.time.LocalDate.of(1990, 5, 15),
+                "123-45-6789",
+                new AddressDto("123 Main St", "Apt 4B", "New York", "NY", "10001"),
+                "+1-555-123-4567"
+        );
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+        when(profileRepository.findById(customerId)).thenReturn(Optional.of(existingProfile));
+        when(encryptionService.decrypt("encrypted-ssn-data")).thenReturn("123-45-6789");
+
+        var response = service.completeProfile(customerId.toString(), request);
+
+        verify(encryptionService, never()).encrypt(any());
+        verify(profileRepository, never()).save(any());
+        verify(profileRepository, never()).saveAndFlush(any());
+        assertThat(response.firstName()).isEqualTo("John");
+        assertThat(meterRegistry.counter("customer.profile.writes.skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnNextCursor_whenMoreAuditEntriesExist() {
+        var customerId = UUID.randomUUID();
+        var entries = createAuditEntries(3);
+        when(customerRepository.existsById(customerId)).thenReturn(true);
+        when(auditRepository.findLatestEntries(customerId, Limit.of(3))).thenReturn(entries);
+
+        var response = service.getAuditHistory(customerId.toString(), null, 2);
+
+        assertThat(response.entries()).containsExactly(entries.get(0), entries.get(1));
+        assertThat(KeysetCursor.decode(response.nextCursor()))
+                .isEqualTo(new KeysetCursor(entries.get(1).changedAt(), entries.get(1).id()));
+    }
+
+    @Test
+    void shouldOmitNextCursor_whenLastAuditPage() {
+        var customerId = UUID.randomUUID();
+        var entries = createAuditEntries(2);
+        when(customerRepository.existsById(customerId)).thenReturn(true);
+        when(auditRepository.findLatestEntries(customerId, Limit.of(3))).thenReturn(entries);
+
+        var response = service.getAuditHistory(customerId.toString(), null, 2);
+
+        assertThat(response.entries()).isEqualTo(entries);
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldSeekPastCursorPosition_whenCursorProvided() {
+        var customerId = UUID.randomUUID();
+        var cursor = new KeysetCursor(Instant.now(), UUID.randomUUID());
+        when(customerRepository.existsById(customerId)).thenReturn(true);
+
+        service.getAuditHistory(customerId.toString(), cursor.encode(), 50);
+
+        verify(auditRepository).findEntriesBefore(customerId, cursor.position(), cursor.id(), Limit.of(51));
+        verify(auditRepository, never()).findLatestEntries(any(), any());
+    }
+
+    @Test
+    void shouldCapAuditPageSize_whenLimitTooLarge() {
+        var customerId = UUID.randomUUID();
+        when(customerRepository.existsById(customerId)).thenReturn(true);
+
+        service.getAuditHistory(customerId.toString(), null, 10_000);
+
+        verify(auditRepository).findLatestEntries(customerId, Limit.of(501));
+    }
+
+    @Test
+    void shouldThrowCustomerNotFound_whenAuditHistoryRequestedForUnknownCustomer() {
+        var customerId = UUID.randomUUID();
+        when(customerRepository.existsById(customerId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.getAuditHistory(customerId.toString(), null, 50))
+                .isInstanceOf(CustomerNotFoundException.class);
+    }
+
+    @Test
+    void shouldStreamEveryAuditEntry_whenExporting() {
+        var customerId = UUID.randomUUID();
+        var entries = createAuditEntries(3);
+        when(customerRepository.existsById(customerId)).thenReturn(true);
+        when(auditRepository.streamEntries(customerId)).thenReturn(entries.stream());
+        var exported = new ArrayList<ProfileAuditEntry>();
+
+        service.exportAuditHistory(customerId.toString(), exported::add);
+
+        assertThat(exported).isEqualTo(entries);
+    }
+
+    @Test
+    void shouldReturnNextCursor_whenMoreCustomersMatchFilter() {
+        var from = Instant.parse("2026-01-01T00:00:00Z");
+        var to = Instant.parse("2026-01-08T00:00:00Z");
+        var customers = createCustomerSummaries(3);
+        when(customerRepository.findLatestSummaries(CustomerStatus.PENDING_VERIFICATION, from, to, Limit.of(3)))
+                .thenReturn(customers);
+
+        var response = service.listCustomers("PENDING_VERIFICATION", from, to, null, 2);
+
+        assertThat(response.customers()).containsExactly(customers.get(0), customers.get(1));
+        assertThat(KeysetCursor.decode(response.nextCursor()))
+                .isEqualTo(new KeysetCursor(customers.get(1).createdAt(), customers.get(1).customerId()));
+    }
+
+    @Test
+    void shouldSeekPastCursorWithinStatus_whenCursorProvided() {
+        var from = Instant.parse("2026-01-01T00:00:00Z");
+        var cursor = new KeysetCursor(Instant.parse("2026-01-05T00:00:00Z"), UUID.randomUUID());
+
+        service.listCustomers("VERIFIED", from, null, cursor.encode(), 50);
+
+        verify(customerRepository).findSummariesBefore(CustomerStatus.VERIFIED, from, cursor.position(), cursor.id(), Limit.of(51));
+        verify(customerRepository, never()).findLatestSummaries(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldBoundOpenEndedRangeAndCapPageSize_whenDatesOmittedAndLimitTooLarge() {
+        service.listCustomers("SUSPENDED", null, null, null, 10_000);
+
+        verify(customerRepository).findLatestSummaries(
+                eq(CustomerStatus.SUSPENDED), eq(Instant.EPOCH), any(Instant.class), eq(Limit.of(501)));
+    }
+
+    @Test
+    void shouldRejectFilter_whenStatusIsUnknown() {
+        assertThatThrownBy(() -> service.listCustomers("pending", null, null, null, 50))
+                .isInstanceOf(InvalidCustomerFilterException.class)
+                .hasMessageContaining("pending");
+    }
+
+    @Test
+    void shouldRejectFilter_whenDateRangeIsEmpty() {
+        var instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        assertThatThrownBy(() -> service.listCustomers("VERIFIED", instant, instant, null, 50))
+                .isInstanceOf(InvalidCustomerFilterException.class);
+    }
+
+    private List<CustomerSummary> createCustomerSummaries(int count) {
+        var customers = new ArrayList<CustomerSummary>();
+        var createdAt = Instant.parse("2026-01-07T00:00:00Z");
+        for (int i = 0; i < count; i++) {
+            customers.add(new CustomerSummary(
+                    UUID.randomUUID(),
+                    "customer" + i + "@example.com",
+                    CustomerStatus.PENDING_VERIFICATION.name(),
+                    createdAt.minusSeconds(i),
+                    null
+            ));
+        }
+        return customers;
+    }
+
+    private List<ProfileAuditEntry> createAuditEntries(int count) {
+        var entries = new ArrayList<ProfileAuditEntry>();
+        var changedAt = Instant.now();
+        for (int i = 0; i < count; i++) {
+            entries.add(new ProfileAuditEntry(
+                    UUID.randomUUID(),
+                    "phone",
+                    "+1-555-000-000" + i,
+                    "+1-555-000-000" + (i + 1),
+                    changedAt.minusSeconds(i),
+                    UUID.randomUUID()
+            ));
+        }
+        return entries;
+    }
 }
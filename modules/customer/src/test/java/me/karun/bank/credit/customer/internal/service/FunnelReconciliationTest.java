@@ -0,0 +1,56 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import me.karun.bank.credit.customer.internal.repository.FunnelCountRepository;
+import me.karun.bank.credit.customer.internal.repository.ProfileAuditPartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FunnelReconciliationTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    private FunnelCountRepository repository;
+    private ProfileAuditPartitionRepository lockRepository;
+    private CustomerFunnelCounters counters;
+    private FunnelReconciliation reconciliation;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(FunnelCountRepository.class);
+        lockRepository = mock(ProfileAuditPartitionRepository.class);
+        counters = mock(CustomerFunnelCounters.class);
+        reconciliation = new FunnelReconciliation(repository, lockRepository, counters, 35);
+    }
+
+    @Test
+    void shouldFlushRecountAndReload_whenLockIsFree() {
+        when(lockRepository.runExclusively(eq("customer.funnel.reconcile"), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+
+        reconciliation.reconcile(TODAY);
+
+        InOrder inOrder = inOrder(counters, repository);
+        inOrder.verify(counters).flush();
+        inOrder.verify(repository).reconcile(TODAY.minusDays(35));
+        inOrder.verify(counters).reloadTotals();
+    }
+
+    @Test
+    void shouldSkipReconciliation_whenAnotherInstanceHoldsTheLock() {
+        doReturn(false).when(lockRepository).runExclusively(anyString(), any());
+
+        reconciliation.reconcile(TODAY);
+
+        verifyNoInteractions(repository, counters);
+    }
+}
@@ -0,0 +1,38 @@
+package me.karun.bank.credit.customer.internal.service;
+
+import me.karun.bank.credit.customer.api.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void shouldDecodeToSamePosition_whenEncoded() {
+        var cursor = new KeysetCursor(Instant.parse("2025-01-15T10:15:30.123456Z"), UUID.randomUUID());
+
+        var decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldEncodeAsUrlSafeString() {
+        var cursor = new KeysetCursor(Instant.now(), UUID.randomUUID());
+
+        assertThat(cursor.encode()).matches("^[A-Za-z0-9_-]+$");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not-base64!", "bm8tc2VwYXJhdG9y", "bm90LWEtZGF0ZXxub3QtYS11dWlk"})
+    void shouldThrowInvalidCursorException_whenCursorIsMalformed(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
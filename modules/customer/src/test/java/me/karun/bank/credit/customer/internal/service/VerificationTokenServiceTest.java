@@ -1,11 +1,13 @@
 package me.karun.bank.credit.customer.internal.service;
 
 import me.karun.bank.credit.customer.api.CustomerRegisteredEvent;
+import me.karun.bank.credit.customer.api.VerificationTokenIssuedEvent;
 import me.karun.bank.credit.customer.internal.domain.VerificationToken;
 import me.karun.bank.credit.customer.internal.repository.VerificationTokenRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -16,12 +18,14 @@ import static org.mockito.Mockito.*;
 class VerificationTokenServiceTest {
 
     private VerificationTokenRepository tokenRepository;
+    private ApplicationEventPublisher eventPublisher;
     private VerificationTokenService tokenService;
 
     @BeforeEach
     void setUp() {
         tokenRepository = mock(VerificationTokenRepository.class);
-        tokenService = new VerificationTokenService(tokenRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        tokenService = new VerificationTokenService(tokenRepository, eventPublisher);
     }
 
     @Test
@@ -52,4 +56,22 @@ class VerificationTokenServiceTest {
         var expectedExpiryMax = Instant.now().plus(24, java.time.temporal.ChronoUnit.HOURS);
         assertThat(savedToken.getExpiresAt()).isBetween(expectedExpiryMin, expectedExpiryMax);
     }
+
+    @Test
+    void shouldPublishRawTokenMatchingStoredHash_whenTokenIssued() {
+        var customerId = UUID.randomUUID();
+        var event = new CustomerRegisteredEvent(customerId, "test@example.com", Instant.now());
+
+        tokenService.onCustomerRegistered(event);
+
+        var tokenCaptor = ArgumentCaptor.forClass(VerificationToken.class);
+        verify(tokenRepository).save(tokenCaptor.capture());
+        var issuedCaptor = ArgumentCaptor.forClass(VerificationTokenIssuedEvent.class);
+        verify(eventPublisher).publishEvent(issuedCaptor.capture());
+        var issued = issuedCaptor.getValue();
+        assertThat(issued.customerId()).isEqualTo(customerId);
+        assertThat(issued.email()).isEqualTo("test@example.com");
+        assertThat(Integer.toHexString(issued.token().hashCode())).isEqualTo(tokenCaptor.getValue().getTokenHash());
+        assertThat(issued.expiresAt()).isEqualTo(tokenCaptor.getValue().getExpiresAt());
+    }
 }
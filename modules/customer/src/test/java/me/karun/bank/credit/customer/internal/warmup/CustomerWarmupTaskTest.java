@@ -0,0 +1,63 @@
+package me.karun.bank.credit.customer.internal.warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import me.karun.bank.credit.customer.internal.repository.InMemoryCustomerProfileRepository;
+import me.karun.bank.credit.customer.internal.repository.InMemoryCustomerRepository;
+import me.karun.bank.credit.customer.internal.repository.InMemoryProfileAuditRepository;
+import me.karun.bank.credit.customer.internal.repository.InMemoryVerificationTokenRepository;
+import me.karun.bank.credit.customer.internal.service.CustomerServiceImpl;
+import me.karun.bank.credit.customer.web.CustomerController;
+import me.karun.bank.credit.infrastructure.datasource.ReadYourWritesGuard;
+import me.karun.bank.credit.infrastructure.encryption.AwsSecretsManagerEncryptionService;
+import me.karun.bank.credit.infrastructure.encryption.EncryptionService;
+import me.karun.bank.credit.infrastructure.persistence.NoOpTransactionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CustomerWarmupTaskTest {
+
+    private static final int ROUNDS = 20;
+
+    private final EncryptionService encryptionService =
+            spy(new AwsSecretsManagerEncryptionService("MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY="));
+    private final PlatformTransactionManager transactionManager = spy(new NoOpTransactionManager());
+    private final InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+    private final InMemoryProfileAuditRepository audits = new InMemoryProfileAuditRepository();
+
+    @Test
+    void shouldExerciseProfilePaths_andRollBackEveryRound() {
+        var objectMapper = JsonMapper.builder().build();
+        var service = new CustomerServiceImpl(customers, new InMemoryVerificationTokenRepository(),
+                new InMemoryCustomerProfileRepository(customers), audits, new BCryptPasswordEncoder(4), event -> {
+        }, encryptionService, new ReadYourWritesGuard(Duration.ofSeconds(5)), transactionManager,
+                new SimpleMeterRegistry());
+        var task = new CustomerWarmupTask(objectMapper, Validation.buildDefaultValidatorFactory().getValidator(),
+                new CustomerController(service, objectMapper), customers, transactionManager);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                task.run();
+            }
+        }).doesNotThrowAnyException();
+
+        assertThat(customers.count()).isEqualTo(ROUNDS);
+        assertThat(audits.count()).isGreaterThanOrEqualTo(2L * ROUNDS);
+        verify(encryptionService, atLeastOnce()).encrypt(anyString());
+        verify(encryptionService, atLeastOnce()).decrypt(anyString());
+        verify(transactionManager, times(ROUNDS)).rollback(any());
+    }
+}
@@ -0,0 +1,65 @@
+package me.karun.bank.credit.customer.web;
+
+import me.karun.bank.credit.customer.api.AddressDto;
+import me.karun.bank.credit.customer.api.CustomerService;
+import me.karun.bank.credit.customer.api.ProfileResponse;
+import me.karun.bank.credit.customer.api.ProfileVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CustomerControllerTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private CustomerService customerService;
+    private CustomerController controller;
+
+    @BeforeEach
+    void setUp() {
+        customerService = mock(CustomerService.class);
+        controller = new CustomerController(customerService, new ObjectMapper());
+    }
+
+    @Test
+    void shouldReturnNotModified_whenProfileAndStatusAreUnchanged() {
+        when(customerService.getProfile(CUSTOMER_ID.toString())).thenReturn(profile(3, "PROFILE_COMPLETE"));
+        when(customerService.getProfileVersion(CUSTOMER_ID.toString())).thenReturn(new ProfileVersion(3, "PROFILE_COMPLETE"));
+        var etag = controller.getProfile(CUSTOMER_ID.toString(), null).getHeaders().getETag();
+
+        var response = controller.getProfile(CUSTOMER_ID.toString(), etag);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        verify(customerService, times(1)).getProfile(CUSTOMER_ID.toString());
+    }
+
+    @Test
+    void shouldReturnProfileWithNewETag_whenOnlyCustomerStatusChanged() {
+        when(customerService.getProfile(CUSTOMER_ID.toString())).thenReturn(profile(3, "PROFILE_COMPLETE"));
+        var etag = controller.getProfile(CUSTOMER_ID.toString(), null).getHeaders().getETag();
+        // Suspending the customer leaves the profile row, and so its version, untouched
+        when(customerService.getProfileVersion(CUSTOMER_ID.toString())).thenReturn(new ProfileVersion(3, "SUSPENDED"));
+        when(customerService.getProfile(CUSTOMER_ID.toString())).thenReturn(profile(3, "SUSPENDED"));
+
+        var response = controller.getProfile(CUSTOMER_ID.toString(), etag);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(response.getBody().profileStatus()).isEqualTo("SUSPENDED");
+    }
+
+    private static ProfileResponse profile(long version, String status) {
+        return new ProfileResponse(CUSTOMER_ID, "Jane", "Doe", LocalDate.of(1990, 1, 15), "6789",
+                new AddressDto("123 Main St", "Apt 4", "Springfield", "IL", "62701"), "555-0100", status,
+                Instant.now(), version);
+    }
+}
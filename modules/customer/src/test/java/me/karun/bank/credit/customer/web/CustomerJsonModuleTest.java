@@ -0,0 +1,70 @@
+package me.karun.bank.credit.customer.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import me.karun.bank.credit.customer.api.AddressDto;
+import me.karun.bank.credit.customer.api.ProfileResponse;
+import me.karun.bank.credit.customer.api.RegistrationResponse;
+import me.karun.bank.credit.customer.api.VerifyEmailResponse;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerJsonModuleTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("6f1c2a9e-0d4b-4f3e-9a57-1b2c3d4e5f60");
+    private static final Instant NOW = Instant.parse("2025-01-15T10:30:00.123456Z");
+
+    private static final List<Object> RESPONSES = List.of(
+            new RegistrationResponse(CUSTOMER_ID, "test@example.com", "PENDING_VERIFICATION", NOW),
+            new VerifyEmailResponse(CUSTOMER_ID, "test@example.com", "VERIFIED", NOW),
+            new ProfileResponse(CUSTOMER_ID, "John", "O'Brien \"Jr\"", LocalDate.of(1990, 5, 15), "6789",
+                    new AddressDto("123 Main St", "Apt 4B", "Springfield", "IL", "62701"),
+                    "555-0100", "COMPLETE", NOW, 3),
+            new ProfileResponse(CUSTOMER_ID, "Jane", "Doe", LocalDate.of(1985, 1, 1), "1234",
+                    new AddressDto("1 Elm St", null, "Austin", "TX", "73301"),
+                    null, "COMPLETE", null, 0),
+            new ProfileResponse(CUSTOMER_ID, null, null, null, null, null, null, null, null, 0)
+    );
+
+    @Test
+    void shouldWriteSameJsonAsReflectiveSerializers_whenMapperUsesDefaults() {
+        assertParity(JsonMapper.builder());
+    }
+
+    @Test
+    void shouldOmitNullsLikeReflectiveSerializers_whenMapperExcludesNulls() {
+        assertParity(JsonMapper.builder().changeDefaultPropertyInclusion(
+                incl -> incl.withValueInclusion(JsonInclude.Include.NON_NULL)));
+    }
+
+    @Test
+    void shouldDelegateDatesToJackson_whenMapperWritesTimestamps() {
+        assertParity(JsonMapper.builder().enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    @Test
+    void shouldLeaveVersionOutOfProfileBody_whenSerializingProfile() {
+        var mapper = JsonMapper.builder().addModule(new CustomerJsonModule()).build();
+        var json = mapper.writeValueAsString(RESPONSES.get(2));
+
+        assertThat(json).doesNotContain("version");
+    }
+
+    private static void assertParity(JsonMapper.Builder builder) {
+        var reflective = builder.build();
+        var handWritten = builder.addModule(new CustomerJsonModule()).build();
+
+        for (var response : RESPONSES) {
+            assertThat(handWritten.writeValueAsString(response))
+                    .as(response.getClass().getSimpleName())
+                    .isEqualTo(reflective.writeValueAsString(response));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package me.karun.bank.credit.customer.web;
+
+import me.karun.bank.credit.customer.api.ProfileVersionMismatchException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProfileETagTest {
+
+    private static final String COMPLETE = "PROFILE_COMPLETE";
+
+    @Test
+    void shouldQuoteVersionAndStatus() {
+        assertThat(ProfileETag.of(7, COMPLETE)).isEqualTo("\"7-PROFILE_COMPLETE\"");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"7-PROFILE_COMPLETE\"", "W/\"7-PROFILE_COMPLETE\"", "\"6-PROFILE_COMPLETE\", \"7-PROFILE_COMPLETE\"", "*"})
+    void shouldMatch_whenIfNoneMatchListsCurrentVersion(String ifNoneMatch) {
+        assertThat(ProfileETag.matchesAny(ifNoneMatch, ProfileETag.of(7, COMPLETE))).isTrue();
+    }
+
+    @Test
+    void shouldNotMatch_whenIfNoneMatchListsOlderVersion() {
+        assertThat(ProfileETag.matchesAny("\"6-PROFILE_COMPLETE\"", ProfileETag.of(7, COMPLETE))).isFalse();
+    }
+
+    @Test
+    void shouldNotMatch_whenIfNoneMatchListsOtherStatus() {
+        assertThat(ProfileETag.matchesAny("\"7-PROFILE_COMPLETE\"", ProfileETag.of(7, "SUSPENDED"))).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {" \"7-PROFILE_COMPLETE\" ", "\"7-SUSPENDED\"", "\"7\""})
+    void shouldRequireVersion_whenIfMatchIsStrongTag(String ifMatch) {
+        assertThat(ProfileETag.requiredVersion(ifMatch)).hasValue(7);
+    }
+
+    @Test
+    void shouldRequireNothing_whenIfMatchIsWildcard() {
+        assertThat(ProfileETag.requiredVersion("*")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"W/\"7-PROFILE_COMPLETE\"", "7", "\"abc\"", "\"\"", "\"-PROFILE_COMPLETE\""})
+    void shouldRejectIfMatch_whenTagCannotMatchStrongly(String ifMatch) {
+        assertThatThrownBy(() -> ProfileETag.requiredVersion(ifMatch))
+                .isInstanceOf(ProfileVersionMismatchException.class);
+    }
+}
@@ -0,0 +1,32 @@
+package me.karun.bank.credit.customer.internal.repository;
+
+import me.karun.bank.credit.customer.api.ProfileVersion;
+import me.karun.bank.credit.customer.internal.domain.CustomerProfile;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link CustomerProfileRepository} over a map, for benchmarks and unit tests. Versions are not
+ * incremented; statuses come from the given customers.
+ */
+public class InMemoryCustomerProfileRepository extends InMemoryJpaRepository<CustomerProfile, UUID>
+        implements CustomerProfileRepository {
+
+    private final CustomerRepository customers;
+
+    public InMemoryCustomerProfileRepository(CustomerRepository customers) {
+        this.customers = customers;
+    }
+
+    @Override
+    protected UUID idOf(CustomerProfile profile) {
+        return profile.getCustomerId();
+    }
+
+    @Override
+    public Optional<ProfileVersion> findVersionById(UUID customerId) {
+        return findById(customerId).flatMap(profile -> customers.findById(customerId)
+                .map(customer -> new ProfileVersion(profile.getVersion(), customer.getStatus().name())));
+    }
+}
@@ -0,0 +1,63 @@
+package me.karun.bank.credit.customer.internal.repository;
+
+import me.karun.bank.credit.customer.api.CustomerSummary;
+import me.karun.bank.credit.customer.internal.domain.Customer;
+import me.karun.bank.credit.customer.internal.domain.CustomerStatus;
+import me.karun.bank.credit.kernel.id.UuidV7Generator;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * {@link CustomerRepository} over a map, for benchmarks and unit tests. New customers get a
+ * time-ordered id on save, as {@code @TimeOrderedId} gives them on insert.
+ */
+public class InMemoryCustomerRepository extends InMemoryJpaRepository<Customer, UUID>
+        implements CustomerRepository {
+
+    private static final Comparator<Customer> NEWEST_FIRST =
+            Comparator.comparing(Customer::getCreatedAt).thenComparing(Customer::getId).reversed();
+
+    @Override
+    protected UUID idOf(Customer customer) {
+        if (customer.getId() == null) {
+            new DirectFieldAccessor(customer).setPropertyValue("id", UuidV7Generator.generate());
+        }
+        return customer.getId();
+    }
+
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        return entities()
+                .filter(customer -> customer.getEmail().equals(email))
+                .findFirst();
+    }
+
+    @Override
+    public List<CustomerSummary> findLatestSummaries(CustomerStatus status, Instant createdFrom, Instant createdTo, Limit limit) {
+        return summaries(status, createdFrom, customer -> customer.getCreatedAt().isBefore(createdTo), limit);
+    }
+
+    @Override
+    public List<CustomerSummary> findSummariesBefore(CustomerStatus status, Instant createdFrom, Instant createdAt, UUID id, Limit limit) {
+        return summaries(status, createdFrom, customer -> customer.getCreatedAt().isBefore(createdAt)
+                || customer.getCreatedAt().equals(createdAt) && customer.getId().compareTo(id) < 0, limit);
+    }
+
+    private List<CustomerSummary> summaries(CustomerStatus status, Instant createdFrom, Predicate<Customer> before, Limit limit) {
+        return entities()
+                .filter(customer -> customer.getStatus() == status && !customer.getCreatedAt().isBefore(createdFrom))
+                .filter(before)
+                .sorted(NEWEST_FIRST)
+                .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+                .map(customer -> new CustomerSummary(customer.getId(), customer.getEmail(), customer.getStatus().name(),
+                        customer.getCreatedAt(), customer.getVerifiedAt()))
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+package me.karun.bank.credit.customer.internal.repository;
+
+import me.karun.bank.credit.customer.api.ProfileAuditEntry;
+import me.karun.bank.credit.customer.internal.domain.ProfileAudit;
+import me.karun.bank.credit.kernel.id.UuidV7Generator;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * {@link ProfileAuditRepository} over a map, for benchmarks and unit tests. New audits get a
+ * time-ordered id on save, as {@code @TimeOrderedId} gives them on insert.
+ */
+public class InMemoryProfileAuditRepository extends InMemoryJpaRepository<ProfileAudit, UUID>
+        implements ProfileAuditRepository {
+
+    private static final Comparator<ProfileAudit> NEWEST_FIRST =
+            Comparator.comparing(ProfileAudit::getChangedAt).thenComparing(ProfileAudit::getId).reversed();
+
+    @Override
+    protected UUID idOf(ProfileAudit audit) {
+        if (audit.getId() == null) {
+            new DirectFieldAccessor(audit).setPropertyValue("id", UuidV7Generator.generate());
+        }
+        return audit.getId();
+    }
+
+    @Override
+    public List<ProfileAuditEntry> findLatestEntries(UUID customerId, Limit limit) {
+        return limited(streamEntries(customerId), limit);
+    }
+
+    @Override
+    public List<ProfileAuditEntry> findEntriesBefore(UUID customerId, Instant changedAt, UUID id, Limit limit) {
+        return limited(streamEntries(customerId).filter(entry -> entry.changedAt().isBefore(changedAt)
+                || entry.changedAt().equals(changedAt) && entry.id().compareTo(id) < 0), limit);
+    }
+
+    @Override
+    public Stream<ProfileAuditEntry> streamEntries(UUID customerId) {
+        return entities()
+                .filter(audit -> audit.getCustomerId().equals(customerId))
+                .sorted(NEWEST_FIRST)
+                .map(audit -> new ProfileAuditEntry(audit.getId(), audit.getFieldName(), audit.getOldValue(),
+                        audit.getNewValue(), audit.getChangedAt(), audit.getChangedBy()));
+    }
+
+    private static List<ProfileAuditEntry> limited(Stream<ProfileAuditEntry> entries, Limit limit) {
+        return entries.limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE).toList();
+    }
+}
@@ -0,0 +1,44 @@
+package me.karun.bank.credit.customer.internal.repository;
+
+import me.karun.bank.credit.customer.internal.domain.VerificationToken;
+import me.karun.bank.credit.kernel.id.UuidV7Generator;
+import org.springframework.beans.DirectFieldAccessor;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link VerificationTokenRepository} over a map, for benchmarks and unit tests. New tokens get a
+ * time-ordered id on save, as {@code @TimeOrderedId} gives them on insert.
+ */
+public class InMemoryVerificationTokenRepository extends InMemoryJpaRepository<VerificationToken, UUID>
+        implements VerificationTokenRepository {
+
+    @Override
+    protected UUID idOf(VerificationToken token) {
+        if (token.getId() == null) {
+            new DirectFieldAccessor(token).setPropertyValue("id", UuidV7Generator.generate());
+        }
+        return token.getId();
+    }
+
+    @Override
+    public Optional<VerificationToken> findByTokenHash(String tokenHash) {
+        return entities()
+                .filter(token -> token.getTokenHash().equals(tokenHash))
+                .findFirst();
+    }
+
+    @Override
+    public void deleteByCustomerId(UUID customerId) {
+        entities().filter(token -> token.getCustomerId().equals(customerId)).toList().forEach(this::delete);
+    }
+
+    @Override
+    public long countByCustomerIdAndCreatedAtAfter(UUID customerId, Instant after) {
+        return entities()
+                .filter(token -> token.getCustomerId().equals(customerId) && token.getCreatedAt().isAfter(after))
+                .count();
+    }
+}
@@ -1,7 +1,41 @@
+import org.apache.tools.ant.filters.ReplaceTokens
+import org.graalvm.buildtools.gradle.dsl.GraalVMExtension
+
 plugins {
     id("org.springframework.boot")
     id("io.spring.dependency-management")
     id("com.avast.gradle.docker-compose") version "0.17.12"
+    id("org.graalvm.buildtools.native") version "0.11.1" apply false
+}
+
+// Native image: -Pnative adds nativeCompile, nativeRun and nativeSmokeTest (implies Spring AOT)
+val nativeImage = providers.gradleProperty("native").isPresent
+
+// Spring AOT bakes @Conditional decisions in at build time, so it is opt-in: -PspringAot
+val springAot = nativeImage || providers.gradleProperty("springAot").isPresent
+if (springAot) {
+    apply(plugin = "org.springframework.boot.aot")
+}
+
+if (nativeImage) {
+    apply(plugin = "org.graalvm.buildtools.native")
+
+    configure<GraalVMExtension> {
+        binaries.named("main") {
+            imageName.set("api-gateway")
+            buildArgs.add("-H:+ReportExceptionStackTraces")
+        }
+    }
+
+    tasks.register<Exec>("nativeSmokeTest") {
+        group = "native"
+        description = "Starts the native executable against the compose database and exercises the API"
+        dependsOn("nativeCompile", "composeUp")
+        val executable = layout.buildDirectory.file("native/nativeCompile/api-gateway")
+        doFirst {
+            commandLine(rootProject.file("scripts/native/smoke-test.sh").absolutePath, executable.get().asFile.absolutePath)
+        }
+    }
 }
 
 val springdocVersion: String by project
@@ -21,6 +55,9 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
 
+    // Metrics scraped from /actuator/prometheus
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
     // OpenAPI / Swagger
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:$springdocVersion")
 
@@ -37,6 +74,48 @@ springBoot {
     mainClass.set("me.karun.bank.credit.gateway.Application")
 }
 
+// Applies the changelog once, outside the gateway; replicas started with
+// platform.migration.on-startup=verify only check the schema version
+tasks.register<JavaExec>("migrate") {
+    group = "database"
+    description = "Runs the Liquibase changelog against the configured database and exits"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("me.karun.bank.credit.gateway.migration.MigrationApplication")
+}
+
+// OpenAPI document generated at build time by booting only the web layer, so production
+// can serve a static, precompressed copy instead of running springdoc's scan
+val openapi by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+}
+
+val generateOpenApiDocs by tasks.registering(JavaExec::class) {
+    group = "documentation"
+    description = "Generates openapi.json and openapi.json.gz from the controllers"
+    val outputDir = layout.buildDirectory.dir("generated/openapi/openapi")
+    classpath = openapi.runtimeClasspath
+    mainClass.set("me.karun.bank.credit.gateway.openapi.OpenApiDocumentGenerator")
+    javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(25)) })
+    argumentProviders.add(CommandLineArgumentProvider { listOf(outputDir.get().asFile.absolutePath) })
+    inputs.files(openapi.runtimeClasspath)
+    outputs.dir(outputDir)
+}
+
+tasks.register<JavaExec>("measureOpenApiFootprint") {
+    group = "benchmark"
+    description = "Prints the web-layer context's beans, heap and first /v3/api-docs time; pass --args=true|false for springdoc"
+    classpath = openapi.runtimeClasspath
+    mainClass.set("me.karun.bank.credit.gateway.openapi.OpenApiFootprint")
+    javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(25)) })
+}
+
+tasks.bootJar {
+    from(generateOpenApiDocs) {
+        into("BOOT-INF/classes/openapi")
+    }
+}
+
 dockerCompose {
     useComposeFiles.add("../../docker-compose.yml")
     waitForTcpPorts.set(true)
@@ -46,3 +125,55 @@ dockerCompose {
 tasks.named("bootRun") {
     dependsOn("composeUp")
 }
+
+// AOT cache: a training run records loaded/linked classes and profiles into a JDK AOT cache
+// (JEP 483/514) that later starts reuse. ./gradlew :platform:api-gateway:aotBundle [-PspringAot]
+val aotCacheDir = layout.buildDirectory.dir("aot-cache")
+val aotAppDir = aotCacheDir.map { it.dir("app") }
+val aotJavaLauncher = javaToolchains.launcherFor {
+    languageVersion.set(JavaLanguageVersion.of(25))
+}
+val springAotOpts = if (springAot) "-Dspring.aot.enabled=true" else ""
+
+val extractBootJar by tasks.registering(Exec::class) {
+    group = "aot"
+    description = "Extracts the boot jar into a layout the AOT cache can be trained against"
+    val bootJarFile = tasks.bootJar.flatMap { it.archiveFile }
+    inputs.file(bootJarFile)
+    outputs.dir(aotAppDir)
+    doFirst {
+        delete(aotCacheDir)
+        executable = aotJavaLauncher.get().executablePath.asFile.absolutePath
+        args("-Djarmode=tools", "-jar", bootJarFile.get().asFile.absolutePath,
+            "extract", "--destination", aotAppDir.get().asFile.absolutePath)
+    }
+}
+
+val trainAotCache by tasks.registering(Exec::class) {
+    group = "aot"
+    description = "Starts the extracted app until the context refreshes and writes app.aot"
+    dependsOn(extractBootJar, "composeUp")
+    outputs.file(aotAppDir.map { it.file("app.aot") })
+    workingDir(aotAppDir)
+    doFirst {
+        executable = aotJavaLauncher.get().executablePath.asFile.absolutePath
+        args(listOf("-XX:AOTCacheOutput=app.aot", "-Dspring.context.exit=onRefresh", springAotOpts)
+            .filter { it.isNotEmpty() })
+        args("-jar", tasks.bootJar.get().archiveFileName.get())
+    }
+}
+
+val aotBundle by tasks.registering(Zip::class) {
+    group = "aot"
+    description = "Packages the extracted app, its AOT cache and a launcher script"
+    dependsOn(trainAotCache)
+    archiveClassifier.set("aot")
+    from(aotAppDir)
+    from("src/aot") {
+        filter<ReplaceTokens>("tokens" to mapOf(
+            "APP_JAR" to tasks.bootJar.get().archiveFileName.get(),
+            "SPRING_AOT_OPTS" to springAotOpts,
+        ))
+        filePermissions { unix("rwxr-xr-x") }
+    }
+}
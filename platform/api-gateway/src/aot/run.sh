@@ -0,0 +1,7 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Starts the gateway with the AOT cache produced by the training run. The JVM ignores the
+# cache (with a warning) if the JDK or classpath differs from the one used for training.
+cd "$(dirname "$0")"
+exec java -XX:AOTCache=app.aot @SPRING_AOT_OPTS@ ${JAVA_OPTS:-} -jar @APP_JAR@ "$@"
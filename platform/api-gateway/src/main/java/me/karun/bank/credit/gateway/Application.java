@@ -2,12 +2,15 @@ package me.karun.bank.credit.gateway;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import me.karun.bank.credit.gateway.config.GatewayRuntimeHints;
 import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication(scanBasePackages = "me.karun.bank.credit")
 @EntityScan(basePackages = "me.karun.bank.credit")
 @EnableJpaRepositories(basePackages = "me.karun.bank.credit")
+@ImportRuntimeHints(GatewayRuntimeHints.class)
 public class Application {
 
     public static void main(String[] args) {
@@ -0,0 +1,40 @@
+package me.karun.bank.credit.gateway.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.karun.bank.credit.infrastructure.admission.AdaptiveLimiter;
+import me.karun.bank.credit.infrastructure.admission.AdmissionProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "platform.admission", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig {
+
+    @Bean
+    public AdaptiveLimiter adaptiveLimiter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        var limiter = new AdaptiveLimiter(properties);
+        Gauge.builder("admission.limit", limiter, AdaptiveLimiter::limit)
+                .description("Current adaptive concurrency limit for API requests")
+                .register(meterRegistry);
+        Gauge.builder("admission.in.flight", limiter, AdaptiveLimiter::inFlight)
+                .description("API requests currently admitted")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            AdaptiveLimiter limiter, AdmissionProperties properties, MeterRegistry meterRegistry) {
+        var registration = new FilterRegistrationBean<>(new AdmissionControlFilter(limiter, properties, meterRegistry));
+        // Straight after the HTTP observation filter: shed requests stay visible in
+        // http.server.requests but skip everything else
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
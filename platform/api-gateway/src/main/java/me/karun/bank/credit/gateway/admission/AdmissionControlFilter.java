@@ -0,0 +1,167 @@
+package me.karun.bank.credit.gateway.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.karun.bank.credit.infrastructure.admission.AdaptiveLimiter;
+import me.karun.bank.credit.infrastructure.admission.AdaptiveLimiter.Outcome;
+import me.karun.bank.credit.infrastructure.admission.AdmissionProperties;
+import me.karun.bank.credit.infrastructure.admission.Priority;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sheds API requests before they reach a controller once the adaptive limit is reached, answering
+ * with an immediate 503 and Retry-After instead of letting them queue on Tomcat threads.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final byte[] OVERLOADED_BODY = """
+            {"type":"https://api.example.com/errors/overloaded","title":"Service Overloaded","status":503,\
+            "detail":"The service is shedding load; retry after the Retry-After interval"}"""
+            .getBytes(StandardCharsets.UTF_8);
+    private static final String UNMATCHED_ROUTE = "unmatched";
+
+    private final AdaptiveLimiter limiter;
+    private final String pathPrefix;
+    private final String retryAfterSeconds;
+    private final List<MatchedRoute> routes;
+    private final Map<Priority, Counter> rejections = new EnumMap<>(Priority.class);
+
+    public AdmissionControlFilter(AdaptiveLimiter limiter, AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.pathPrefix = properties.pathPrefix();
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.retryAfter().toSeconds()));
+        this.routes = properties.routes().stream().map(MatchedRoute::of).toList();
+        for (var priority : Priority.values()) {
+            rejections.put(priority, Counter.builder("admission.rejected")
+                    .description("Requests shed by the adaptive concurrency limiter")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(pathPrefix);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var priority = priorityOf(request);
+        var permit = limiter.tryAcquire(priority);
+        if (permit.isEmpty()) {
+            rejections.get(priority).increment();
+            reject(response);
+            return;
+        }
+        var failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(permit.get()));
+            } else if (failed) {
+                permit.get().release(UNMATCHED_ROUTE, Outcome.FAILED);
+            } else {
+                permit.get().release(latencyClassOf(request, response), outcomeOf(response));
+            }
+        }
+    }
+
+    Priority priorityOf(HttpServletRequest request) {
+        var path = PathContainer.parsePath(request.getRequestURI());
+        for (var route : routes) {
+            if (route.matches(request.getMethod(), path)) {
+                return route.priority();
+            }
+        }
+        return Priority.NORMAL;
+    }
+
+    /**
+     * Latencies are only comparable within a route and status: a 304 skips the work a 200 does.
+     */
+    static String latencyClassOf(HttpServletRequest request, HttpServletResponse response) {
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : UNMATCHED_ROUTE) + " " + response.getStatus();
+    }
+
+    /**
+     * Only 2xx and 3xx responses are latency samples. A 503 with Retry-After is load a bulkhead or
+     * shared load already shed, so counting it as a failure would cut the limit on our own rejections.
+     */
+    static Outcome outcomeOf(HttpServletResponse response) {
+        var status = response.getStatus();
+        if (status == HttpStatus.SERVICE_UNAVAILABLE.value() && response.containsHeader(HttpHeaders.RETRY_AFTER)) {
+            return Outcome.IGNORED;
+        }
+        if (status >= 500) {
+            return Outcome.FAILED;
+        }
+        return status >= 400 ? Outcome.IGNORED : Outcome.SUCCEEDED;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(OVERLOADED_BODY.length);
+        response.getOutputStream().write(OVERLOADED_BODY);
+    }
+
+    private record MatchedRoute(String method, PathPattern pattern, Priority priority) {
+
+        static MatchedRoute of(AdmissionProperties.Route route) {
+            return new MatchedRoute(route.method(), PathPatternParser.defaultInstance.parse(route.pattern()), route.priority());
+        }
+
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.isBlank() || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+    }
+
+    private record ReleaseOnComplete(AdaptiveLimiter.Permit permit) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            var request = (HttpServletRequest) event.getSuppliedRequest();
+            var response = (HttpServletResponse) event.getSuppliedResponse();
+            permit.release(latencyClassOf(request, response), outcomeOf(response));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.release(UNMATCHED_ROUTE, Outcome.FAILED);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.release(UNMATCHED_ROUTE, Outcome.FAILED);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package me.karun.bank.credit.gateway.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.karun.bank.credit.infrastructure.bulkhead.Bulkhead;
+import me.karun.bank.credit.infrastructure.bulkhead.BulkheadProperties;
+import me.karun.bank.credit.infrastructure.bulkhead.BulkheadRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.webmvc.autoconfigure.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Objects;
+
+@Configuration
+@ConditionalOnProperty(prefix = "platform.bulkhead", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        return new BulkheadRegistry(properties, meterRegistry);
+    }
+
+    @Bean
+    public WebMvcRegistrations bulkheadWebMvcRegistrations(BulkheadRegistry bulkheadRegistry) {
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                return new BulkheadHandlerAdapter(bulkheadRegistry);
+            }
+        };
+    }
+
+    /**
+     * Fails startup, rather than the first request, when a handler names a pool that is not configured.
+     */
+    @Bean
+    public SmartInitializingSingleton bulkheadPoolCheck(ObjectProvider<RequestMappingHandlerMapping> handlerMappings,
+                                                        BulkheadRegistry bulkheadRegistry) {
+        return () -> handlerMappings.orderedStream()
+                .flatMap(mapping -> mapping.getHandlerMethods().values().stream())
+                .map(handlerMethod -> handlerMethod.getMethodAnnotation(Bulkhead.class))
+                .filter(Objects::nonNull)
+                .forEach(bulkhead -> bulkheadRegistry.get(bulkhead.value()));
+    }
+}
@@ -0,0 +1,48 @@
+package me.karun.bank.credit.gateway.bulkhead;
+
+import me.karun.bank.credit.infrastructure.bulkhead.Bulkhead;
+import me.karun.bank.credit.infrastructure.bulkhead.BulkheadExecutor;
+import me.karun.bank.credit.infrastructure.bulkhead.BulkheadRegistry;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+
+/**
+ * Invokes {@link Bulkhead @Bulkhead} handlers as a {@link WebAsyncTask} on their bulkhead's
+ * executor, so the container thread is released straight away and the response is written on the
+ * async dispatch. Argument resolution, validation included, still happens on the container thread.
+ */
+class BulkheadHandlerAdapter extends RequestMappingHandlerAdapter {
+
+    private final BulkheadRegistry bulkheads;
+
+    BulkheadHandlerAdapter(BulkheadRegistry bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+        var bulkhead = handlerMethod.getMethodAnnotation(Bulkhead.class);
+        if (bulkhead == null) {
+            return super.createInvocableHandlerMethod(handlerMethod);
+        }
+        return new BulkheadInvocableHandlerMethod(handlerMethod, bulkheads.get(bulkhead.value()));
+    }
+
+    private static final class BulkheadInvocableHandlerMethod extends ServletInvocableHandlerMethod {
+
+        private final BulkheadExecutor bulkhead;
+
+        BulkheadInvocableHandlerMethod(HandlerMethod handlerMethod, BulkheadExecutor bulkhead) {
+            super(handlerMethod);
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        protected Object doInvoke(Object... args) {
+            bulkhead.acquire();
+            return new WebAsyncTask<>(bulkhead.timeout().toMillis(), bulkhead, () -> super.doInvoke(args));
+        }
+    }
+}
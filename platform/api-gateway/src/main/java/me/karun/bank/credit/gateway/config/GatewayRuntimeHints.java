@@ -0,0 +1,17 @@
+package me.karun.bank.credit.gateway.config;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native-image hints for resources and annotations read at runtime: the Liquibase
+ * changelogs and the springdoc {@code @OpenAPIDefinition} on {@link OpenApiConfig}.
+ */
+public class GatewayRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("db/changelog/*.xml");
+        hints.reflection().registerType(OpenApiConfig.class);
+    }
+}
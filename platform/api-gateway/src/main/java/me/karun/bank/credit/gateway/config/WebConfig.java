@@ -0,0 +1,31 @@
+package me.karun.bank.credit.gateway.config;
+
+import me.karun.bank.credit.gateway.observability.QueryAttributionInterceptor;
+import me.karun.bank.credit.gateway.warmup.FirstMinuteLatencyInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final QueryAttributionInterceptor queryAttribution = new QueryAttributionInterceptor();
+    private final ObjectProvider<FirstMinuteLatencyInterceptor> firstMinuteLatency;
+
+    public WebConfig(ObjectProvider<FirstMinuteLatencyInterceptor> firstMinuteLatency) {
+        this.firstMinuteLatency = firstMinuteLatency;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryAttribution);
+        firstMinuteLatency.ifAvailable(registry::addInterceptor);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(queryAttribution);
+    }
+}
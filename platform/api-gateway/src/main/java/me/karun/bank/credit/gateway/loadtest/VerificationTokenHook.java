@@ -0,0 +1,57 @@
+package me.karun.bank.credit.gateway.loadtest;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import me.karun.bank.credit.customer.api.VerificationTokenIssuedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hands raw verification tokens to the load generator, which cannot read them from email.
+ * Each token can be fetched once; unclaimed tokens beyond {@value #MAX_TOKENS} are dropped oldest
+ * first. Off unless {@code platform.load-test.token-hook=true}, and never to be enabled where
+ * real customers register.
+ */
+@Hidden
+@RestController
+@RequestMapping("/test-hooks/verification-tokens")
+@ConditionalOnProperty(prefix = "platform.load-test", name = "token-hook", havingValue = "true")
+public class VerificationTokenHook {
+
+    private static final Logger log = LoggerFactory.getLogger(VerificationTokenHook.class);
+    private static final int MAX_TOKENS = 100_000;
+
+    private final Map<String, String> tokensByEmail = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_TOKENS;
+        }
+    });
+
+    public VerificationTokenHook() {
+        log.warn("Verification token hook is enabled; raw tokens are served from /test-hooks/verification-tokens");
+    }
+
+    @EventListener
+    public void onTokenIssued(VerificationTokenIssuedEvent event) {
+        tokensByEmail.put(event.email(), event.token());
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, String>> claim(@RequestParam String email) {
+        var token = tokensByEmail.remove(email.toLowerCase());
+        return token == null
+                ? ResponseEntity.notFound().build()
+                : ResponseEntity.ok(Map.of("token", token));
+    }
+}
@@ -0,0 +1,61 @@
+package me.karun.bank.credit.gateway.migration;
+
+import me.karun.bank.credit.infrastructure.migration.MigrationConfig;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Applies the Liquibase changelog and exits. Run once per deploy (a Kubernetes Job or pipeline
+ * step) ahead of the gateway replicas, which then only verify the schema version at boot:
+ *
+ * <pre>
+ * java -Dloader.main=me.karun.bank.credit.gateway.migration.MigrationApplication \
+ *      -cp api-gateway.jar org.springframework.boot.loader.launch.PropertiesLauncher
+ * </pre>
+ *
+ * Deliberately not a {@code @Configuration}, so the gateway's component scan does not pick it up.
+ */
+@ImportAutoConfiguration(DataSourceAutoConfiguration.class)
+@Import(MigrationConfig.class)
+public class MigrationApplication {
+
+    private static final String ON_STARTUP = "platform.migration.on-startup";
+
+    public static void main(String[] args) {
+        var context = new SpringApplicationBuilder(MigrationApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(migrationArgs(args));
+        System.exit(SpringApplication.exit(context));
+    }
+
+    // Command-line arguments win over profile files such as prod, which only verify. A mode passed
+    // by the caller is dropped: Spring would join both values into one that is not a mode.
+    static String[] migrationArgs(String[] args) {
+        return Stream.concat(
+                        Arrays.stream(args).filter(arg -> !isOnStartupOption(arg)),
+                        Stream.of("--" + ON_STARTUP + "=migrate"))
+                .toArray(String[]::new);
+    }
+
+    // Relaxed binding also reads onStartup and on_startup as the same property
+    private static boolean isOnStartupOption(String arg) {
+        if (!arg.startsWith("--")) {
+            return false;
+        }
+        var separator = arg.indexOf('=');
+        var name = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+        return canonical(name).equals(canonical(ON_STARTUP));
+    }
+
+    private static String canonical(String name) {
+        return name.replace("-", "").replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
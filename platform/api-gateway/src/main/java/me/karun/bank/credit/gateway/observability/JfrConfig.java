@@ -0,0 +1,24 @@
+package me.karun.bank.credit.gateway.observability;
+
+import me.karun.bank.credit.infrastructure.jfr.JfrProperties;
+import me.karun.bank.credit.infrastructure.jfr.RecentEvents;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "platform.jfr", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(JfrProperties.class)
+public class JfrConfig {
+
+    @Bean
+    public RecentEvents recentEvents(JfrProperties properties) {
+        return new RecentEvents(properties);
+    }
+
+    @Bean
+    public JfrEventsEndpoint jfrEventsEndpoint(RecentEvents recentEvents) {
+        return new JfrEventsEndpoint(recentEvents);
+    }
+}
@@ -0,0 +1,29 @@
+package me.karun.bank.credit.gateway.observability;
+
+import me.karun.bank.credit.infrastructure.jfr.RecentEvents;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Lists the most recent domain JFR events, newest first, optionally filtered by event name
+ * (for example {@code ?name=Encryption}).
+ */
+@Endpoint(id = "jfrevents")
+public class JfrEventsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final RecentEvents recentEvents;
+
+    public JfrEventsEndpoint(RecentEvents recentEvents) {
+        this.recentEvents = recentEvents;
+    }
+
+    @ReadOperation
+    public List<RecentEvents.Event> recentEvents(@Nullable String name, @Nullable Integer limit) {
+        return recentEvents.latest(name, limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,67 @@
+package me.karun.bank.credit.gateway.observability;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.karun.bank.credit.infrastructure.jdbc.QueryAttribution;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Tags queries with the endpoint being served, on the container thread and, for handlers that
+ * run asynchronously (bulkheads, streaming responses), on the thread executing the handler.
+ */
+public class QueryAttributionInterceptor implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = QueryAttributionInterceptor.class.getName() + ".scope";
+    private static final String ASYNC_SCOPE_ATTRIBUTE = QueryAttributionInterceptor.class.getName() + ".asyncScope";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(SCOPE_ATTRIBUTE, QueryAttribution.withEndpoint(endpoint(request)));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        closeScope(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        closeScope(request);
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        var servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        if (servletRequest != null) {
+            request.setAttribute(ASYNC_SCOPE_ATTRIBUTE, QueryAttribution.withEndpoint(endpoint(servletRequest)),
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        if (request.getAttribute(ASYNC_SCOPE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof QueryAttribution.Scope scope) {
+            request.removeAttribute(ASYNC_SCOPE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            scope.close();
+        }
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+    }
+
+    private void closeScope(HttpServletRequest request) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryAttribution.Scope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+}
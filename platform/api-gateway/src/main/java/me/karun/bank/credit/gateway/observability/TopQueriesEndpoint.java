@@ -0,0 +1,107 @@
+package me.karun.bank.credit.gateway.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import me.karun.bank.credit.infrastructure.jdbc.QueryMetricsListener;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lists query shapes by total time spent, broken down by endpoint and service operation.
+ *
+ * <p>Percentiles are interpolated within the {@code db.query} histogram buckets, so they are
+ * estimates whose error is bounded by the width of the bucket they fall in.
+ */
+@Component
+@Endpoint(id = "topqueries")
+public class TopQueriesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final MeterRegistry meterRegistry;
+
+    public TopQueriesEndpoint(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ReadOperation
+    public List<QueryStats> topQueries(@Nullable Integer limit) {
+        return meterRegistry.find(QueryMetricsListener.QUERY_TIMER).timers().stream()
+                .map(this::toStats)
+                .sorted(Comparator.comparingDouble(QueryStats::totalTimeMs).reversed())
+                .limit(limit != null ? limit : DEFAULT_LIMIT)
+                .toList();
+    }
+
+    private QueryStats toStats(Timer timer) {
+        var id = timer.getId();
+        var snapshot = timer.takeSnapshot();
+        var rows = meterRegistry.find(QueryMetricsListener.ROWS_SUMMARY)
+                .tag("query", id.getTag("query"))
+                .tag("endpoint", id.getTag("endpoint"))
+                .tag("operation", id.getTag("operation"))
+                .summaries().stream()
+                .mapToDouble(DistributionSummary::totalAmount)
+                .sum();
+        return new QueryStats(
+                id.getTag("query"),
+                id.getTag("endpoint"),
+                id.getTag("operation"),
+                id.getTag("outcome"),
+                snapshot.count(),
+                snapshot.total(TimeUnit.MILLISECONDS),
+                snapshot.mean(TimeUnit.MILLISECONDS),
+                percentile(snapshot, 0.5),
+                percentile(snapshot, 0.99),
+                snapshot.max(TimeUnit.MILLISECONDS),
+                (long) rows
+        );
+    }
+
+    // Bucket counts are cumulative; a percentile beyond the last bucket is reported as the larger of
+    // that bucket's bound and the recent max, which falls back to zero once the timer goes quiet
+    private static double percentile(HistogramSnapshot snapshot, double percentile) {
+        // Registries that cannot aggregate percentiles, such as the simple one, keep no buckets
+        if (snapshot.count() == 0 || snapshot.histogramCounts().length == 0) {
+            return Double.NaN;
+        }
+        var rank = percentile * snapshot.count();
+        var lowerBound = 0.0;
+        var lowerCount = 0.0;
+        for (var bucket : snapshot.histogramCounts()) {
+            var upperBound = bucket.bucket(TimeUnit.MILLISECONDS);
+            if (bucket.count() >= rank && !Double.isInfinite(upperBound)) {
+                var inBucket = bucket.count() - lowerCount;
+                return inBucket == 0
+                        ? upperBound
+                        : lowerBound + (upperBound - lowerBound) * (rank - lowerCount) / inBucket;
+            }
+            lowerBound = upperBound;
+            lowerCount = bucket.count();
+        }
+        return Math.max(lowerBound, snapshot.max(TimeUnit.MILLISECONDS));
+    }
+
+    public record QueryStats(
+            String query,
+            String endpoint,
+            String operation,
+            String outcome,
+            long count,
+            double totalTimeMs,
+            double meanMs,
+            double p50Ms,
+            double p99Ms,
+            double maxMs,
+            long rows
+    ) {
+    }
+}
@@ -0,0 +1,72 @@
+package me.karun.bank.credit.gateway.openapi;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Serves the OpenAPI document generated at build time when runtime springdoc scanning is
+ * disabled. The gzip variant is sent as-is to clients that accept it.
+ */
+@Hidden
+@RestController
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "false")
+@ConditionalOnResource(resources = OpenApiDocumentController.DOCUMENT)
+public class OpenApiDocumentController {
+
+    static final String DOCUMENT = "classpath:openapi/openapi.json";
+
+    private final byte[] document;
+    private final byte[] gzippedDocument;
+    private final String etag;
+    private final String gzippedEtag;
+
+    public OpenApiDocumentController() {
+        this.document = read("openapi/openapi.json");
+        this.gzippedDocument = read("openapi/openapi.json.gz");
+        var digest = DigestUtils.md5DigestAsHex(document);
+        this.etag = "\"" + digest + "\"";
+        this.gzippedEtag = "\"" + digest + "-gzip\"";
+    }
+
+    @GetMapping(value = "${springdoc.api-docs.path:/v3/api-docs}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> document(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        var gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        var variantEtag = gzip ? gzippedEtag : etag;
+        if (request.checkNotModified(variantEtag)) {
+            return null;
+        }
+        var response = ResponseEntity.ok()
+                .eTag(variantEtag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzippedDocument);
+        }
+        return response.body(document);
+    }
+
+    private static byte[] read(String path) {
+        try (var input = new ClassPathResource(path).getInputStream()) {
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
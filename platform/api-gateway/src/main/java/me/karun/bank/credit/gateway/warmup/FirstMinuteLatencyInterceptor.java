@@ -0,0 +1,66 @@
+package me.karun.bank.credit.gateway.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times requests handled during a window that opens once warm-up completes, so the latency real
+ * traffic sees right after readiness flips can be compared across releases.
+ */
+public class FirstMinuteLatencyInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = FirstMinuteLatencyInterceptor.class.getName() + ".start";
+    private static final double P99 = 0.99;
+
+    private final Timer timer;
+    private volatile long windowStart;
+    private volatile long windowEnd;
+
+    public FirstMinuteLatencyInterceptor(MeterRegistry meterRegistry) {
+        this.timer = Timer.builder("warmup.first.minute.requests")
+                .description("Request latency in the window after JIT warm-up completed")
+                .publishPercentiles(P99)
+                .register(meterRegistry);
+    }
+
+    void open(Duration window) {
+        windowStart = System.nanoTime();
+        windowEnd = windowStart + window.toNanos();
+    }
+
+    long requests() {
+        return timer.count();
+    }
+
+    Duration p99() {
+        return Arrays.stream(timer.takeSnapshot().percentileValues())
+                .filter(percentile -> percentile.percentile() == P99)
+                .findFirst()
+                .map(percentile -> Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS)))
+                .orElse(Duration.ZERO);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        var now = System.nanoTime();
+        // The attribute survives the async dispatch of bulkheaded handlers, so time from the first dispatch
+        if (windowStart != 0 && now - windowEnd < 0 && request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, now);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package me.karun.bank.credit.gateway.warmup;
+
+import me.karun.bank.credit.infrastructure.warmup.WarmupProperties;
+import me.karun.bank.credit.infrastructure.warmup.WarmupResult;
+import me.karun.bank.credit.infrastructure.warmup.WarmupRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.time.Duration;
+
+/**
+ * Warms the JIT on a background thread once the application has started. The warmup health
+ * indicator keeps the readiness probe out of service until this completes, then the latency of
+ * the first real requests is measured.
+ */
+public class ReadinessWarmup implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadinessWarmup.class);
+
+    private final WarmupRunner runner;
+    private final WarmupProperties properties;
+    private final FirstMinuteLatencyInterceptor firstMinuteLatency;
+    private volatile WarmupResult result;
+    private volatile Duration firstMinuteP99;
+
+    public ReadinessWarmup(WarmupRunner runner, WarmupProperties properties,
+                           FirstMinuteLatencyInterceptor firstMinuteLatency) {
+        this.runner = runner;
+        this.properties = properties;
+        this.firstMinuteLatency = firstMinuteLatency;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        var thread = new Thread(this::warmUp, "jit-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public WarmupResult result() {
+        return result;
+    }
+
+    public long iterations() {
+        return runner.iterations();
+    }
+
+    public Duration firstMinuteP99() {
+        return firstMinuteP99;
+    }
+
+    private void warmUp() {
+        result = runner.run();
+        firstMinuteLatency.open(properties.latencyWindow());
+        try {
+            Thread.sleep(properties.latencyWindow().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        firstMinuteP99 = firstMinuteLatency.p99();
+        log.info("First {} s after warm-up: {} requests, p99 {} ms", properties.latencyWindow().toSeconds(),
+                firstMinuteLatency.requests(), firstMinuteP99.toMillis());
+    }
+}
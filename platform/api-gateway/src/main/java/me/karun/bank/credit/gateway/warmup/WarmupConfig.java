@@ -0,0 +1,41 @@
+package me.karun.bank.credit.gateway.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import me.karun.bank.credit.infrastructure.warmup.WarmupProperties;
+import me.karun.bank.credit.infrastructure.warmup.WarmupRunner;
+import me.karun.bank.credit.infrastructure.warmup.WarmupTask;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnProperty(prefix = "platform.warmup", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+
+    @Bean
+    public FirstMinuteLatencyInterceptor firstMinuteLatencyInterceptor(MeterRegistry meterRegistry) {
+        return new FirstMinuteLatencyInterceptor(meterRegistry);
+    }
+
+    @Bean
+    public ReadinessWarmup readinessWarmup(List<WarmupTask> tasks, WarmupProperties properties,
+                                           FirstMinuteLatencyInterceptor firstMinuteLatency, MeterRegistry meterRegistry) {
+        var warmup = new ReadinessWarmup(new WarmupRunner(tasks, properties), properties, firstMinuteLatency);
+        TimeGauge.builder("warmup.duration", warmup, TimeUnit.MILLISECONDS,
+                        w -> w.result() == null ? 0 : w.result().duration().toMillis())
+                .description("Time spent warming the JIT before readiness")
+                .register(meterRegistry);
+        return warmup;
+    }
+
+    @Bean
+    public WarmupHealthIndicator warmupHealthIndicator(ReadinessWarmup readinessWarmup) {
+        return new WarmupHealthIndicator(readinessWarmup);
+    }
+}
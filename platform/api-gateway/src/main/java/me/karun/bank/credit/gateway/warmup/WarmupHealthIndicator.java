@@ -0,0 +1,31 @@
+package me.karun.bank.credit.gateway.warmup;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final ReadinessWarmup warmup;
+
+    public WarmupHealthIndicator(ReadinessWarmup warmup) {
+        this.warmup = warmup;
+    }
+
+    @Override
+    public Health health() {
+        var result = warmup.result();
+        if (result == null) {
+            return Health.outOfService().withDetail("iterations", warmup.iterations()).build();
+        }
+        var health = Health.up()
+                .withDetail("outcome", result.outcome())
+                .withDetail("iterations", result.iterations())
+                .withDetail("failures", result.failures())
+                .withDetail("durationMs", result.duration().toMillis());
+        var firstMinuteP99 = warmup.firstMinuteP99();
+        if (firstMinuteP99 != null) {
+            health.withDetail("firstMinuteP99Ms", firstMinuteP99.toMillis());
+        }
+        return health.build();
+    }
+}
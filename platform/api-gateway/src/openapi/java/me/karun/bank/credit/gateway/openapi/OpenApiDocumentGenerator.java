@@ -0,0 +1,135 @@
+package me.karun.bank.credit.gateway.openapi;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import me.karun.bank.credit.customer.api.CustomerFunnelService;
+import me.karun.bank.credit.customer.api.CustomerService;
+import me.karun.bank.credit.customer.web.CustomerController;
+import me.karun.bank.credit.customer.web.CustomerExceptionHandler;
+import me.karun.bank.credit.customer.web.CustomerFunnelController;
+import me.karun.bank.credit.gateway.config.OpenApiConfig;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Boots only the web layer (controllers, advice and {@link OpenApiConfig}) with service
+ * stubs, fetches the springdoc document once, and writes {@code openapi.json} and its gzip
+ * to the directory given as the first argument. Fails instead if a {@code @RestController} the
+ * application scans, other than a {@link Hidden @Hidden} one, has a path missing from the document.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(excludeName = {
+        "org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration",
+        "org.springframework.boot.hibernate.autoconfigure.HibernateJpaAutoConfiguration",
+        "org.springframework.boot.data.jpa.autoconfigure.DataJpaRepositoriesAutoConfiguration"
+})
+@Import({OpenApiConfig.class, CustomerController.class, CustomerFunnelController.class, CustomerExceptionHandler.class})
+public class OpenApiDocumentGenerator {
+
+    static final String DOCUMENT = "openapi.json";
+    // The application's component scan
+    private static final String BASE_PACKAGE = "me.karun.bank.credit";
+
+    @Bean
+    CustomerService customerService() {
+        return unavailable(CustomerService.class);
+    }
+
+    @Bean
+    CustomerFunnelService customerFunnelService() {
+        return unavailable(CustomerFunnelService.class);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var outputDirectory = Files.createDirectories(Path.of(args[0]));
+        var application = new SpringApplication(OpenApiDocumentGenerator.class);
+        try (var context = application.run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--springdoc.api-docs.enabled=true",
+                "--management.endpoints.access.default=none")) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var document = fetch(URI.create("http://localhost:" + port + "/v3/api-docs"));
+            verifyDocumented(context.getBean(ObjectMapper.class), document);
+            Files.write(outputDirectory.resolve(DOCUMENT), document);
+            try (var gzip = new GZIPOutputStream(Files.newOutputStream(outputDirectory.resolve(DOCUMENT + ".gz")))) {
+                gzip.write(document);
+            }
+        }
+    }
+
+    static byte[] fetch(URI uri) throws IOException, InterruptedException {
+        var response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + uri + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static void verifyDocumented(ObjectMapper objectMapper, byte[] document) {
+        var paths = objectMapper.readTree(document).path("paths");
+        var missing = new TreeSet<String>();
+        var scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
+        scanner.addExcludeFilter(new AnnotationTypeFilter(Hidden.class));
+        for (var candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            var controller = ClassUtils.resolveClassName(candidate.getBeanClassName(), OpenApiDocumentGenerator.class.getClassLoader());
+            mappedPaths(controller)
+                    .filter(path -> !paths.has(path))
+                    .forEach(path -> missing.add(controller.getSimpleName() + " " + path));
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Controllers missing from the OpenAPI document; import them in "
+                    + OpenApiDocumentGenerator.class.getSimpleName() + ": " + missing);
+        }
+    }
+
+    private static Stream<String> mappedPaths(Class<?> controller) {
+        var prefixes = paths(AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class));
+        return Arrays.stream(controller.getMethods())
+                .map(method -> AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class))
+                .filter(mapping -> mapping != null)
+                .flatMap(mapping -> paths(mapping).stream())
+                .flatMap(path -> prefixes.stream().map(prefix -> prefix + path));
+    }
+
+    private static List<String> paths(RequestMapping mapping) {
+        return mapping == null || mapping.path().length == 0 ? List.of("") : List.of(mapping.path());
+    }
+
+    private static <T> T unavailable(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "toString" -> "unavailable " + type.getSimpleName();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(
+                            type.getSimpleName() + " is not available while generating the OpenAPI document");
+                }));
+    }
+}
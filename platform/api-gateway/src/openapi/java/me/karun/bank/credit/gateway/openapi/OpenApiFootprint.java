@@ -0,0 +1,48 @@
+package me.karun.bank.credit.gateway.openapi;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * Boots the same web-layer context as {@link OpenApiDocumentGenerator}, with springdoc on or off
+ * as the first argument says, and prints one line: the bean count, the heap still used after a
+ * full GC in MB, and with springdoc on, how long the first {@code /v3/api-docs} request takes in
+ * ms. Run it once per JVM; {@code scripts/benchmarks/openapi-footprint.sh} compares both modes.
+ */
+public final class OpenApiFootprint {
+
+    private OpenApiFootprint() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var springdoc = Boolean.parseBoolean(args[0]);
+        var application = new SpringApplication(OpenApiDocumentGenerator.class);
+        application.setLogStartupInfo(false);
+        try (var context = application.run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=warn",
+                // As the prod profile sets them
+                "--springdoc.api-docs.enabled=" + springdoc,
+                "--springdoc.swagger-ui.enabled=" + springdoc,
+                "--management.endpoints.access.default=none")) {
+            var firstRequest = "-";
+            if (springdoc) {
+                var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                var started = System.nanoTime();
+                OpenApiDocumentGenerator.fetch(URI.create("http://localhost:" + port + "/v3/api-docs"));
+                firstRequest = String.valueOf((System.nanoTime() - started) / 1_000_000);
+            }
+            // After the request, so the heap includes the document springdoc keeps cached
+            var memory = ManagementFactory.getMemoryMXBean();
+            memory.gc();
+            var heapMb = memory.getHeapMemoryUsage().getUsed() / (1024.0 * 1024.0);
+            System.out.printf(Locale.ROOT, "%d %.1f %s%n", context.getBeanDefinitionCount(), heapMb, firstRequest);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Compares the native executable with the JVM boot jar: time until /actuator/health answers,
+# resident memory once healthy, and resident memory after a burst of registrations.
+# Requires the docker-compose database.
+#
+# Usage: ./gradlew :platform:api-gateway:bootJar
+#        ./gradlew -Pnative :platform:api-gateway:nativeCompile
+#        scripts/benchmarks/native-vs-jvm.sh [requests]
+
+REQUESTS="${1:-500}"
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+BUILD="$ROOT/platform/api-gateway/build"
+BOOT_JAR="$(ls "$BUILD"/libs/api-gateway-*.jar | grep -v plain | head -1)"
+NATIVE="$BUILD/native/nativeCompile/api-gateway"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+
+now_ms() {
+    date +%s%3N
+}
+
+rss_mb() {
+    echo $(( $(ps -o rss= -p "$1") / 1024 ))
+}
+
+measure() {
+    local name=$1 pid started ready idle_rss loaded_rss
+    shift
+    started=$(now_ms)
+    "$@" >/dev/null 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$BASE_URL/actuator/health"; do
+        kill -0 "$pid" 2>/dev/null || { echo "$name exited during startup" >&2; exit 1; }
+        sleep 0.01
+    done
+    ready=$(( $(now_ms) - started ))
+    idle_rss=$(rss_mb "$pid")
+    for ((i = 0; i < REQUESTS; i++)); do
+        curl -s -o /dev/null -X POST "$BASE_URL/api/v1/customers" -H 'Content-Type: application/json' \
+            -d "{\"email\":\"bench-$name-$started-$i@example.com\",\"password\":\"SecurePass123!\"}"
+    done
+    loaded_rss=$(rss_mb "$pid")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    printf "%-8s %16s %14s %22s\n" "$name" "$ready" "$idle_rss" "$loaded_rss"
+}
+
+[[ -x "$NATIVE" ]] || { echo "Native executable not found; run ./gradlew -Pnative :platform:api-gateway:nativeCompile" >&2; exit 1; }
+
+printf "%-8s %16s %14s %22s\n" "build" "ready (ms)" "idle RSS (MB)" "RSS after $REQUESTS (MB)"
+measure jvm java -jar "$BOOT_JAR"
+measure native "$NATIVE"
@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Measures what turning springdoc off (as the prod profile does) saves on the web-layer-only
+# context that generateOpenApiDocs boots: bean count, heap still used after a full GC, and the
+# time the first /v3/api-docs request spends generating the document. Each run is a fresh JVM.
+# Needs no database.
+#
+# Usage: scripts/benchmarks/openapi-footprint.sh [runs]
+
+RUNS="${1:-3}"
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+GRADLE="${GRADLE:-$ROOT/gradlew}"
+
+"$GRADLE" -p "$ROOT" -q :platform:api-gateway:openapiClasses
+
+measure() {
+    "$GRADLE" -p "$ROOT" -q :platform:api-gateway:measureOpenApiFootprint --args="$1" | tail -1
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+run_mode() {
+    local name=$1 springdoc=$2
+    local beans=() heaps=() first_requests=()
+    for ((i = 1; i <= RUNS; i++)); do
+        read -r bean_count heap first_request < <(measure "$springdoc")
+        beans+=("$bean_count")
+        heaps+=("$heap")
+        first_requests+=("$first_request")
+    done
+    printf "%-12s %8s %18s %22s\n" "$name" \
+        "$(printf '%s\n' "${beans[@]}" | median)" \
+        "$(printf '%s\n' "${heaps[@]}" | median)" \
+        "$(if [[ "$springdoc" == true ]]; then printf '%s\n' "${first_requests[@]}" | median; else echo "-"; fi)"
+}
+
+echo "Median of $RUNS runs"
+printf "%-12s %8s %18s %22s\n" "springdoc" "beans" "heap after GC (MB)" "first request (ms)"
+run_mode "on" true
+run_mode "off" false
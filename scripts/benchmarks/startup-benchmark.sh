@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Measures api-gateway startup time (as logged by Spring) and time-to-first-request
+# (process launch until /actuator/health answers) for the plain boot jar, the extracted
+# jar, and the extracted jar with its AOT cache. Requires the docker-compose database.
+#
+# Usage: ./gradlew :platform:api-gateway:aotBundle [-PspringAot]
+#        scripts/benchmarks/startup-benchmark.sh [runs]
+
+RUNS="${1:-5}"
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+BUILD="$ROOT/platform/api-gateway/build"
+APP_DIR="$BUILD/aot-cache/app"
+BOOT_JAR="$(ls "$BUILD"/libs/api-gateway-*.jar | grep -v plain | head -1)"
+EXTRACTED_JAR="$APP_DIR/$(basename "$BOOT_JAR")"
+HEALTH_URL="${HEALTH_URL:-http://localhost:8080/actuator/health}"
+LOG="$(mktemp)"
+trap 'rm -f "$LOG"' EXIT
+
+if [[ ! -f "$APP_DIR/app.aot" ]]; then
+    echo "No AOT cache found; run ./gradlew :platform:api-gateway:aotBundle first" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+measure() {
+    local started pid first_request startup
+    started=$(now_ms)
+    "$@" >"$LOG" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$HEALTH_URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited during startup:" >&2
+            cat "$LOG" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    first_request=$(( $(now_ms) - started ))
+    startup=$(grep -oE 'Started Application in [0-9.]+ seconds' "$LOG" | grep -oE '[0-9.]+' | head -1)
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$startup $first_request"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+run_mode() {
+    local name=$1
+    shift
+    local startups=() first_requests=()
+    for ((i = 1; i <= RUNS; i++)); do
+        read -r startup first_request < <(measure "$@")
+        startups+=("$startup")
+        first_requests+=("$first_request")
+    done
+    printf "%-12s %14s %22s\n" "$name" \
+        "$(printf '%s\n' "${startups[@]}" | median)" \
+        "$(printf '%s\n' "${first_requests[@]}" | median)"
+}
+
+SPRING_AOT_OPTS=()
+if unzip -l "$BOOT_JAR" | grep -q '__ApplicationContextInitializer'; then
+    SPRING_AOT_OPTS=(-Dspring.aot.enabled=true)
+fi
+
+echo "Median of $RUNS runs"
+printf "%-12s %14s %22s\n" "mode" "startup (s)" "first request (ms)"
+run_mode "jar" java -jar "$BOOT_JAR"
+# The AOT cache is only used when the classpath matches training, so run from the same directory
+run_mode "extracted" bash -c "cd '$APP_DIR' && exec java -jar '$(basename "$EXTRACTED_JAR")'"
+run_mode "aot-cache" bash -c "cd '$APP_DIR' && exec java -XX:AOTCache=app.aot ${SPRING_AOT_OPTS[*]:-} -jar '$(basename "$EXTRACTED_JAR")'"
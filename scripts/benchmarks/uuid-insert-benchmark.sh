@@ -0,0 +1,95 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Compares random (v4) and time-ordered (v7) primary keys on insert throughput,
+# primary key index size and WAL volume. Runs against the docker-compose database
+# in a throwaway schema that is dropped afterwards.
+#
+# Usage: scripts/benchmarks/uuid-insert-benchmark.sh [rows] [batch_size]
+
+ROWS="${1:-50000000}"
+BATCH_SIZE="${2:-1000000}"
+CONTAINER="${CONTAINER:-credit-card-platform-db}"
+
+psql() {
+    docker exec -i "$CONTAINER" psql -U dev -d credit_card_platform -v ON_ERROR_STOP=1 -q "$@"
+}
+
+echo "Inserting $ROWS rows per variant in batches of $BATCH_SIZE..."
+
+psql <<SQL
+DROP SCHEMA IF EXISTS uuid_benchmark CASCADE;
+CREATE SCHEMA uuid_benchmark;
+
+CREATE FUNCTION uuid_benchmark.uuid_v7() RETURNS uuid AS \$\$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::uuid
+\$\$ LANGUAGE sql VOLATILE;
+
+CREATE TABLE uuid_benchmark.results (
+    variant TEXT PRIMARY KEY,
+    rows BIGINT,
+    seconds NUMERIC,
+    rows_per_second NUMERIC,
+    index_bytes BIGINT,
+    table_bytes BIGINT,
+    wal_bytes NUMERIC
+);
+
+CREATE PROCEDURE uuid_benchmark.run(variant TEXT, total_rows BIGINT, batch_size BIGINT) AS \$\$
+DECLARE
+    started TIMESTAMPTZ := clock_timestamp();
+    wal_start pg_lsn := pg_current_wal_lsn();
+    inserted BIGINT := 0;
+    elapsed NUMERIC;
+BEGIN
+    EXECUTE format('CREATE TABLE uuid_benchmark.%I (id UUID PRIMARY KEY, payload TEXT NOT NULL)', variant);
+    COMMIT;
+    WHILE inserted < total_rows LOOP
+        EXECUTE format(
+            'INSERT INTO uuid_benchmark.%I (id, payload) SELECT %s, md5(g::text) FROM generate_series(1, %s) g',
+            variant,
+            CASE variant WHEN 'v7' THEN 'uuid_benchmark.uuid_v7()' ELSE 'gen_random_uuid()' END,
+            LEAST(batch_size, total_rows - inserted));
+        inserted := inserted + LEAST(batch_size, total_rows - inserted);
+        COMMIT;
+    END LOOP;
+    elapsed := extract(epoch FROM clock_timestamp() - started);
+    INSERT INTO uuid_benchmark.results VALUES (
+        variant,
+        inserted,
+        round(elapsed, 1),
+        round(inserted / elapsed),
+        pg_relation_size(format('uuid_benchmark.%I_pkey', variant)::regclass),
+        pg_relation_size(format('uuid_benchmark.%I', variant)::regclass),
+        pg_wal_lsn_diff(pg_current_wal_lsn(), wal_start));
+    COMMIT;
+END
+\$\$ LANGUAGE plpgsql;
+
+CALL uuid_benchmark.run('v4', $ROWS, $BATCH_SIZE);
+CHECKPOINT;
+CALL uuid_benchmark.run('v7', $ROWS, $BATCH_SIZE);
+SQL
+
+psql <<'SQL'
+\pset footer off
+SELECT variant,
+       rows,
+       seconds,
+       rows_per_second,
+       pg_size_pretty(index_bytes) AS pk_index_size,
+       pg_size_pretty(table_bytes) AS table_size,
+       pg_size_pretty(wal_bytes) AS wal_written
+FROM uuid_benchmark.results
+ORDER BY variant;
+
+DROP SCHEMA uuid_benchmark CASCADE;
+SQL
@@ -0,0 +1,5 @@
+#!/usr/bin/env bash
+set -e
+
+# Runs once on first start of the primary container so the replica can stream WAL from it.
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Starts the given api-gateway command (native executable or `java -jar ...`), waits for it
+# to become healthy, and exercises registration, validation and the OpenAPI document, which
+# together touch Hibernate, Bean Validation, Jackson and springdoc.
+#
+# Usage: scripts/native/smoke-test.sh <command> [args...]
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+LOG="$(mktemp)"
+
+"$@" >"$LOG" 2>&1 &
+PID=$!
+trap 'kill "$PID" 2>/dev/null || true; rm -f "$LOG"' EXIT
+
+fail() {
+    echo "FAIL: $1" >&2
+    echo "--- application log ---" >&2
+    cat "$LOG" >&2
+    exit 1
+}
+
+expect_status() {
+    local expected=$1 description=$2
+    shift 2
+    local actual
+    actual=$(curl -s -o /dev/null -w '%{http_code}' "$@")
+    [[ "$actual" == "$expected" ]] || fail "$description: expected HTTP $expected, got $actual"
+    echo "ok   $description"
+}
+
+for _ in $(seq 1 300); do
+    curl -sf -o /dev/null "$BASE_URL/actuator/health" && break
+    kill -0 "$PID" 2>/dev/null || fail "application exited during startup"
+    sleep 0.1
+done
+expect_status 200 "health" "$BASE_URL/actuator/health"
+
+EMAIL="smoke-$(date +%s%N)@example.com"
+expect_status 201 "register customer" -X POST "$BASE_URL/api/v1/customers" \
+    -H 'Content-Type: application/json' \
+    -d "{\"email\":\"$EMAIL\",\"password\":\"SecurePass123!\"}"
+expect_status 409 "duplicate registration" -X POST "$BASE_URL/api/v1/customers" \
+    -H 'Content-Type: application/json' \
+    -d "{\"email\":\"$EMAIL\",\"password\":\"SecurePass123!\"}"
+expect_status 400 "profile validation" -X PUT "$BASE_URL/api/v1/customers/$(cat /proc/sys/kernel/random/uuid)/profile" \
+    -H 'Content-Type: application/json' \
+    -d '{"firstName":"J0hn","lastName":"Doe","dateOfBirth":"2015-01-01","ssn":"000-00-0000","address":{"street":"1 Main St","city":"Austin","state":"TX","zipCode":"73301"},"phone":"+1-555-123-4567"}'
+expect_status 200 "openapi document" "$BASE_URL/v3/api-docs"
+
+echo "Smoke test passed"
@@ -23,6 +23,18 @@ include("shared:events")
 // Platform modules
 include("platform:api-gateway")
 
+// JMH suites for hot paths; not part of the application
+include("benchmarks")
+
+// Load generator for end-to-end journeys against a running gateway
+include("tools:load-generator")
+
+// Synthetic dataset loader for performance testing at production volumes
+include("tools:data-generator")
+
+// Streaming customer and profile extracts for analytics
+include("tools:data-exporter")
+
 // Feature modules - auto-discovered from modules/ directory
 file("modules").listFiles()?.filter { it.isDirectory && file("${it.path}/build.gradle.kts").exists() }?.forEach {
     include("modules:${it.name}")
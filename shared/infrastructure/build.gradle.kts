@@ -1,5 +1,6 @@
 plugins {
     `java-library`
+    `java-test-fixtures`
     id("org.springframework.boot") apply false
     id("io.spring.dependency-management")
 }
@@ -13,16 +14,26 @@ dependencyManagement {
 }
 
 val junitVersion: String by project
+val liquibaseVersion: String by project
 
 dependencies {
     api(project(":shared:kernel"))
 
     implementation("org.springframework.boot:spring-boot-starter")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("io.micrometer:micrometer-core")
+    implementation("org.liquibase:liquibase-core:$liquibaseVersion")
     implementation("software.amazon.awssdk:secretsmanager:2.29.31")
 
+    testFixturesImplementation("org.springframework.boot:spring-boot-starter")
+    testFixturesImplementation("org.springframework:spring-tx")
+
     testImplementation(platform("org.junit:junit-bom:$junitVersion"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     testImplementation("org.assertj:assertj-core")
+    testImplementation("org.springframework.boot:spring-boot-test")
+    // Percentile histograms are only kept by registries that can aggregate them
+    testImplementation("io.micrometer:micrometer-registry-prometheus")
+    testRuntimeOnly("com.h2database:h2")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
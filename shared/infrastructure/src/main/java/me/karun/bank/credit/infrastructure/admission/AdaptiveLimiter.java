@@ -0,0 +1,158 @@
+package me.karun.bank.credit.infrastructure.admission;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD concurrency limit driven by observed latency. Each latency class (for HTTP, a route and
+ * status) keeps its own smoothed latency, an exponentially weighted average of its responses, and
+ * its own baseline, the lowest that average has been over the last one or two baseline windows, so
+ * a BCrypt registration is never judged against a 304 and one slow response is not judged at all.
+ * While the limit is at least half used, a smoothed latency above {@code latencyTolerance} times
+ * its class's baseline cuts the limit by {@code backoffRatio} and a healthy one raises it by one.
+ * A failed response cuts it whatever the load. Below half use the limit is not what is holding
+ * requests up, so latency leaves it alone.
+ */
+public class AdaptiveLimiter {
+
+    private static final int MAX_LATENCY_CLASSES = 256;
+    private static final String OTHER_LATENCY_CLASS = "other";
+    // Weight of each new response in the smoothed latency, and how many a class needs before it is judged
+    private static final double SMOOTHING = 0.1;
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final AdmissionProperties properties;
+    private final LongSupplier nanoClock;
+    private final long baselineWindowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, LatencyClass> latencyClasses = new HashMap<>();
+    private volatile double limit;
+
+    public AdaptiveLimiter(AdmissionProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveLimiter(AdmissionProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.baselineWindowNanos = properties.baselineWindow().toNanos();
+        this.limit = properties.initialLimit();
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Admits the request if its priority's share of the limit has room; the caller must
+     * {@link Permit#release release} the permit when the request completes.
+     */
+    public Optional<Permit> tryAcquire(Priority priority) {
+        var allowed = Math.max(1, (int) (limit * properties.shares().of(priority)));
+        while (true) {
+            var current = inFlight.get();
+            if (current >= allowed) {
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(nanoClock.getAsLong()));
+            }
+        }
+    }
+
+    private synchronized void onSample(String latencyClass, long latencyNanos, int inFlightAtStart) {
+        // Classes come from route templates, so the cap only trips on a misbehaving caller
+        var key = latencyClasses.containsKey(latencyClass) || latencyClasses.size() < MAX_LATENCY_CLASSES
+                ? latencyClass : OTHER_LATENCY_CLASS;
+        var slow = latencyClasses.computeIfAbsent(key, unused -> new LatencyClass()).isSlow(latencyNanos);
+        if (inFlightAtStart * 2 < limit) {
+            return;
+        }
+        if (slow) {
+            backOff();
+        } else {
+            limit = Math.min(properties.maxLimit(), limit + 1);
+        }
+    }
+
+    private synchronized void backOff() {
+        limit = Math.max(properties.minLimit(), limit * properties.backoffRatio());
+    }
+
+    /**
+     * How a request ended: {@code SUCCEEDED} is a latency sample, {@code FAILED} cuts the limit, and
+     * {@code IGNORED} (client errors, load shed downstream) only frees the slot.
+     */
+    public enum Outcome {
+        SUCCEEDED, FAILED, IGNORED
+    }
+
+    private final class LatencyClass {
+
+        private int samples;
+        private double smoothedNanos;
+        private double baselineNanos = Double.MAX_VALUE;
+        private double windowBaselineNanos = Double.MAX_VALUE;
+        private long windowEnd = nanoClock.getAsLong() + baselineWindowNanos;
+
+        /**
+         * Adds the response to the smoothed latency and reports whether that is now past tolerance.
+         */
+        boolean isSlow(long latencyNanos) {
+            smoothedNanos = samples == 0 ? latencyNanos : smoothedNanos + SMOOTHING * (latencyNanos - smoothedNanos);
+            samples = Math.min(samples + 1, WARMUP_SAMPLES);
+            if (samples < WARMUP_SAMPLES) {
+                // The first few responses say too little about the class for it to set a baseline
+                return false;
+            }
+            var now = nanoClock.getAsLong();
+            if (now - windowEnd >= 0) {
+                // Keep the previous window's minimum so the baseline can rise after a lasting slowdown
+                baselineNanos = windowBaselineNanos;
+                windowBaselineNanos = Double.MAX_VALUE;
+                windowEnd = now + baselineWindowNanos;
+            }
+            windowBaselineNanos = Math.min(windowBaselineNanos, smoothedNanos);
+            baselineNanos = Math.min(baselineNanos, smoothedNanos);
+            return smoothedNanos > baselineNanos * properties.latencyTolerance();
+        }
+    }
+
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlight.get();
+        }
+
+        /**
+         * Frees the slot; only the first call counts, as completion and timeout callbacks can race.
+         *
+         * @param latencyClass requests whose latencies are comparable; ignored unless {@code SUCCEEDED}
+         */
+        public void release(String latencyClass, Outcome outcome) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            inFlight.decrementAndGet();
+            switch (outcome) {
+                case SUCCEEDED -> onSample(latencyClass, nanoClock.getAsLong() - startNanos, inFlightAtStart);
+                case FAILED -> backOff();
+                case IGNORED -> {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package me.karun.bank.credit.infrastructure.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties("platform.admission")
+public record AdmissionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("/api/") String pathPrefix,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("2.0") double latencyTolerance,
+        @DefaultValue("30s") Duration baselineWindow,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue Shares shares,
+        @DefaultValue List<Route> routes
+) {
+
+    /**
+     * Fraction of the current limit each priority may occupy.
+     */
+    public record Shares(
+            @DefaultValue("1.0") double high,
+            @DefaultValue("0.8") double normal,
+            @DefaultValue("0.6") double low
+    ) {
+
+        public double of(Priority priority) {
+            return switch (priority) {
+                case HIGH -> high;
+                case NORMAL -> normal;
+                case LOW -> low;
+            };
+        }
+    }
+
+    /**
+     * Requests matching {@code method} (any when blank) and the path {@code pattern} get {@code priority};
+     * the first matching route wins and unmatched requests are {@link Priority#NORMAL}.
+     */
+    public record Route(String method, String pattern, Priority priority) {
+    }
+}
@@ -0,0 +1,11 @@
+package me.karun.bank.credit.infrastructure.admission;
+
+/**
+ * Admission class of a request. Lower classes may only use part of the concurrency limit, so as
+ * the limit shrinks they are shed first.
+ */
+public enum Priority {
+    HIGH,
+    NORMAL,
+    LOW
+}
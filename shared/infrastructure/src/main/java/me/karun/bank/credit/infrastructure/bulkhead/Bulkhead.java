@@ -0,0 +1,19 @@
+package me.karun.bank.credit.infrastructure.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a request handler on the named bulkhead's bounded executor instead of the servlet
+ * container's shared worker pool. Pools are configured under {@code platform.bulkhead.pools}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    String value();
+}
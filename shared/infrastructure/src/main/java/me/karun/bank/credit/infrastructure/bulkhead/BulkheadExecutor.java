@@ -0,0 +1,178 @@
+package me.karun.bank.credit.infrastructure.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One bulkhead: a fixed pool of threads with a bounded number of requests waiting for them. A slot
+ * (a thread or a place in the queue) is claimed with {@link #acquire} before the task is handed
+ * over, so a full bulkhead rejects up front; each claimed slot must be followed by exactly one
+ * {@code execute} or {@code submit}. The slot is given back when the task stops running, or at
+ * once if it is cancelled before it starts. A task cancelled mid-run, as on a request timeout,
+ * keeps its slot until its thread is actually free again.
+ */
+public class BulkheadExecutor implements AsyncTaskExecutor {
+
+    private final String name;
+    private final int capacity;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore slots;
+    private final Counter rejected;
+    private final Timer queueWait;
+
+    public BulkheadExecutor(String name, BulkheadProperties.Pool pool, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.capacity = pool.threads() + pool.queueCapacity();
+        this.timeout = pool.timeout();
+        this.slots = new Semaphore(capacity);
+        var threadFactory = new CustomizableThreadFactory("bulkhead-" + name + "-");
+        threadFactory.setDaemon(true);
+        BlockingQueue<Runnable> queue = pool.queueCapacity() > 0
+                ? new ArrayBlockingQueue<>(pool.queueCapacity())
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(pool.threads(), pool.threads(), 0, TimeUnit.MILLISECONDS,
+                queue, threadFactory, this::awaitQueueSlot);
+
+        this.rejected = Counter.builder("bulkhead.rejected")
+                .description("Requests turned away because the bulkhead was full")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("bulkhead.queue.wait")
+                .description("Time a request waited for a bulkhead thread")
+                .tag("bulkhead", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Bulkhead threads running a request")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queued", executor, e -> e.getQueue().size())
+                .description("Requests waiting for a bulkhead thread")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.saturation", this, BulkheadExecutor::saturation)
+                .description("Share of the bulkhead's threads and queue slots in use")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    /**
+     * Claims a thread or queue slot for the next task.
+     *
+     * @throws BulkheadFullException if every thread is busy and the queue is full
+     */
+    public void acquire() {
+        if (!slots.tryAcquire()) {
+            rejected.increment();
+            throw new BulkheadFullException(name);
+        }
+    }
+
+    double saturation() {
+        return (double) (capacity - slots.availablePermits()) / capacity;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submit(task);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return submit(Executors.callable(task));
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        var slotTask = new SlotTask<>(task);
+        try {
+            executor.execute(slotTask);
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            throw e;
+        }
+        return slotTask;
+    }
+
+    /**
+     * A finishing thread gives its slot back just before it takes the next task, so a task holding a
+     * slot can briefly find the queue full; it waits for that hand-over rather than failing.
+     */
+    private void awaitQueueSlot(Runnable task, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            throw new RejectedExecutionException("Bulkhead " + name + " is shut down");
+        }
+        try {
+            if (!pool.getQueue().offer(task, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("Bulkhead " + name + " has no thread free to take the task");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted waiting for bulkhead " + name, e);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private final class SlotTask<T> extends FutureTask<T> {
+
+        private final long queuedAt = System.nanoTime();
+        // Set by whichever of run() and a cancel before it gets here first; that one gives the slot back
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        SlotTask(Callable<T> task) {
+            super(task);
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                super.run();
+            } finally {
+                slots.release();
+            }
+        }
+
+        @Override
+        protected void done() {
+            // Only frees the slot of a task cancelled while still queued, taking it off the queue too
+            if (started.compareAndSet(false, true)) {
+                executor.remove(this);
+                slots.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package me.karun.bank.credit.infrastructure.bulkhead;
+
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String bulkhead) {
+        super("Bulkhead '" + bulkhead + "' is full");
+    }
+}
@@ -0,0 +1,25 @@
+package me.karun.bank.credit.infrastructure.bulkhead;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties("platform.bulkhead")
+public record BulkheadProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue Map<String, Pool> pools
+) {
+
+    /**
+     * {@code threads} run handlers and up to {@code queueCapacity} more wait for one; beyond that a
+     * request is rejected at once. A request still running after {@code timeout} gets a 503.
+     */
+    public record Pool(
+            @DefaultValue("8") int threads,
+            @DefaultValue("16") int queueCapacity,
+            @DefaultValue("10s") Duration timeout
+    ) {
+    }
+}
@@ -0,0 +1,37 @@
+package me.karun.bank.credit.infrastructure.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class BulkheadRegistry implements DisposableBean {
+
+    private final Map<String, BulkheadExecutor> bulkheads;
+
+    public BulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.bulkheads = properties.pools().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        pool -> new BulkheadExecutor(pool.getKey(), pool.getValue(), meterRegistry)));
+    }
+
+    public BulkheadExecutor get(String name) {
+        var bulkhead = bulkheads.get(name);
+        if (bulkhead == null) {
+            throw new IllegalStateException("No bulkhead pool configured for '" + name
+                    + "'; add platform.bulkhead.pools." + name);
+        }
+        return bulkhead;
+    }
+
+    public Set<String> names() {
+        return bulkheads.keySet();
+    }
+
+    @Override
+    public void destroy() {
+        bulkheads.values().forEach(BulkheadExecutor::shutdown);
+    }
+}
@@ -0,0 +1,110 @@
+package me.karun.bank.credit.infrastructure.concurrent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one. The first caller runs the loader on its own
+ * thread; callers arriving while it runs wait for and share its result or exception. Nothing is
+ * cached: once the load completes the next caller starts a fresh one.
+ * <p>
+ * A waiter gives up with {@link SingleFlightTimeoutException} after {@code timeout} and, if
+ * interrupted, keeps its interrupt flag and gets a {@link CancellationException}; neither affects
+ * the load or its other waiters.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong sharedLoads = new AtomicLong();
+
+    public SingleFlight(Duration timeout) {
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        var flight = new Flight<V>();
+        var inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            sharedLoads.incrementAndGet();
+            return inFlight.await(timeoutNanos);
+        }
+        loads.incrementAndGet();
+        try {
+            var value = loader.get();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Detaches any load in flight for {@code key}, so callers arriving after a write start a fresh
+     * load instead of sharing one that may have read the old value.
+     */
+    public void forget(K key) {
+        flights.remove(key);
+    }
+
+    /**
+     * Loads that ran the loader.
+     */
+    public long loads() {
+        return loads.get();
+    }
+
+    /**
+     * Calls served by another caller's load.
+     */
+    public long sharedLoads() {
+        return sharedLoads.get();
+    }
+
+    int waiting(K key) {
+        var flight = flights.get(key);
+        return flight == null ? 0 : flight.waiters.get();
+    }
+
+    private static final class Flight<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        V await(long timeoutNanos) {
+            waiters.incrementAndGet();
+            try {
+                return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            } catch (TimeoutException e) {
+                throw new SingleFlightTimeoutException(Duration.ofNanos(timeoutNanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for a shared load");
+            } finally {
+                waiters.decrementAndGet();
+            }
+        }
+
+        private static RuntimeException rethrow(Throwable cause) {
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            return (RuntimeException) cause;
+        }
+    }
+}
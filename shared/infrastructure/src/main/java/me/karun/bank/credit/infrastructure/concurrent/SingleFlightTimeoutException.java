@@ -0,0 +1,10 @@
+package me.karun.bank.credit.infrastructure.concurrent;
+
+import java.time.Duration;
+
+public class SingleFlightTimeoutException extends RuntimeException {
+
+    public SingleFlightTimeoutException(Duration timeout) {
+        super("Shared load did not complete within " + timeout.toMillis() + " ms");
+    }
+}
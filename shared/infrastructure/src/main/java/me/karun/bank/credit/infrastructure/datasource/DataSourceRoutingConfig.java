@@ -0,0 +1,59 @@
+package me.karun.bank.credit.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesGuard(properties.readYourWritesWindow());
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "platform.datasource.routing", name = "enabled", havingValue = "true")
+    static class ReadReplicaRouting {
+
+        @Bean(autowireCandidate = false)
+        public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+            var dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            dataSource.setPoolName("primary");
+            return dataSource;
+        }
+
+        @Bean
+        public ReplicaPool replicaPool(DataSourceRoutingProperties properties) {
+            var replicas = properties.replicas().stream()
+                    .map(replica -> (DataSource) DataSourceBuilder.create()
+                            .type(HikariDataSource.class)
+                            .url(replica.url())
+                            .username(replica.username())
+                            .password(replica.password())
+                            .build())
+                    .toList();
+            var replicaPool = new ReplicaPool(replicas);
+            replicaPool.startHealthChecks(properties.healthCheckInterval());
+            return replicaPool;
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(ReplicaPool replicaPool, DataSourceProperties dataSourceProperties) {
+            var primary = primaryDataSource(dataSourceProperties);
+            var dataSource = new LazyConnectionDataSourceProxy(primary);
+            dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replicaPool));
+            return dataSource;
+        }
+    }
+}
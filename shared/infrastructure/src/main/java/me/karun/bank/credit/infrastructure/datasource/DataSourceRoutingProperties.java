@@ -0,0 +1,19 @@
+package me.karun.bank.credit.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties("platform.datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue List<Replica> replicas
+) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
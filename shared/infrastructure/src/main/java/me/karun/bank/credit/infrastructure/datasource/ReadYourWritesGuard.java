@@ -0,0 +1,69 @@
+package me.karun.bank.credit.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public class ReadYourWritesGuard {
+
+    private static final int PURGE_EVERY_WRITES = 1_024;
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = ThreadLocal.withInitial(() -> false);
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Object, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final AtomicInteger writesSincePurge = new AtomicInteger();
+
+    public ReadYourWritesGuard(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesGuard(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get();
+    }
+
+    public void recordWrite(Object key) {
+        lastWriteNanos.put(key, nanoClock.getAsLong());
+        if (writesSincePurge.incrementAndGet() >= PURGE_EVERY_WRITES) {
+            writesSincePurge.set(0);
+            purgeExpired();
+        }
+    }
+
+    public boolean wasRecentlyWritten(Object key) {
+        var writtenAt = lastWriteNanos.get(key);
+        return writtenAt != null && nanoClock.getAsLong() - writtenAt < windowNanos;
+    }
+
+    public <T> T readFor(Object key, Supplier<T> read) {
+        if (!wasRecentlyWritten(key) || isPinnedToPrimary()) {
+            return read.get();
+        }
+        PINNED_TO_PRIMARY.set(true);
+        try {
+            return read.get();
+        } finally {
+            PINNED_TO_PRIMARY.remove();
+        }
+    }
+
+    public void readFor(Object key, Runnable read) {
+        readFor(key, () -> {
+            read.run();
+            return null;
+        });
+    }
+
+    private void purgeExpired() {
+        var now = nanoClock.getAsLong();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+}
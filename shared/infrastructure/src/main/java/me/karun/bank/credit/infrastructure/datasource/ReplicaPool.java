@@ -0,0 +1,96 @@
+package me.karun.bank.credit.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaPool(List<DataSource> replicas) {
+        this.replicas = replicas.stream().map(Replica::new).toList();
+    }
+
+    public void startHealthChecks(Duration interval) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Optional<DataSource> nextHealthy() {
+        var start = Math.floorMod(nextIndex.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy) {
+                return Optional.of(replica.dataSource);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void markUnhealthy(DataSource dataSource) {
+        replicas.stream()
+                .filter(replica -> replica.dataSource == dataSource)
+                .forEach(replica -> replica.healthy = false);
+    }
+
+    public void checkHealth() {
+        replicas.forEach(Replica::checkHealth);
+    }
+
+    public long healthyCount() {
+        return replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (var replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void checkHealth() {
+            var wasHealthy = healthy;
+            try (var connection = dataSource.getConnection()) {
+                healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (wasHealthy != healthy) {
+                log.warn("Read replica {} is now {}", dataSource, healthy ? "healthy" : "unhealthy");
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package me.karun.bank.credit.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaPool replicaPool;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool) {
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection getConnection(ConnectionFactory connectionFactory) throws SQLException {
+        if (ReadYourWritesGuard.isPinnedToPrimary()) {
+            return connectionFactory.connect(primary);
+        }
+        var replica = replicaPool.nextHealthy();
+        while (replica.isPresent()) {
+            try {
+                return connectionFactory.connect(replica.get());
+            } catch (SQLException e) {
+                replicaPool.markUnhealthy(replica.get());
+                replica = replicaPool.nextHealthy();
+            }
+        }
+        return connectionFactory.connect(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
@@ -30,6 +30,8 @@ public class AwsSecretsManagerEncryptionService implements EncryptionService {
 
     @Override
     public String encrypt(String plaintext) {
+        var event = new EncryptionEvent();
+        event.begin();
         try {
             byte[] iv = generateIv();
 
@@ -37,20 +39,27 @@ public class AwsSecretsManagerEncryptionService implements EncryptionService {
             GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
             cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
 
-            byte[] ciphertext = cipher.doFinal(plaintext.getBytes());
+            byte[] input = plaintext.getBytes();
+            event.bytes = input.length;
+            byte[] ciphertext = cipher.doFinal(input);
 
             ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + ciphertext.length);
             byteBuffer.put(iv);
             byteBuffer.put(ciphertext);
 
+            event.succeeded = true;
             return Base64.getEncoder().encodeToString(byteBuffer.array());
         } catch (Exception e) {
             throw new EncryptionException("Failed to encrypt data", e);
+        } finally {
+            commit(event, "encrypt");
         }
     }
 
     @Override
     public String decrypt(String encryptedData) {
+        var event = new EncryptionEvent();
+        event.begin();
         try {
             byte[] decoded = Base64.getDecoder().decode(encryptedData);
 
@@ -65,9 +74,21 @@ public class AwsSecretsManagerEncryptionService implements EncryptionService {
             cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
 
             byte[] plaintext = cipher.doFinal(ciphertext);
+            event.bytes = plaintext.length;
+            event.succeeded = true;
             return new String(plaintext);
         } catch (Exception e) {
             throw new EncryptionException("Failed to decrypt data", e);
+        } finally {
+            commit(event, "decrypt");
+        }
+    }
+
+    private static void commit(EncryptionEvent event, String operation) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.commit();
         }
     }
 
@@ -0,0 +1,29 @@
+package me.karun.bank.credit.infrastructure.encryption;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(EncryptionEvent.NAME)
+@Label("Field Encryption")
+@Description("One AES-GCM encryption or decryption of a sensitive field")
+@Category({"Credit Card Lending", "Encryption"})
+@StackTrace(false)
+class EncryptionEvent extends Event {
+
+    static final String NAME = "me.karun.bank.credit.Encryption";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Plaintext Size")
+    @DataAmount
+    int bytes;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
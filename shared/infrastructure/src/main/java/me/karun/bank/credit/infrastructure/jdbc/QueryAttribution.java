@@ -0,0 +1,45 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+/**
+ * The endpoint and service operation on whose behalf the current thread is issuing queries.
+ */
+public record QueryAttribution(String endpoint, String operation) {
+
+    public static final String UNATTRIBUTED = "none";
+
+    private static final QueryAttribution NONE = new QueryAttribution(UNATTRIBUTED, UNATTRIBUTED);
+    private static final ThreadLocal<QueryAttribution> CURRENT = new ThreadLocal<>();
+
+    public static QueryAttribution current() {
+        var current = CURRENT.get();
+        return current != null ? current : NONE;
+    }
+
+    public static Scope withEndpoint(String endpoint) {
+        var previous = current();
+        return enter(new QueryAttribution(endpoint, previous.operation()));
+    }
+
+    public static Scope withOperation(String operation) {
+        var previous = current();
+        return enter(new QueryAttribution(previous.endpoint(), operation));
+    }
+
+    private static Scope enter(QueryAttribution attribution) {
+        var previous = CURRENT.get();
+        CURRENT.set(attribution);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,8 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+/**
+ * A single database round trip. Batched executions report every statement in the batch
+ * under one execution.
+ */
+public record QueryExecution(String sql, int statements, long elapsedNanos, boolean failed) {
+}
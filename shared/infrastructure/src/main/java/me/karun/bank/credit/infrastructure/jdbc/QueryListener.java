@@ -0,0 +1,16 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+/**
+ * Receives callbacks from a {@link QueryObservingDataSource}. Callbacks run on the thread
+ * that issued the query and must be cheap.
+ */
+public interface QueryListener {
+
+    void afterQuery(QueryExecution execution);
+
+    /**
+     * Called once per result set when it, or its statement, is closed.
+     */
+    default void afterRowsRead(String sql, long rows) {
+    }
+}
@@ -0,0 +1,87 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "platform.datasource.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+    private static final int MAX_QUERY_SHAPES = 500;
+
+    @Bean
+    static BeanPostProcessor queryMetricsDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || !DATA_SOURCE_BEAN.equals(beanName)) {
+                    return bean;
+                }
+                var registry = meterRegistry.getIfAvailable();
+                return registry == null
+                        ? bean
+                        : QueryObservingDataSource.wrap(dataSource, new QueryMetricsListener(registry));
+            }
+        };
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor queryAttributionAdvisor() {
+        MethodInterceptor interceptor = invocation -> {
+            var operation = ClassUtils.getUserClass(invocation.getThis()).getSimpleName()
+                    + "." + invocation.getMethod().getName();
+            try (var scope = QueryAttribution.withOperation(operation)) {
+                return invocation.proceed();
+            }
+        };
+        var advisor = new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forClassAnnotation(Service.class), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public MeterFilter queryShapeCardinalityLimit() {
+        return queryShapeCardinalityLimit(MAX_QUERY_SHAPES);
+    }
+
+    @Bean
+    public MeterFilter queryRowsShapeCardinalityLimit() {
+        return queryRowsShapeCardinalityLimit(MAX_QUERY_SHAPES);
+    }
+
+    // maximumAllowableTags matches names by prefix, so the timer's filter must skip db.query.rows,
+    // which gets its own budget below
+    static MeterFilter queryShapeCardinalityLimit(int maxShapes) {
+        var limit = MeterFilter.maximumAllowableTags(QueryMetricsListener.QUERY_TIMER, "query", maxShapes, MeterFilter.deny());
+        return new MeterFilter() {
+            @Override
+            public MeterFilterReply accept(Meter.Id id) {
+                return id.getName().equals(QueryMetricsListener.QUERY_TIMER) ? limit.accept(id) : MeterFilterReply.NEUTRAL;
+            }
+        };
+    }
+
+    static MeterFilter queryRowsShapeCardinalityLimit(int maxShapes) {
+        return MeterFilter.maximumAllowableTags(QueryMetricsListener.ROWS_SUMMARY, "query", maxShapes, MeterFilter.deny());
+    }
+}
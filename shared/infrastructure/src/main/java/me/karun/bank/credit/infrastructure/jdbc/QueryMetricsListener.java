@@ -0,0 +1,100 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records a {@code db.query} timer and a {@code db.query.rows} summary per query shape,
+ * tagged with the {@link QueryAttribution} of the calling thread.
+ *
+ * <p>Meters are resolved once per shape, attribution and outcome and then reused, so a query
+ * costs two map lookups rather than building tags and registering a meter. The timer publishes a
+ * percentile histogram rather than client-side percentiles: a query then costs one bucket increment
+ * instead of an update to each of the rotating percentile buffers, and the buckets still aggregate
+ * across replicas.
+ */
+public class QueryMetricsListener implements QueryListener {
+
+    public static final String QUERY_TIMER = "db.query";
+    public static final String ROWS_SUMMARY = "db.query.rows";
+
+    private static final int MAX_CACHED_SHAPES = 2_000;
+    private static final int MAX_CACHED_METERS = 10_000;
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(100_000);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    public QueryMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterQuery(QueryExecution execution) {
+        var key = new MeterKey(shapeOf(execution.sql()), QueryAttribution.current(), execution.failed());
+        bounded(timers).computeIfAbsent(key, this::timer).record(execution.elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void afterRowsRead(String sql, long rows) {
+        var key = new MeterKey(shapeOf(sql), QueryAttribution.current(), false);
+        bounded(rowSummaries).computeIfAbsent(key, this::rowSummary).record(rows);
+    }
+
+    private Timer timer(MeterKey key) {
+        return Timer.builder(QUERY_TIMER)
+                .description("Time spent executing a JDBC statement or batch")
+                .tag("query", key.shape())
+                .tag("endpoint", key.attribution().endpoint())
+                .tag("operation", key.attribution().operation())
+                .tag("outcome", key.failed() ? "error" : "success")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary rowSummary(MeterKey key) {
+        return DistributionSummary.builder(ROWS_SUMMARY)
+                .description("Rows read from a single result set")
+                .tag("query", key.shape())
+                .tag("endpoint", key.attribution().endpoint())
+                .tag("operation", key.attribution().operation())
+                .register(meterRegistry);
+    }
+
+    // Meters stay registered when the cache is cleared; clearing only costs re-resolving them
+    private static <T> Map<MeterKey, T> bounded(Map<MeterKey, T> meters) {
+        if (meters.size() >= MAX_CACHED_METERS) {
+            meters.clear();
+        }
+        return meters;
+    }
+
+    private String shapeOf(String sql) {
+        if (sql == null) {
+            return QueryAttribution.UNATTRIBUTED;
+        }
+        var shape = shapes.get(sql);
+        if (shape == null) {
+            if (shapes.size() >= MAX_CACHED_SHAPES) {
+                shapes.clear();
+            }
+            shape = SqlShape.of(sql);
+            shapes.put(sql, shape);
+        }
+        return shape;
+    }
+
+    private record MeterKey(String shape, QueryAttribution attribution, boolean failed) {
+    }
+}
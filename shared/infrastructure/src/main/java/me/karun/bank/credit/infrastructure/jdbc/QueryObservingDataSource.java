@@ -0,0 +1,214 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Wraps a {@link DataSource} so every statement execution, and the rows read from each
+ * result set, are reported to a {@link QueryListener}.
+ */
+public final class QueryObservingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+    private static final Set<String> BATCH_EXECUTE_METHODS = Set.of("executeBatch", "executeLargeBatch");
+    private static final Set<String> RESULT_SET_METHODS = Set.of("executeQuery", "getResultSet", "getGeneratedKeys");
+
+    private QueryObservingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource dataSource, QueryListener listener) {
+        var interfaces = dataSource instanceof AutoCloseable
+                ? new Class<?>[]{DataSource.class, AutoCloseable.class}
+                : new Class<?>[]{DataSource.class};
+        return (DataSource) Proxy.newProxyInstance(
+                QueryObservingDataSource.class.getClassLoader(),
+                interfaces,
+                new DataSourceHandler(dataSource, listener));
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        protected final Object target;
+        protected final QueryListener listener;
+
+        private DelegatingHandler(Object target, QueryListener listener) {
+            this.target = target;
+            this.listener = listener;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "unwrap" -> ((Class<?>) args[0]).isInstance(proxy) ? proxy : delegate(method, args);
+                case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(proxy) || (boolean) delegate(method, args);
+                default -> handle(proxy, method, args);
+            };
+        }
+
+        protected abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        protected Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        protected Object proxy(Class<?> type, InvocationHandler handler) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+    }
+
+    private static final class DataSourceHandler extends DelegatingHandler {
+
+        private DataSourceHandler(DataSource target, QueryListener listener) {
+            super(target, listener);
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            var result = delegate(method, args);
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, new ConnectionHandler(connection, listener));
+            }
+            return result;
+        }
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        private ConnectionHandler(Connection target, QueryListener listener) {
+            super(target, listener);
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            var result = delegate(method, args);
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, listener, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, listener, (String) args[0]));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, listener, null));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        private final String preparedSql;
+        private final List<ResultSetHandler> openResultSets = new ArrayList<>(1);
+        private String lastSql;
+        private int batchSize;
+
+        private StatementHandler(Statement target, QueryListener listener, String preparedSql) {
+            super(target, listener);
+            this.preparedSql = preparedSql;
+            this.lastSql = preparedSql;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            var name = method.getName();
+            if (name.equals("addBatch")) {
+                batchSize++;
+                if (args != null && args.length == 1) {
+                    lastSql = (String) args[0];
+                }
+                return delegate(method, args);
+            }
+            if (name.equals("close")) {
+                openResultSets.forEach(ResultSetHandler::report);
+                openResultSets.clear();
+                return delegate(method, args);
+            }
+            if (name.equals("clearBatch")) {
+                batchSize = 0;
+                return delegate(method, args);
+            }
+            if (EXECUTE_METHODS.contains(name)) {
+                lastSql = args != null && args.length > 0 && args[0] instanceof String sql ? sql : preparedSql;
+                return observe(method, args, 1);
+            }
+            if (BATCH_EXECUTE_METHODS.contains(name)) {
+                var statements = batchSize;
+                batchSize = 0;
+                return observe(method, args, statements);
+            }
+            var result = delegate(method, args);
+            return RESULT_SET_METHODS.contains(name) ? resultSetProxy(result) : result;
+        }
+
+        private Object observe(Method method, Object[] args, int statements) throws Throwable {
+            var sql = lastSql;
+            var start = System.nanoTime();
+            var failed = true;
+            try {
+                var result = delegate(method, args);
+                failed = false;
+                return RESULT_SET_METHODS.contains(method.getName()) ? resultSetProxy(result) : result;
+            } finally {
+                listener.afterQuery(new QueryExecution(sql, statements, System.nanoTime() - start, failed));
+            }
+        }
+
+        private Object resultSetProxy(Object result) {
+            if (result instanceof ResultSet resultSet) {
+                var handler = new ResultSetHandler(resultSet, listener, lastSql);
+                openResultSets.add(handler);
+                return proxy(ResultSet.class, handler);
+            }
+            return result;
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        private final String sql;
+        private long rows;
+        private boolean reported;
+
+        private ResultSetHandler(ResultSet target, QueryListener listener, String sql) {
+            super(target, listener);
+            this.sql = sql;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close")) {
+                report();
+                return delegate(method, args);
+            }
+            var result = delegate(method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            }
+            return result;
+        }
+
+        private void report() {
+            if (!reported) {
+                reported = true;
+                listener.afterRowsRead(sql, rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package me.karun.bank.credit.infrastructure.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param events    JFR event names to stream; any JDK event (for example {@code jdk.JavaMonitorEnter})
+ *                  can be added next to the application's own
+ * @param threshold events shorter than this are not recorded
+ * @param capacity  most recent events kept in memory
+ */
+@ConfigurationProperties("platform.jfr")
+public record JfrProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue({"me.karun.bank.credit.ServiceOperation", "me.karun.bank.credit.Encryption", "me.karun.bank.credit.ProfileAuditWrite"})
+        List<String> events,
+        @DefaultValue("0ms") Duration threshold,
+        @DefaultValue("1000") int capacity
+) {
+}
@@ -0,0 +1,28 @@
+package me.karun.bank.credit.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(OperationEvent.NAME)
+@Label("Service Operation")
+@Description("A call into a service's public API, spanning its transaction")
+@Category({"Credit Card Lending", "Service"})
+@StackTrace(false)
+public class OperationEvent extends Event {
+
+    public static final String NAME = "me.karun.bank.credit.ServiceOperation";
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    @Description("success, or the simple name of the exception thrown")
+    String outcome;
+}
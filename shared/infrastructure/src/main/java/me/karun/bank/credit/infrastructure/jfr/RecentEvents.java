@@ -0,0 +1,92 @@
+package me.karun.bank.credit.infrastructure.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedObject;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams the configured JFR events from an in-process recording and keeps the most recent ones.
+ * Only the listed events are enabled, so the recording costs no more than those events do.
+ */
+public class RecentEvents implements DisposableBean {
+
+    private static final Set<String> HEADER_FIELDS = Set.of("startTime", "duration", "eventThread", "stackTrace");
+
+    private final int capacity;
+    private final Deque<Event> events;
+    private final RecordingStream stream = new RecordingStream();
+
+    public RecentEvents(JfrProperties properties) {
+        this.capacity = properties.capacity();
+        this.events = new ArrayDeque<>(capacity);
+        for (var name : properties.events()) {
+            stream.enable(name).withThreshold(properties.threshold()).withoutStackTrace();
+        }
+        stream.setReuse(false);
+        stream.onEvent(this::keep);
+        stream.startAsync();
+    }
+
+    /**
+     * Newest first, optionally only events whose name ends with {@code name}.
+     */
+    public List<Event> latest(String name, int limit) {
+        var latest = new ArrayList<Event>(Math.min(limit, capacity));
+        synchronized (events) {
+            var newestFirst = events.descendingIterator();
+            while (newestFirst.hasNext() && latest.size() < limit) {
+                var event = newestFirst.next();
+                if (name == null || event.name().endsWith(name)) {
+                    latest.add(event);
+                }
+            }
+        }
+        return latest;
+    }
+
+    @Override
+    public void destroy() {
+        stream.close();
+    }
+
+    private void keep(RecordedEvent recorded) {
+        var event = Event.of(recorded);
+        synchronized (events) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    public record Event(String name, Instant startTime, double durationMs, String thread, Map<String, Object> fields) {
+
+        static Event of(RecordedEvent recorded) {
+            var fields = new LinkedHashMap<String, Object>();
+            for (var field : recorded.getFields()) {
+                if (!HEADER_FIELDS.contains(field.getName())) {
+                    var value = recorded.getValue(field.getName());
+                    // Nested JFR objects (classes, threads) are not meant to outlive the stream
+                    fields.put(field.getName(), value instanceof RecordedObject ? value.toString() : value);
+                }
+            }
+            var thread = recorded.getThread();
+            return new Event(
+                    recorded.getEventType().getName(),
+                    recorded.getStartTime(),
+                    recorded.getDuration().toNanos() / 1_000_000.0,
+                    thread != null ? thread.getJavaName() : null,
+                    fields);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package me.karun.bank.credit.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times each advised method as {@code <name>{operation, outcome}} with a percentile histogram,
+ * and counts failures as {@code <name>.errors{operation, exception}}. Tags are the method name,
+ * {@code success}/{@code error} and the exception's simple class name, so cardinality is bounded
+ * by the code rather than by the data.
+ *
+ * <p>Meters are resolved once per method and exception type and then reused, so a call costs two
+ * clock reads and a map lookup rather than a meter registration. The registry is looked up on
+ * first use so that advisors can be created before the registry is fully configured.
+ */
+public class OperationMetricsInterceptor implements MethodInterceptor {
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final String name;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Method, OperationMeters> meters = new ConcurrentHashMap<>();
+
+    public OperationMetricsInterceptor(String name, Supplier<MeterRegistry> meterRegistry) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var operation = meters.computeIfAbsent(invocation.getMethod(), this::metersFor);
+        var clock = operation.registry.config().clock();
+        var start = clock.monotonicTime();
+        try {
+            var result = invocation.proceed();
+            operation.success.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            operation.error.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            operation.errorCounter(e.getClass()).increment();
+            throw e;
+        }
+    }
+
+    private OperationMeters metersFor(Method method) {
+        return new OperationMeters(meterRegistry.get(), method.getName());
+    }
+
+    private Timer timer(MeterRegistry registry, String operation, String outcome) {
+        return Timer.builder(name)
+                .description("Time spent in a service operation, including its transaction")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(registry);
+    }
+
+    private final class OperationMeters {
+
+        private final MeterRegistry registry;
+        private final String operation;
+        private final Timer success;
+        private final Timer error;
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        private OperationMeters(MeterRegistry registry, String operation) {
+            this.registry = registry;
+            this.operation = operation;
+            this.success = timer(registry, operation, "success");
+            this.error = timer(registry, operation, "error");
+        }
+
+        private Counter errorCounter(Class<?> exceptionType) {
+            return errors.computeIfAbsent(exceptionType, type -> Counter.builder(name + ".errors")
+                    .description("Service operations that ended with an exception, by exception type")
+                    .tag("operation", operation)
+                    .tag("exception", type.getSimpleName())
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package me.karun.bank.credit.infrastructure.migration;
+
+import org.springframework.core.io.ClassPathResource;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The last changeset a Liquibase changelog declares, found by a plain StAX scan that follows
+ * {@code <include>} elements. Unlike a Liquibase parse it computes no checksums.
+ */
+public record ChangelogHead(String id, String author, String changelog) {
+
+    private static final XMLInputFactory XML = XMLInputFactory.newFactory();
+
+    static {
+        XML.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    public static ChangelogHead of(String changelog) {
+        var head = scan(stripClasspathPrefix(changelog));
+        if (head == null) {
+            throw new IllegalStateException("No changeSet found in " + changelog);
+        }
+        return head;
+    }
+
+    private static ChangelogHead scan(String path) {
+        var resource = new ClassPathResource(path);
+        ChangelogHead head = null;
+        try (var input = resource.getInputStream()) {
+            var reader = XML.createXMLStreamReader(input);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    switch (reader.getLocalName()) {
+                        case "changeSet" -> head = new ChangelogHead(
+                                reader.getAttributeValue(null, "id"), reader.getAttributeValue(null, "author"), path);
+                        case "include" -> {
+                            var included = scan(resolve(path, reader.getAttributeValue(null, "file"),
+                                    Boolean.parseBoolean(reader.getAttributeValue(null, "relativeToChangelogFile"))));
+                            if (included != null) {
+                                head = included;
+                            }
+                        }
+                        case "includeAll" -> throw new IllegalStateException(
+                                "includeAll in " + path + " is not supported; list changelogs with <include>");
+                        default -> {
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read changelog " + path, e);
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Cannot parse changelog " + path, e);
+        }
+        return head;
+    }
+
+    private static String resolve(String parent, String file, boolean relativeToParent) {
+        if (!relativeToParent) {
+            return stripClasspathPrefix(file);
+        }
+        var slash = parent.lastIndexOf('/');
+        return slash < 0 ? file : parent.substring(0, slash + 1) + file;
+    }
+
+    private static String stripClasspathPrefix(String location) {
+        var path = location.startsWith("classpath:") ? location.substring("classpath:".length()) : location;
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+}
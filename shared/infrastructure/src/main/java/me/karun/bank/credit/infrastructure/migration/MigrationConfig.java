@@ -0,0 +1,49 @@
+package me.karun.bank.credit.infrastructure.migration;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jpa.autoconfigure.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// Both beans run before Hibernate validates the schema, so a stale database fails with a clear message
+@Configuration
+@EnableConfigurationProperties(MigrationProperties.class)
+public class MigrationConfig {
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "platform.migration", name = "on-startup", havingValue = "migrate", matchIfMissing = true)
+    static class MigrateOnStartup {
+
+        @Bean
+        public SpringLiquibase liquibase(DataSource dataSource, MigrationProperties properties) {
+            var liquibase = new SpringLiquibase();
+            liquibase.setDataSource(dataSource);
+            liquibase.setChangeLog(properties.changeLog());
+            return liquibase;
+        }
+
+        @Bean
+        static EntityManagerFactoryDependsOnPostProcessor liquibaseDependsOn() {
+            return new EntityManagerFactoryDependsOnPostProcessor("liquibase");
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "platform.migration", name = "on-startup", havingValue = "verify")
+    static class VerifyOnStartup {
+
+        @Bean
+        public SchemaVersionVerifier schemaVersionVerifier(DataSource dataSource, MigrationProperties properties) {
+            return new SchemaVersionVerifier(dataSource, ChangelogHead.of(properties.changeLog()));
+        }
+
+        @Bean
+        static EntityManagerFactoryDependsOnPostProcessor schemaVersionVerifierDependsOn() {
+            return new EntityManagerFactoryDependsOnPostProcessor("schemaVersionVerifier");
+        }
+    }
+}
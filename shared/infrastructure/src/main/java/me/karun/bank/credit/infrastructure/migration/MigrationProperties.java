@@ -0,0 +1,19 @@
+package me.karun.bank.credit.infrastructure.migration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("platform.migration")
+public record MigrationProperties(
+        @DefaultValue("migrate") OnStartup onStartup,
+        @DefaultValue("classpath:db/changelog/db.changelog-master.xml") String changeLog
+) {
+
+    public enum OnStartup {
+        /** Apply pending changesets, taking the Liquibase lock. */
+        MIGRATE,
+        /** Only check that the newest packaged changeset has been applied. */
+        VERIFY,
+        NONE
+    }
+}
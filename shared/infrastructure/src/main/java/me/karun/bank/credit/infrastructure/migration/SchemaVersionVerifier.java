@@ -0,0 +1,48 @@
+package me.karun.bank.credit.infrastructure.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Fails startup unless the database already has the newest changeset this build ships with.
+ * One read of {@code databasechangelog}, which Liquibase creates without an index, so it scans
+ * one row per applied changeset; that is a few hundred rows at most. It takes no lock and
+ * validates no checksums, so replicas start in parallel once the migration job has run.
+ */
+public class SchemaVersionVerifier implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaVersionVerifier.class);
+    private static final String APPLIED = "select count(*) from databasechangelog where id = ? and author = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangelogHead expected;
+
+    public SchemaVersionVerifier(DataSource dataSource, ChangelogHead expected) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.expected = expected;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        verify();
+    }
+
+    public void verify() {
+        Integer applied;
+        try {
+            applied = jdbcTemplate.queryForObject(APPLIED, Integer.class, expected.id(), expected.author());
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("Cannot read databasechangelog; has the migration job run? " + e.getMessage(), e);
+        }
+        if (applied == null || applied == 0) {
+            throw new IllegalStateException("Schema is behind this build: changeset " + expected.id() + " by "
+                    + expected.author() + " from " + expected.changelog() + " has not been applied. Run the migration job first.");
+        }
+        log.info("Schema verified at changeset {} ({})", expected.id(), expected.changelog());
+    }
+}
@@ -0,0 +1,18 @@
+package me.karun.bank.credit.infrastructure.persistence;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Hibernate instantiates {@link TimeOrderedIdGenerator} reflectively from the
+ * {@link TimeOrderedId} meta-annotation.
+ */
+public class PersistenceRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(TimeOrderedIdGenerator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(TimeOrderedId.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,19 @@
+package me.karun.bank.credit.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("platform.warmup")
+public record WarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2") int threads,
+        @DefaultValue("200") int minIterations,
+        @DefaultValue("60s") Duration maxDuration,
+        @DefaultValue("1s") Duration sampleInterval,
+        @DefaultValue("3") int settledSamples,
+        @DefaultValue("100ms") Duration settleThreshold,
+        @DefaultValue("60s") Duration latencyWindow
+) {
+}
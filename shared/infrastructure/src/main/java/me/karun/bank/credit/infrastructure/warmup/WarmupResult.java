@@ -0,0 +1,15 @@
+package me.karun.bank.credit.infrastructure.warmup;
+
+import java.time.Duration;
+
+public record WarmupResult(Outcome outcome, long iterations, long failures, Duration duration) {
+
+    public enum Outcome {
+        /** JIT compile time stopped growing. */
+        SETTLED,
+        /** Still compiling when the time budget ran out. */
+        TIMED_OUT,
+        /** The JVM does not report compile time; ran the minimum iterations only. */
+        UNMONITORED
+    }
+}
@@ -0,0 +1,125 @@
+package me.karun.bank.credit.infrastructure.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Drives {@link WarmupTask}s until the JIT settles: once the minimum iterations have run, it stops
+ * when total compilation time grows by less than the threshold for several consecutive samples.
+ */
+public class WarmupRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final List<WarmupTask> tasks;
+    private final WarmupProperties properties;
+    private final LongSupplier compilationMillis;
+    private final AtomicLong iterations = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile boolean stopping;
+
+    public WarmupRunner(List<WarmupTask> tasks, WarmupProperties properties) {
+        this(tasks, properties, compilationMillis(ManagementFactory.getCompilationMXBean()));
+    }
+
+    WarmupRunner(List<WarmupTask> tasks, WarmupProperties properties, LongSupplier compilationMillis) {
+        this.tasks = List.copyOf(tasks);
+        this.properties = properties;
+        this.compilationMillis = compilationMillis;
+    }
+
+    public long iterations() {
+        return iterations.get();
+    }
+
+    public WarmupResult run() {
+        var start = System.nanoTime();
+        var workers = startWorkers();
+        WarmupResult.Outcome outcome;
+        try {
+            outcome = awaitSettled(start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = WarmupResult.Outcome.TIMED_OUT;
+        } finally {
+            stopping = true;
+            workers.forEach(WarmupRunner::join);
+        }
+        var result = new WarmupResult(outcome, iterations.get(), failures.get(), Duration.ofNanos(System.nanoTime() - start));
+        log.info("JIT warm-up {} after {} iterations in {} ms ({} failures)",
+                result.outcome(), result.iterations(), result.duration().toMillis(), result.failures());
+        return result;
+    }
+
+    private WarmupResult.Outcome awaitSettled(long start) throws InterruptedException {
+        var deadline = start + properties.maxDuration().toNanos();
+        var threshold = properties.settleThreshold().toMillis();
+        var quietSamples = 0;
+        var lastCompilation = compilationMillis.getAsLong();
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(properties.sampleInterval().toMillis());
+            if (iterations.get() < properties.minIterations()) {
+                continue;
+            }
+            if (lastCompilation < 0) {
+                return WarmupResult.Outcome.UNMONITORED;
+            }
+            var compilation = compilationMillis.getAsLong();
+            quietSamples = compilation - lastCompilation < threshold ? quietSamples + 1 : 0;
+            lastCompilation = compilation;
+            if (quietSamples >= properties.settledSamples()) {
+                return WarmupResult.Outcome.SETTLED;
+            }
+        }
+        return WarmupResult.Outcome.TIMED_OUT;
+    }
+
+    private List<Thread> startWorkers() {
+        var workers = new ArrayList<Thread>();
+        for (int i = 0; i < Math.max(1, properties.threads()); i++) {
+            var worker = new Thread(this::work, "jit-warmup-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        return workers;
+    }
+
+    private void work() {
+        while (!stopping) {
+            for (var task : tasks) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    if (failures.getAndIncrement() == 0) {
+                        log.warn("Warm-up task {} failed; continuing", task, e);
+                    }
+                }
+            }
+            iterations.incrementAndGet();
+        }
+    }
+
+    private static void join(Thread worker) {
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static LongSupplier compilationMillis(CompilationMXBean compilation) {
+        if (compilation == null || !compilation.isCompilationTimeMonitoringSupported()) {
+            return () -> -1;
+        }
+        return compilation::getTotalCompilationTime;
+    }
+}
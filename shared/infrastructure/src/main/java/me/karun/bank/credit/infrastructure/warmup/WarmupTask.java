@@ -0,0 +1,11 @@
+package me.karun.bank.credit.infrastructure.warmup;
+
+/**
+ * One round of synthetic work over a hot request path, repeated by {@link WarmupRunner} until
+ * JIT compilation settles. Runs concurrently on several threads and must not touch persistent state.
+ */
+@FunctionalInterface
+public interface WarmupTask {
+
+    void run();
+}
@@ -0,0 +1,236 @@
+package me.karun.bank.credit.infrastructure.admission;
+
+import me.karun.bank.credit.infrastructure.admission.AdaptiveLimiter.Outcome;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(50).toNanos();
+    private static final String PROFILE_READ = "GET /api/v1/customers/{customerId}/profile 304";
+    private static final String REGISTRATION = "POST /api/v1/customers 201";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AdaptiveLimiter limiter = new AdaptiveLimiter(properties(10), clock::get);
+
+    @Test
+    void shouldShedLowPriorityFirst_whenLimitIsPartlyUsed() {
+        var admitted = acquire(Priority.NORMAL, 6);
+
+        assertThat(admitted).hasSize(6);
+        assertThat(limiter.tryAcquire(Priority.LOW)).isEmpty();
+        assertThat(limiter.tryAcquire(Priority.NORMAL)).isPresent();
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isPresent();
+    }
+
+    @Test
+    void shouldRejectEveryPriority_whenLimitIsFullyUsed() {
+        acquire(Priority.HIGH, 10);
+
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isEmpty();
+        assertThat(limiter.inFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldIncreaseLimit_whenLatencyStaysNearBaselineUnderLoad() {
+        var permits = acquire(Priority.HIGH, 8);
+
+        clock.addAndGet(FAST);
+        permits.forEach(permit -> permit.release(PROFILE_READ, Outcome.SUCCEEDED));
+
+        assertThat(limiter.limit()).isGreaterThan(10);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldHoldLimit_whenMostOfItIsUnused() {
+        var permit = limiter.tryAcquire(Priority.HIGH).orElseThrow();
+
+        clock.addAndGet(FAST);
+        permit.release(PROFILE_READ, Outcome.SUCCEEDED);
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldBackOff_whenSmoothedLatencyExceedsToleratedMultipleOfBaseline() {
+        warmUpAtLimit();
+        var limitBefore = limiter.limit();
+
+        for (int i = 0; i < 4; i++) {
+            completeAtLimit(SLOW);
+        }
+
+        assertThat(limiter.limit()).isLessThan(limitBefore);
+    }
+
+    @Test
+    void shouldHoldLimit_whenSingleResponseIsSlow() {
+        warmUpAtLimit();
+        var limitBefore = limiter.limit();
+
+        completeAtLimit(SLOW);
+
+        assertThat(limiter.limit()).isGreaterThanOrEqualTo(limitBefore);
+    }
+
+    @Test
+    void shouldHoldLimit_whenSlowdownComesWithLimitMostlyUnused() {
+        for (int i = 0; i < 10; i++) {
+            complete(FAST, false);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            complete(SLOW, false);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldHoldLimit_whenLatencyJittersAtLowUtilisation() {
+        var latencies = jitteredLatencies();
+
+        // One request in flight against a limit of ten
+        latencies.forEach(latency -> complete(latency, false));
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldNotBackOff_whenLatencyJittersWithLimitFullyUsed() {
+        var latencies = jitteredLatencies();
+
+        latencies.forEach(this::completeAtLimit);
+
+        assertThat(limiter.limit()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldBackOff_whenRequestFailed() {
+        complete(FAST, true);
+
+        assertThat(limiter.limit()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldNotBackOffBelowMinimum_whenLatencyStaysHigh() {
+        warmUpAtLimit();
+
+        for (int i = 0; i < 100; i++) {
+            completeAtLimit(SLOW);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldAcceptSlowerBaseline_whenSlowdownOutlastsTwoWindows() {
+        warmUpAtLimit();
+        for (int window = 0; window < 2; window++) {
+            clock.addAndGet(Duration.ofSeconds(30).toNanos());
+            for (int i = 0; i < 30; i++) {
+                completeAtLimit(SLOW);
+            }
+        }
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        var limitBefore = limiter.limit();
+
+        completeAtLimit(SLOW);
+
+        assertThat(limiter.limit()).isGreaterThan(limitBefore);
+    }
+
+    @Test
+    void shouldHoldLimit_whenFastAndSlowRoutesMixAtSteadyState() {
+        var registration = Duration.ofMillis(300).toNanos();
+        var notModified = Duration.ofMillis(1).toNanos();
+
+        for (int i = 0; i < 200; i++) {
+            complete(PROFILE_READ, notModified, Outcome.SUCCEEDED);
+            complete(REGISTRATION, registration, Outcome.SUCCEEDED);
+            complete(PROFILE_READ, notModified + (i % 3) * 100_000, Outcome.SUCCEEDED);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldHoldLimit_whenResponseIsIgnored() {
+        complete(PROFILE_READ, FAST, Outcome.SUCCEEDED);
+
+        complete(REGISTRATION, SLOW * 100, Outcome.IGNORED);
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldCountReleaseOnce_whenPermitReleasedTwice() {
+        var permit = limiter.tryAcquire(Priority.HIGH).orElseThrow();
+        limiter.tryAcquire(Priority.HIGH).orElseThrow();
+
+        permit.release(PROFILE_READ, Outcome.SUCCEEDED);
+        permit.release(PROFILE_READ, Outcome.SUCCEEDED);
+
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    private List<AdaptiveLimiter.Permit> acquire(Priority priority, int count) {
+        var permits = new ArrayList<AdaptiveLimiter.Permit>();
+        for (int i = 0; i < count; i++) {
+            limiter.tryAcquire(priority).ifPresent(permits::add);
+        }
+        return permits;
+    }
+
+    private void warmUpAtLimit() {
+        for (int i = 0; i < 10; i++) {
+            completeAtLimit(FAST);
+        }
+    }
+
+    /**
+     * Completes one request while the rest of the limit is taken by requests that are then ignored.
+     */
+    private void completeAtLimit(long latencyNanos) {
+        var load = acquire(Priority.HIGH, limiter.limit() - 1);
+        complete(PROFILE_READ, latencyNanos, Outcome.SUCCEEDED);
+        load.forEach(permit -> permit.release(PROFILE_READ, Outcome.IGNORED));
+    }
+
+    /**
+     * Lognormal around {@code FAST}, with the 99th percentile about five times the fastest of the lot.
+     */
+    private static List<Long> jitteredLatencies() {
+        var random = new Random(42);
+        var latencies = new ArrayList<Long>();
+        for (int i = 0; i < 2_000; i++) {
+            latencies.add((long) (FAST * Math.exp(0.3 * random.nextGaussian())));
+        }
+        return latencies;
+    }
+
+    private void complete(long latencyNanos, boolean failed) {
+        complete(PROFILE_READ, latencyNanos, failed ? Outcome.FAILED : Outcome.SUCCEEDED);
+    }
+
+    private void complete(String latencyClass, long latencyNanos, Outcome outcome) {
+        var permit = limiter.tryAcquire(Priority.HIGH).orElseThrow();
+        clock.addAndGet(latencyNanos);
+        permit.release(latencyClass, outcome);
+    }
+
+    private static AdmissionProperties properties(int initialLimit) {
+        return new AdmissionProperties(true, "/api/", initialLimit, 4, 100, 0.9, 2.0,
+                Duration.ofSeconds(30), Duration.ofSeconds(1),
+                new AdmissionProperties.Shares(1.0, 0.8, 0.6), List.of());
+    }
+}
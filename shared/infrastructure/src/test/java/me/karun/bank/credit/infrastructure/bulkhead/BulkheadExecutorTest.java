@@ -0,0 +1,130 @@
+package me.karun.bank.credit.infrastructure.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BulkheadExecutor bulkhead = new BulkheadExecutor("registration",
+            new BulkheadProperties.Pool(1, 1, Duration.ofSeconds(5)), meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bulkhead.shutdown();
+    }
+
+    @Test
+    void shouldRejectAndCount_whenThreadsAndQueueAreTaken() {
+        bulkhead.acquire();
+        bulkhead.submit(this::block);
+        bulkhead.acquire();
+        bulkhead.submit(this::block);
+
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(BulkheadFullException.class);
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("bulkhead", "registration").counter().count())
+                .isEqualTo(1);
+        assertThat(bulkhead.saturation()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldFreeSlot_whenTaskCompletes() throws Exception {
+        bulkhead.acquire();
+        var task = bulkhead.submit(() -> "done");
+
+        assertThat(task.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        awaitSaturation(0.0);
+    }
+
+    @Test
+    void shouldFreeSlot_whenTaskFails() throws Exception {
+        bulkhead.acquire();
+        var task = bulkhead.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> task.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        awaitSaturation(0.0);
+    }
+
+    @Test
+    void shouldFreeSlot_whenQueuedTaskIsCancelled() throws Exception {
+        bulkhead.acquire();
+        bulkhead.submit(this::block);
+        bulkhead.acquire();
+        var queued = bulkhead.submit(this::block);
+
+        queued.cancel(true);
+
+        assertThat(bulkhead.saturation()).isEqualTo(0.5);
+        bulkhead.acquire();
+        bulkhead.submit(this::block);
+        assertThat(bulkhead.saturation()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldKeepSlot_whenTimedOutTaskIgnoresInterrupt() throws Exception {
+        var started = new CountDownLatch(1);
+        bulkhead.acquire();
+        var hung = bulkhead.submit(() -> {
+            started.countDown();
+            return blockIgnoringInterrupts();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        bulkhead.acquire();
+        bulkhead.submit(this::block);
+
+        // What the request timeout does; the handler carries on regardless
+        hung.cancel(true);
+
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(BulkheadFullException.class);
+        assertThat(bulkhead.saturation()).isEqualTo(1.0);
+
+        release.countDown();
+        awaitSaturation(0.0);
+    }
+
+    @Test
+    void shouldRunOnNamedBulkheadThread_whenSubmitted() throws Exception {
+        bulkhead.acquire();
+
+        var threadName = bulkhead.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        assertThat(threadName).startsWith("bulkhead-registration-");
+    }
+
+    private String block() throws InterruptedException {
+        release.await(5, TimeUnit.SECONDS);
+        return "released";
+    }
+
+    private String blockIgnoringInterrupts() {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (release.getCount() > 0 && System.nanoTime() < deadline) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+                // keeps running, as a handler stuck in a blocking call would
+            }
+        }
+        return "released";
+    }
+
+    private void awaitSaturation(double expected) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.saturation() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(bulkhead.saturation()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,176 @@
+package me.karun.bank.credit.infrastructure.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int WAITERS = 16;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loaderCalls = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRunLoaderOnce_whenCallersArriveWhileLoadIsInFlight() throws Exception {
+        var leader = executor.submit(() -> singleFlight.load("customer-1", this::blockingLoad));
+        awaitLoaderStarted();
+        var waiters = submitWaiters("customer-1", this::blockingLoad);
+        awaitWaiting("customer-1", WAITERS);
+
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("profile");
+        for (var waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("profile");
+        }
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(singleFlight.loads()).isEqualTo(1);
+        assertThat(singleFlight.sharedLoads()).isEqualTo(WAITERS);
+    }
+
+    @Test
+    void shouldShareLoaderException_whenLoadFails() throws Exception {
+        var leader = executor.submit(() -> singleFlight.load("customer-1", () -> {
+            blockingLoad();
+            throw new IllegalStateException("database unavailable");
+        }));
+        awaitLoaderStarted();
+        var waiter = executor.submit(() -> singleFlight.load("customer-1", this::blockingLoad));
+        awaitWaiting("customer-1", 1);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("database unavailable");
+        assertThat(loaderCalls).hasValue(1);
+    }
+
+    @Test
+    void shouldStartFreshLoad_whenPreviousLoadCompleted() {
+        singleFlight.load("customer-1", () -> "first");
+
+        var value = singleFlight.load("customer-1", () -> "second");
+
+        assertThat(value).isEqualTo("second");
+        assertThat(singleFlight.sharedLoads()).isZero();
+    }
+
+    @Test
+    void shouldNotShareLoad_whenKeysDiffer() throws Exception {
+        executor.submit(() -> singleFlight.load("customer-1", this::blockingLoad));
+        awaitLoaderStarted();
+
+        var value = singleFlight.load("customer-2", () -> "other");
+
+        assertThat(value).isEqualTo("other");
+    }
+
+    @Test
+    void shouldStartFreshLoad_whenKeyForgottenDuringLoad() throws Exception {
+        executor.submit(() -> singleFlight.load("customer-1", this::blockingLoad));
+        awaitLoaderStarted();
+
+        singleFlight.forget("customer-1");
+        var value = singleFlight.load("customer-1", () -> "after write");
+
+        assertThat(value).isEqualTo("after write");
+    }
+
+    @Test
+    void shouldTimeOutWaiterOnly_whenLoadOutlastsTimeout() throws Exception {
+        var shortWait = new SingleFlight<String, String>(Duration.ofMillis(50));
+        var leader = executor.submit(() -> shortWait.load("customer-1", this::blockingLoad));
+        awaitLoaderStarted();
+
+        assertThatThrownBy(() -> shortWait.load("customer-1", this::blockingLoad))
+                .isInstanceOf(SingleFlightTimeoutException.class);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("profile");
+    }
+
+    @Test
+    void shouldCancelWaiterAndKeepInterruptFlag_whenWaiterInterrupted() throws Exception {
+        var leader = executor.submit(() -> singleFlight.load("customer-1", this::blockingLoad));
+        awaitLoaderStarted();
+        var interrupted = new AtomicInteger();
+        var waiter = executor.submit(() -> {
+            try {
+                return singleFlight.load("customer-1", this::blockingLoad);
+            } finally {
+                if (Thread.currentThread().isInterrupted()) {
+                    interrupted.incrementAndGet();
+                }
+            }
+        });
+        awaitWaiting("customer-1", 1);
+
+        waiter.cancel(true);
+        awaitUntil(() -> interrupted.get() == 1);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("profile");
+        assertThat(interrupted).hasValue(1);
+        assertThatThrownBy(waiter::get).isInstanceOf(CancellationException.class);
+    }
+
+    private String blockingLoad() {
+        loaderCalls.incrementAndGet();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "profile";
+    }
+
+    private List<Future<String>> submitWaiters(String key, Supplier<String> loader) {
+        var waiters = new ArrayList<Future<String>>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(executor.submit(() -> singleFlight.load(key, loader)));
+        }
+        return waiters;
+    }
+
+    private void awaitLoaderStarted() throws InterruptedException {
+        awaitUntil(() -> loaderCalls.get() > 0);
+    }
+
+    private void awaitWaiting(String key, int waiters) throws InterruptedException {
+        awaitUntil(() -> singleFlight.waiting(key) == waiters);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
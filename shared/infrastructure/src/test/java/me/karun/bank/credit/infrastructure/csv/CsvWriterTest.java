@@ -0,0 +1,39 @@
+package me.karun.bank.credit.infrastructure.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTest {
+
+    @Test
+    void shouldWriteCommaSeparatedLine_whenValuesArePlain() {
+        var output = new StringWriter();
+
+        new CsvWriter(output).writeRow(List.of("a", 1, "c"));
+
+        assertThat(output).hasToString("a,1,c\n");
+    }
+
+    @Test
+    void shouldWriteEmptyField_whenValueIsNull() {
+        var output = new StringWriter();
+
+        new CsvWriter(output).writeRow(Arrays.asList("a", null, "c"));
+
+        assertThat(output).hasToString("a,,c\n");
+    }
+
+    @Test
+    void shouldQuoteAndEscapeField_whenValueContainsSpecialCharacters() {
+        var output = new StringWriter();
+
+        new CsvWriter(output).writeRow(List.of("Apt 4, Floor 2", "say \"hi\"", "line\nbreak"));
+
+        assertThat(output).hasToString("\"Apt 4, Floor 2\",\"say \"\"hi\"\"\",\"line\nbreak\"\n");
+    }
+}
@@ -0,0 +1,54 @@
+package me.karun.bank.credit.infrastructure.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesGuardTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofSeconds(5), clock::get);
+
+    @Test
+    void shouldPinReadToPrimary_whenKeyWasWrittenWithinWindow() {
+        guard.recordWrite("customer-1");
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        var pinned = guard.readFor("customer-1", ReadYourWritesGuard::isPinnedToPrimary);
+
+        assertThat(pinned).isTrue();
+        assertThat(ReadYourWritesGuard.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void shouldNotPinRead_whenWindowHasElapsed() {
+        guard.recordWrite("customer-1");
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        var pinned = guard.readFor("customer-1", ReadYourWritesGuard::isPinnedToPrimary);
+
+        assertThat(pinned).isFalse();
+    }
+
+    @Test
+    void shouldNotPinRead_whenOtherKeyWasWritten() {
+        guard.recordWrite("customer-1");
+
+        var pinned = guard.readFor("customer-2", ReadYourWritesGuard::isPinnedToPrimary);
+
+        assertThat(pinned).isFalse();
+    }
+
+    @Test
+    void shouldKeepOuterPin_whenNestedReadIsNotPinned() {
+        guard.recordWrite("customer-1");
+
+        var pinned = guard.readFor("customer-1",
+                () -> guard.readFor("customer-2", ReadYourWritesGuard::isPinnedToPrimary));
+
+        assertThat(pinned).isTrue();
+    }
+}
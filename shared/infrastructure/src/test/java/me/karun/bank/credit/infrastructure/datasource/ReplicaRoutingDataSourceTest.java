@@ -0,0 +1,92 @@
+package me.karun.bank.credit.infrastructure.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = connection();
+    private final Connection replicaConnection = connection();
+    private final DataSource primary = dataSource(primaryConnection);
+
+    @Test
+    void shouldUseReplica_whenReplicaIsHealthy() throws SQLException {
+        var routing = new ReplicaRoutingDataSource(primary, new ReplicaPool(List.of(dataSource(replicaConnection))));
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void shouldUsePrimary_whenReadIsPinned() {
+        var routing = new ReplicaRoutingDataSource(primary, new ReplicaPool(List.of(dataSource(replicaConnection))));
+        var guard = new ReadYourWritesGuard(Duration.ofSeconds(5));
+        guard.recordWrite("customer-1");
+
+        var connection = guard.readFor("customer-1", () -> getConnection(routing));
+
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldFallBackToPrimary_whenReplicaIsUnreachable() throws SQLException {
+        var routing = new ReplicaRoutingDataSource(primary, new ReplicaPool(List.of(failingDataSource())));
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldRotateAcrossReplicas_whenSeveralAreHealthy() throws SQLException {
+        var otherReplicaConnection = connection();
+        var routing = new ReplicaRoutingDataSource(primary, new ReplicaPool(List.of(
+                dataSource(replicaConnection), dataSource(otherReplicaConnection))));
+
+        assertThat(List.of(routing.getConnection(), routing.getConnection()))
+                .containsExactlyInAnyOrder(replicaConnection, otherReplicaConnection);
+    }
+
+    private static Connection getConnection(DataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Connection connection() {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "isValid" -> true;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+
+    private static DataSource dataSource(Connection connection) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getConnection" -> connection;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+
+    private static DataSource failingDataSource() {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getConnection" -> throw new SQLException("replica unreachable");
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,160 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryBudgetTest {
+
+    private static final int ROWS_PER_QUERY = 3;
+
+    private QueryRecorder recorder;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new QueryRecorder();
+        dataSource = QueryObservingDataSource.wrap(fakeDataSource(), recorder);
+    }
+
+    @Test
+    void shouldCountStatementsRoundTripsAndRows_whenQueriesRun() {
+        var report = recorder.record(() -> {
+            query("select * from customers where id = ?");
+            update("update customers set status = ? where id = ?");
+        });
+
+        assertThat(report.statements()).isEqualTo(2);
+        assertThat(report.roundTrips()).isEqualTo(2);
+        assertThat(report.rows()).isEqualTo(ROWS_PER_QUERY);
+    }
+
+    @Test
+    void shouldCountBatchAsSingleRoundTrip_whenStatementsAreBatched() {
+        var report = recorder.record(() -> batch("insert into profile_audit values (?, ?)", 5));
+
+        assertThat(report.statements()).isEqualTo(5);
+        assertThat(report.roundTrips()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPass_whenWithinBudget() {
+        var result = QueryBudget.maxStatements(1).verify(recorder, () -> query("select 1"));
+
+        assertThat(result).isEqualTo(ROWS_PER_QUERY);
+    }
+
+    @Test
+    void shouldFailWithCapturedSql_whenStatementBudgetExceeded() {
+        assertThatThrownBy(() -> QueryBudget.maxStatements(1).verify(recorder, () -> {
+            query("select * from customers where id = ?");
+            query("select * from customer_profiles where customer_id = ?");
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("expected at most 1 statements but executed 2")
+                .hasMessageContaining("select * from customer_profiles where customer_id = ?");
+    }
+
+    @Test
+    void shouldFail_whenRowBudgetExceeded() {
+        var budget = QueryBudget.maxStatements(10).withMaxRows(2);
+
+        assertThatThrownBy(() -> budget.verify(recorder, () -> query("select * from customers")))
+                .hasMessageContaining("expected at most 2 rows but read 3");
+    }
+
+    @Test
+    void shouldDetectNPlusOne_whenSameShapeRepeatsAcrossRoundTrips() {
+        var budget = QueryBudget.maxStatements(10);
+
+        assertThatThrownBy(() -> budget.verify(recorder, () -> {
+            query("select * from customers");
+            for (int id = 1; id <= 3; id++) {
+                query("select * from customer_profiles where customer_id = " + id);
+            }
+        }))
+                .hasMessageContaining("possible N+1: executed 3 times: select * from customer_profiles where customer_id = ?");
+    }
+
+    @Test
+    void shouldIgnoreQueries_whenIssuedOutsideRecording() {
+        query("select 1");
+
+        var report = recorder.record(() -> {
+        });
+
+        assertThat(report.roundTrips()).isZero();
+    }
+
+    private int query(String sql) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(sql);
+             var resultSet = statement.executeQuery()) {
+            var rows = 0;
+            while (resultSet.next()) {
+                rows++;
+            }
+            return rows;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void update(String sql) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(sql)) {
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void batch(String sql, int size) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < size; i++) {
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DataSource fakeDataSource() {
+        return fake(DataSource.class, methodName -> methodName.equals("getConnection") ? fakeConnection() : null);
+    }
+
+    private static Connection fakeConnection() {
+        return fake(Connection.class, methodName -> methodName.equals("prepareStatement") ? fakeStatement() : null);
+    }
+
+    private static PreparedStatement fakeStatement() {
+        return fake(PreparedStatement.class, methodName -> switch (methodName) {
+            case "executeQuery" -> fakeResultSet();
+            case "executeUpdate" -> 1;
+            case "executeBatch" -> new int[0];
+            default -> null;
+        });
+    }
+
+    private static ResultSet fakeResultSet() {
+        var remaining = new int[]{ROWS_PER_QUERY};
+        return fake(ResultSet.class, methodName -> methodName.equals("next") ? remaining[0]-- > 0 : null);
+    }
+
+    private static <T> T fake(Class<T> type, Function<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> answers.apply(method.getName())));
+    }
+}
@@ -0,0 +1,104 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryMetricsListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new QueryMetricsListener(meterRegistry);
+    }
+
+    @Test
+    void shouldTagTimerWithShapeEndpointAndOperation_whenQueryRunsInsideAttribution() {
+        try (var endpoint = QueryAttribution.withEndpoint("PUT /api/v1/customers/{customerId}/profile");
+             var operation = QueryAttribution.withOperation("CustomerServiceImpl.updateProfile")) {
+            listener.afterQuery(new QueryExecution("select * from customers where id = 42", 1, 2_000_000, false));
+        }
+
+        var timer = meterRegistry.get(QueryMetricsListener.QUERY_TIMER)
+                .tag("query", "select * from customers where id = ?")
+                .tag("endpoint", "PUT /api/v1/customers/{customerId}/profile")
+                .tag("operation", "CustomerServiceImpl.updateProfile")
+                .tag("outcome", "success")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldCountQueryInHistogramBucket_whenQueryIsTimed() {
+        var prometheusRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        var listener = new QueryMetricsListener(prometheusRegistry);
+
+        listener.afterQuery(new QueryExecution("select * from customers where id = 42", 1, 2_000_000, false));
+
+        var buckets = prometheusRegistry.get(QueryMetricsListener.QUERY_TIMER).timer().takeSnapshot().histogramCounts();
+        assertThat(buckets).isNotEmpty();
+        assertThat(buckets[0].bucket(TimeUnit.MILLISECONDS)).isLessThanOrEqualTo(0.1);
+        assertThat(buckets).filteredOn(bucket -> bucket.bucket(TimeUnit.MILLISECONDS) < 2.0)
+                .allSatisfy(bucket -> assertThat(bucket.count()).isZero());
+        assertThat(buckets).filteredOn(bucket -> bucket.bucket(TimeUnit.MILLISECONDS) >= 2.0)
+                .allSatisfy(bucket -> assertThat(bucket.count()).isEqualTo(1));
+    }
+
+    @Test
+    void shouldTagAsUnattributed_whenNoAttributionIsActive() {
+        listener.afterQuery(new QueryExecution("select 1", 1, 1_000, true));
+
+        var timer = meterRegistry.get(QueryMetricsListener.QUERY_TIMER)
+                .tag("endpoint", QueryAttribution.UNATTRIBUTED)
+                .tag("operation", QueryAttribution.UNATTRIBUTED)
+                .tag("outcome", "error")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordRowsPerResultSet() {
+        listener.afterRowsRead("select * from customers", 3);
+        listener.afterRowsRead("select * from customers", 5);
+
+        var summary = meterRegistry.get(QueryMetricsListener.ROWS_SUMMARY).summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(8.0);
+    }
+
+    @Test
+    void shouldStopAddingShapes_whenEitherMetersShapeLimitIsReached() {
+        meterRegistry.config()
+                .meterFilter(QueryMetricsConfig.queryShapeCardinalityLimit(2))
+                .meterFilter(QueryMetricsConfig.queryRowsShapeCardinalityLimit(2));
+
+        for (var table : new String[]{"customers", "customer_profiles", "profile_audit"}) {
+            listener.afterQuery(new QueryExecution("select * from " + table, 1, 1_000, false));
+            listener.afterRowsRead("select * from " + table, 1);
+        }
+
+        assertThat(meterRegistry.find(QueryMetricsListener.QUERY_TIMER).timers()).hasSize(2);
+        assertThat(meterRegistry.find(QueryMetricsListener.ROWS_SUMMARY).summaries()).hasSize(2);
+    }
+
+    @Test
+    void shouldRestoreOuterOperation_whenNestedScopeCloses() {
+        try (var outer = QueryAttribution.withOperation("CustomerServiceImpl.completeProfile")) {
+            try (var inner = QueryAttribution.withOperation("VerificationTokenService.onCustomerRegistered")) {
+                assertThat(QueryAttribution.current().operation()).isEqualTo("VerificationTokenService.onCustomerRegistered");
+            }
+            assertThat(QueryAttribution.current().operation()).isEqualTo("CustomerServiceImpl.completeProfile");
+        }
+        assertThat(QueryAttribution.current().operation()).isEqualTo(QueryAttribution.UNATTRIBUTED);
+    }
+}
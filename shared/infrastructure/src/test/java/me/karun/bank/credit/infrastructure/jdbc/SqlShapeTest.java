@@ -0,0 +1,31 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlShapeTest {
+
+    @Test
+    void shouldReplaceLiterals_whenSqlContainsInlineValues() {
+        var shape = SqlShape.of("SELECT * FROM customers WHERE email = 'a@b.com' AND age > 21");
+
+        assertThat(shape).isEqualTo("select * from customers where email = ? and age > ?");
+    }
+
+    @Test
+    void shouldCollapseInLists_whenParameterCountsDiffer() {
+        assertThat(SqlShape.of("select id from t where id in (?, ?, ?)"))
+                .isEqualTo(SqlShape.of("select id from t where id in (?)"));
+    }
+
+    @Test
+    void shouldNormaliseWhitespace() {
+        assertThat(SqlShape.of("select id\n  from   t")).isEqualTo("select id from t");
+    }
+
+    @Test
+    void shouldKeepIdentifiersContainingDigits() {
+        assertThat(SqlShape.of("select * from profile_audit_p2025_06")).isEqualTo("select * from profile_audit_p2025_06");
+    }
+}
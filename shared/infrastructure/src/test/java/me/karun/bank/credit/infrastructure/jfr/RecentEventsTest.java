@@ -0,0 +1,88 @@
+package me.karun.bank.credit.infrastructure.jfr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecentEventsTest {
+
+    private RecentEvents recentEvents;
+
+    @AfterEach
+    void tearDown() {
+        if (recentEvents != null) {
+            recentEvents.destroy();
+        }
+    }
+
+    @Test
+    void shouldRecordOperationWithOutcome_whenAdvisedCallReturnsOrThrows() throws Exception {
+        recentEvents = new RecentEvents(properties(10));
+        var greeter = proxy(name -> {
+            if (name == null) {
+                throw new IllegalArgumentException("name is required");
+            }
+            return "Hello " + name;
+        });
+
+        greeter.greet("Jane");
+        assertThatThrownBy(() -> greeter.greet(null)).isInstanceOf(IllegalArgumentException.class);
+
+        awaitUntil(() -> recentEvents.latest(null, 10).size() == 2);
+        var latest = recentEvents.latest("ServiceOperation", 10);
+        assertThat(latest).extracting(event -> event.fields().get("outcome"))
+                .containsExactly("IllegalArgumentException", "success");
+        assertThat(latest.get(1).fields())
+                .containsEntry("service", "Greeter")
+                .containsEntry("operation", "greet");
+        assertThat(latest.get(1).thread()).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldKeepOnlyNewestEvents_whenCapacityIsExceeded() throws Exception {
+        recentEvents = new RecentEvents(properties(3));
+
+        for (int i = 0; i < 5; i++) {
+            proxy(name -> "Hello " + name, "service-" + i).greet("Jane");
+        }
+
+        awaitUntil(() -> recentEvents.latest(null, 1).stream().anyMatch(event -> "service-4".equals(event.fields().get("service"))));
+        assertThat(recentEvents.latest(null, 10)).extracting(event -> event.fields().get("service"))
+                .containsExactly("service-4", "service-3", "service-2");
+    }
+
+    private static JfrProperties properties(int capacity) {
+        return new JfrProperties(true, List.of(OperationEvent.NAME), Duration.ZERO, capacity);
+    }
+
+    private static Greeter proxy(Greeter target) {
+        return proxy(target, "Greeter");
+    }
+
+    private static Greeter proxy(Greeter target, String service) {
+        var factory = new ProxyFactory(target);
+        factory.addInterface(Greeter.class);
+        factory.addAdvice(new OperationEventInterceptor(service));
+        return (Greeter) factory.getProxy();
+    }
+
+    interface Greeter {
+        String greet(String name);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
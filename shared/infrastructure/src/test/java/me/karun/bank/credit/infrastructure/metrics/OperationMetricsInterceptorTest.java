@@ -0,0 +1,73 @@
+package me.karun.bank.credit.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OperationMetricsInterceptorTest {
+
+    private final MockClock clock = new MockClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+    private final Greeter greeter = proxy(new SlowGreeter(clock));
+
+    @Test
+    void shouldTimeOperation_whenCallSucceeds() {
+        greeter.greet("Jane");
+
+        var timer = meterRegistry.get("test.operation").tag("operation", "greet").tag("outcome", "success").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20);
+    }
+
+    @Test
+    void shouldCountByExceptionType_whenCallFails() {
+        assertThatThrownBy(() -> greeter.greet(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> greeter.greet(null)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(meterRegistry.get("test.operation").tag("outcome", "error").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("test.operation.errors")
+                .tag("operation", "greet")
+                .tag("exception", "IllegalArgumentException")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReuseMeters_whenOperationCalledRepeatedly() {
+        for (int i = 0; i < 100; i++) {
+            greeter.greet("Jane");
+        }
+
+        assertThat(meterRegistry.getMeters()).hasSize(2);
+        assertThat(meterRegistry.get("test.operation").tag("outcome", "success").timer().count()).isEqualTo(100);
+    }
+
+    private Greeter proxy(Greeter target) {
+        var factory = new ProxyFactory(target);
+        factory.addAdvice(new OperationMetricsInterceptor("test.operation", () -> meterRegistry));
+        return (Greeter) factory.getProxy();
+    }
+
+    interface Greeter {
+        String greet(String name);
+    }
+
+    record SlowGreeter(MockClock clock) implements Greeter {
+
+        @Override
+        public String greet(String name) {
+            clock.add(Duration.ofMillis(20));
+            if (name == null) {
+                throw new IllegalArgumentException("name is required");
+            }
+            return "Hello " + name;
+        }
+    }
+}
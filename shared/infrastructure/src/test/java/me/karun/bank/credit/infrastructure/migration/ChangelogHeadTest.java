@@ -0,0 +1,28 @@
+package me.karun.bank.credit.infrastructure.migration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangelogHeadTest {
+
+    @Test
+    void shouldReturnLastChangeSet_whenFollowingIncludes() {
+        var head = ChangelogHead.of("classpath:db/changelog/test.changelog-master.xml");
+
+        assertThat(head).isEqualTo(new ChangelogHead("003-third", "bob", "db/changelog/second.changelog.xml"));
+    }
+
+    @Test
+    void shouldReadChangelogWithoutClasspathPrefix() {
+        assertThat(ChangelogHead.of("db/changelog/module/first.changelog.xml").id()).isEqualTo("001-first");
+    }
+
+    @Test
+    void shouldFail_whenChangelogHasNoChangeSets() {
+        assertThatThrownBy(() -> ChangelogHead.of("db/changelog/empty.changelog.xml"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No changeSet");
+    }
+}
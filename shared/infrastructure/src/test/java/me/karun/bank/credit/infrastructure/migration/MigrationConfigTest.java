@@ -0,0 +1,77 @@
+package me.karun.bank.credit.infrastructure.migration;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MigrationConfigTest {
+
+    private static final String CHANGE_LOG = "platform.migration.change-log=classpath:db/changelog/test.changelog-master.xml";
+
+    private DataSource dataSource;
+    private ApplicationContextRunner contextRunner;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        contextRunner = new ApplicationContextRunner()
+                .withUserConfiguration(MigrationConfig.class)
+                .withBean(DataSource.class, () -> dataSource)
+                .withPropertyValues(CHANGE_LOG);
+    }
+
+    @Test
+    void shouldApplyChangelog_whenModeIsMigrate() {
+        contextRunner.withPropertyValues("platform.migration.on-startup=migrate").run(context -> {
+            assertThat(context).hasSingleBean(SpringLiquibase.class).doesNotHaveBean(SchemaVersionVerifier.class);
+            assertThat(appliedChangesets()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void shouldVerifyWithoutMigrating_whenModeIsVerify() {
+        contextRunner.withPropertyValues("platform.migration.on-startup=migrate").run(context -> {
+        });
+
+        contextRunner.withPropertyValues("platform.migration.on-startup=verify").run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasSingleBean(SchemaVersionVerifier.class).doesNotHaveBean(SpringLiquibase.class);
+        });
+    }
+
+    @Test
+    void shouldFailStartup_whenVerifyingSchemaBehindChangelog() {
+        contextRunner.withPropertyValues("platform.migration.on-startup=migrate").run(context -> {
+        });
+        new JdbcTemplate(dataSource).update("delete from databasechangelog where id = '003-third'");
+
+        contextRunner.withPropertyValues("platform.migration.on-startup=verify").run(context -> {
+            assertThat(context).hasFailed();
+            assertThat(context.getStartupFailure()).rootCause().hasMessageContaining("changeset 003-third by bob");
+        });
+    }
+
+    @Test
+    void shouldNeitherMigrateNorVerify_whenModeIsNone() {
+        contextRunner.withPropertyValues("platform.migration.on-startup=none").run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(SpringLiquibase.class).doesNotHaveBean(SchemaVersionVerifier.class);
+        });
+        // An empty database would fail verification, so nothing tried to read it
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "select count(*) from information_schema.tables where lower(table_name) = 'databasechangelog'",
+                Integer.class)).isZero();
+    }
+
+    private int appliedChangesets() {
+        return new JdbcTemplate(dataSource).queryForObject("select count(*) from databasechangelog", Integer.class);
+    }
+}
@@ -0,0 +1,64 @@
+package me.karun.bank.credit.infrastructure.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SchemaVersionVerifierTest {
+
+    private static final ChangelogHead HEAD = ChangelogHead.of("classpath:db/changelog/test.changelog-master.xml");
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void shouldPass_whenHeadChangesetIsApplied() {
+        createChangelogTable();
+        applied("001-first", "alice");
+        applied("003-third", "bob");
+
+        assertThatCode(() -> new SchemaVersionVerifier(dataSource, HEAD).verify()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldFail_whenHeadChangesetIsMissing() {
+        createChangelogTable();
+        applied("001-first", "alice");
+        applied("002-second", "bob");
+        // Same id, different author: a different changeset to Liquibase
+        applied("003-third", "alice");
+
+        assertThatThrownBy(() -> new SchemaVersionVerifier(dataSource, HEAD).verify())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("changeset 003-third by bob")
+                .hasMessageContaining("Run the migration job first");
+    }
+
+    @Test
+    void shouldFail_whenChangelogTableDoesNotExist() {
+        assertThatThrownBy(() -> new SchemaVersionVerifier(dataSource, HEAD).verify())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("has the migration job run?");
+    }
+
+    private void createChangelogTable() {
+        jdbcTemplate.execute("create table databasechangelog (id varchar(255), author varchar(255), filename varchar(255))");
+    }
+
+    private void applied(String id, String author) {
+        jdbcTemplate.update("insert into databasechangelog values (?, ?, ?)", id, author, HEAD.changelog());
+    }
+}
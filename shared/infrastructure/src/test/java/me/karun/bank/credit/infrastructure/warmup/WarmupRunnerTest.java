@@ -0,0 +1,67 @@
+package me.karun.bank.credit.infrastructure.warmup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupRunnerTest {
+
+    private final AtomicLong taskRuns = new AtomicLong();
+    private final WarmupTask task = taskRuns::incrementAndGet;
+
+    @Test
+    void shouldSettle_whenCompilationTimeStopsGrowing() {
+        var samples = new AtomicLong();
+        var runner = new WarmupRunner(List.of(task), properties(Duration.ofSeconds(10)),
+                () -> Math.min(samples.incrementAndGet(), 5) * 100);
+
+        var result = runner.run();
+
+        assertThat(result.outcome()).isEqualTo(WarmupResult.Outcome.SETTLED);
+        assertThat(result.iterations()).isGreaterThanOrEqualTo(50);
+        assertThat(taskRuns.get()).isGreaterThanOrEqualTo(result.iterations());
+    }
+
+    @Test
+    void shouldTimeOut_whenCompilationKeepsGrowing() {
+        var compilation = new AtomicLong();
+        var runner = new WarmupRunner(List.of(task), properties(Duration.ofMillis(100)),
+                () -> compilation.addAndGet(100));
+
+        var result = runner.run();
+
+        assertThat(result.outcome()).isEqualTo(WarmupResult.Outcome.TIMED_OUT);
+    }
+
+    @Test
+    void shouldRunMinimumIterations_whenCompilationTimeIsUnsupported() {
+        var runner = new WarmupRunner(List.of(task), properties(Duration.ofSeconds(10)), () -> -1);
+
+        var result = runner.run();
+
+        assertThat(result.outcome()).isEqualTo(WarmupResult.Outcome.UNMONITORED);
+        assertThat(result.iterations()).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void shouldKeepGoing_whenTaskFails() {
+        var runner = new WarmupRunner(List.of(() -> {
+            throw new IllegalStateException("boom");
+        }, task), properties(Duration.ofSeconds(10)), () -> 0);
+
+        var result = runner.run();
+
+        assertThat(result.outcome()).isEqualTo(WarmupResult.Outcome.SETTLED);
+        assertThat(result.failures()).isEqualTo(result.iterations());
+        assertThat(taskRuns.get()).isEqualTo(result.iterations());
+    }
+
+    private static WarmupProperties properties(Duration maxDuration) {
+        return new WarmupProperties(true, 2, 50, maxDuration, Duration.ofMillis(5), 3,
+                Duration.ofMillis(10), Duration.ofSeconds(60));
+    }
+}
@@ -0,0 +1,67 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Upper bounds on the database work a single service call may do.
+ *
+ * <pre>{@code
+ * QueryBudget.maxStatements(2).verify(queryRecorder, () -> service.verifyEmail(request));
+ * }</pre>
+ */
+public record QueryBudget(int maxStatements, int maxRoundTrips, long maxRows, int maxRepeats) {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+    private static final int DEFAULT_MAX_REPEATS = 2;
+
+    public static QueryBudget maxStatements(int maxStatements) {
+        return new QueryBudget(maxStatements, UNLIMITED, UNLIMITED, DEFAULT_MAX_REPEATS);
+    }
+
+    public QueryBudget withMaxRoundTrips(int maxRoundTrips) {
+        return new QueryBudget(maxStatements, maxRoundTrips, maxRows, maxRepeats);
+    }
+
+    public QueryBudget withMaxRows(long maxRows) {
+        return new QueryBudget(maxStatements, maxRoundTrips, maxRows, maxRepeats);
+    }
+
+    public QueryBudget withMaxRepeats(int maxRepeats) {
+        return new QueryBudget(maxStatements, maxRoundTrips, maxRows, maxRepeats);
+    }
+
+    public QueryReport verify(QueryRecorder recorder, Runnable action) {
+        var report = recorder.record(action);
+        assertWithin(report);
+        return report;
+    }
+
+    public <T> T verify(QueryRecorder recorder, Supplier<T> action) {
+        var result = new ArrayList<T>(1);
+        verify(recorder, () -> {
+            result.add(action.get());
+        });
+        return result.get(0);
+    }
+
+    public void assertWithin(QueryReport report) {
+        var violations = new ArrayList<String>();
+        if (report.statements() > maxStatements) {
+            violations.add("expected at most " + maxStatements + " statements but executed " + report.statements());
+        }
+        if (report.roundTrips() > maxRoundTrips) {
+            violations.add("expected at most " + maxRoundTrips + " round trips but made " + report.roundTrips());
+        }
+        if (report.rows() > maxRows) {
+            violations.add("expected at most " + maxRows + " rows but read " + report.rows());
+        }
+        for (Map.Entry<String, Long> repeated : report.repeatedShapes(maxRepeats).entrySet()) {
+            violations.add("possible N+1: executed " + repeated.getValue() + " times: " + repeated.getKey());
+        }
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Query budget exceeded: " + String.join("; ", violations) + "\n" + report.describe());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Import into a Spring test context to route every {@link DataSource} through a shared
+ * {@link QueryRecorder}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class QueryBudgetConfiguration {
+
+    @Bean
+    static QueryRecorder queryRecorder() {
+        return new QueryRecorder();
+    }
+
+    @Bean
+    static BeanPostProcessor queryRecordingDataSourcePostProcessor(QueryRecorder queryRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource
+                        ? QueryObservingDataSource.wrap(dataSource, queryRecorder)
+                        : bean;
+            }
+        };
+    }
+}
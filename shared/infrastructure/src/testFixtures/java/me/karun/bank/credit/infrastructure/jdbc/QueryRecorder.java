@@ -0,0 +1,50 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Captures the queries issued by the calling thread while an action runs. Queries from
+ * other threads, such as connection-pool housekeeping, are ignored.
+ */
+public class QueryRecorder implements QueryListener {
+
+    private final ThreadLocal<Recording> current = new ThreadLocal<>();
+
+    public QueryReport record(Runnable action) {
+        var recording = new Recording();
+        var previous = current.get();
+        current.set(recording);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+        }
+        return new QueryReport(List.copyOf(recording.executions), recording.rows);
+    }
+
+    @Override
+    public void afterQuery(QueryExecution execution) {
+        var recording = current.get();
+        if (recording != null) {
+            recording.executions.add(execution);
+        }
+    }
+
+    @Override
+    public void afterRowsRead(String sql, long rows) {
+        var recording = current.get();
+        if (recording != null) {
+            recording.rows += rows;
+        }
+    }
+
+    private static final class Recording {
+        private final List<QueryExecution> executions = new ArrayList<>();
+        private long rows;
+    }
+}
@@ -0,0 +1,38 @@
+package me.karun.bank.credit.infrastructure.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public record QueryReport(List<QueryExecution> executions, long rows) {
+
+    public int statements() {
+        return executions.stream().mapToInt(QueryExecution::statements).sum();
+    }
+
+    public int roundTrips() {
+        return executions.size();
+    }
+
+    /**
+     * Query shapes sent as separate round trips more than {@code maxRepeats} times, the usual
+     * signature of an N+1 select or an unbatched insert loop.
+     */
+    public Map<String, Long> repeatedShapes(int maxRepeats) {
+        return executions.stream()
+                .collect(Collectors.groupingBy(execution -> SqlShape.of(execution.sql()), LinkedHashMap::new, Collectors.counting()))
+                .entrySet().stream()
+                .filter(entry -> entry.getValue() > maxRepeats)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    public String describe() {
+        var lines = executions.stream()
+                .map(execution -> execution.statements() > 1
+                        ? "  [batch of " + execution.statements() + "] " + execution.sql()
+                        : "  " + execution.sql())
+                .collect(Collectors.joining("\n"));
+        return "Captured " + roundTrips() + " round trips, " + statements() + " statements, " + rows + " rows:\n" + lines;
+    }
+}
@@ -0,0 +1,65 @@
+package me.karun.bank.credit.kernel.id;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by a 12-bit
+ * sequence and 62 random bits. Identifiers from one generator are strictly increasing, even when
+ * many are issued within the same millisecond or the wall clock steps backwards, so inserts keyed
+ * on them append to the right-hand edge of a B-tree index.
+ */
+public final class UuidV7Generator {
+
+    private static final UuidV7Generator SYSTEM = new UuidV7Generator(System::currentTimeMillis);
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long RANDOM_SEQUENCE_START_BOUND = 1L << (SEQUENCE_BITS - 1);
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier epochMillis;
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    public UuidV7Generator(LongSupplier epochMillis) {
+        this.epochMillis = epochMillis;
+    }
+
+    public static UUID generate() {
+        return SYSTEM.next();
+    }
+
+    public static Instant timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    public UUID next() {
+        var timestampAndSequence = nextTimestampAndSequence();
+        var timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        var sequence = timestampAndSequence & SEQUENCE_MASK;
+
+        var mostSignificantBits = (timestamp << 16) | VERSION | sequence;
+        var leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private long nextTimestampAndSequence() {
+        var candidate = (epochMillis.getAsLong() << SEQUENCE_BITS)
+                | ThreadLocalRandom.current().nextLong(RANDOM_SEQUENCE_START_BOUND);
+        while (true) {
+            var last = lastTimestampAndSequence.get();
+            var next = Math.max(candidate, last + 1);
+            if (lastTimestampAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
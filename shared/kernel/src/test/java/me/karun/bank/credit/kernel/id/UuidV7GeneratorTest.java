@@ -0,0 +1,82 @@
+package me.karun.bank.credit.kernel.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7GeneratorTest {
+
+    private static final long NOW = Instant.parse("2025-06-01T12:00:00Z").toEpochMilli();
+
+    @Test
+    void shouldSetVersionAndVariantBits() {
+        var uuid = UuidV7Generator.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void shouldEmbedClockTimestamp() {
+        var generator = new UuidV7Generator(() -> NOW);
+
+        var uuid = generator.next();
+
+        assertEquals(Instant.ofEpochMilli(NOW), UuidV7Generator.timestampOf(uuid));
+    }
+
+    @Test
+    void shouldIncreaseStrictly_whenGeneratedWithinSameMillisecond() {
+        var generator = new UuidV7Generator(() -> NOW);
+
+        var ids = IntStream.range(0, 10_000).mapToObj(i -> generator.next()).toList();
+
+        assertStrictlyIncreasing(ids);
+    }
+
+    @Test
+    void shouldIncreaseStrictly_whenClockStepsBackwards() {
+        var clock = new AtomicLong(NOW);
+        var generator = new UuidV7Generator(clock::get);
+
+        var before = generator.next();
+        clock.set(NOW - 5_000);
+        var after = generator.next();
+
+        assertStrictlyIncreasing(List.of(before, after));
+    }
+
+    @Test
+    void shouldGenerateUniqueIds_whenCalledConcurrently() {
+        var generator = new UuidV7Generator(System::currentTimeMillis);
+        var ids = ConcurrentHashMap.<UUID>newKeySet();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(generator.next()));
+
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    void shouldRejectTimestampLookup_whenUuidIsNotVersion7() {
+        var randomUuid = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Generator.timestampOf(randomUuid));
+    }
+
+    private void assertStrictlyIncreasing(List<UUID> ids) {
+        for (int i = 1; i < ids.size(); i++) {
+            var previous = ids.get(i - 1).getMostSignificantBits();
+            var current = ids.get(i).getMostSignificantBits();
+            assertTrue(Long.compareUnsigned(previous, current) < 0, "ids out of order at index " + i);
+        }
+    }
+}
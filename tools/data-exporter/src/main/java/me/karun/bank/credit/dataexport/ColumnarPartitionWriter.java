@@ -0,0 +1,73 @@
+package me.karun.bank.credit.dataexport;
+
+import me.karun.bank.credit.infrastructure.csv.CsvWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One directory per partition holding a gzipped file per column, one value per line in CSV
+ * quoting. A reader loads only the columns it needs, and each column compresses on its own
+ * repetitive values (statuses, states, dates) rather than interleaved with unrelated fields.
+ */
+final class ColumnarPartitionWriter implements PartitionWriter {
+
+    private final Path directory;
+    private final Path tempDirectory;
+    private final List<CsvWriter> columns;
+    private boolean finished;
+
+    ColumnarPartitionWriter(Path directory, List<String> columnNames) throws IOException {
+        this.directory = directory;
+        this.tempDirectory = directory.resolveSibling(directory.getFileName() + ".tmp");
+        Files.createDirectories(tempDirectory);
+        this.columns = new ArrayList<>(columnNames.size());
+        try {
+            for (var name : columnNames) {
+                columns.add(PartitionWriter.gzipCsv(tempDirectory.resolve(name + ".csv.gz")));
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(List<?> row) {
+        for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).writeRow(Collections.singletonList(row.get(i)));
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        closeColumns();
+        Files.move(tempDirectory, directory, StandardCopyOption.ATOMIC_MOVE);
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            return;
+        }
+        closeColumns();
+        try (var files = Files.list(tempDirectory)) {
+            for (var file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.deleteIfExists(tempDirectory);
+    }
+
+    private void closeColumns() throws IOException {
+        for (var column : columns) {
+            column.close();
+        }
+    }
+}
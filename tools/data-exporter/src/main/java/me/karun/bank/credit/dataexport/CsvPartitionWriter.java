@@ -0,0 +1,48 @@
+package me.karun.bank.credit.dataexport;
+
+import me.karun.bank.credit.infrastructure.csv.CsvWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * One gzipped CSV file per partition, with a header row.
+ */
+final class CsvPartitionWriter implements PartitionWriter {
+
+    private final Path file;
+    private final Path tempFile;
+    private final CsvWriter csv;
+    private boolean finished;
+
+    CsvPartitionWriter(Path file, List<String> columns) throws IOException {
+        this.file = file;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.createDirectories(file.getParent());
+        this.csv = PartitionWriter.gzipCsv(tempFile);
+        csv.writeRow(columns);
+    }
+
+    @Override
+    public void write(List<?> row) {
+        csv.writeRow(row);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        csv.close();
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            csv.close();
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
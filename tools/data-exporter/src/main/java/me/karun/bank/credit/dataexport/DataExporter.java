@@ -0,0 +1,29 @@
+package me.karun.bank.credit.dataexport;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Extracts customers and profiles for analytics as gzipped CSV and per-column files, in constant
+ * memory, from one consistent snapshot. SSNs are exported masked to their last four digits.
+ */
+public final class DataExporter {
+
+    private DataExporter() {
+    }
+
+    public static void main(String[] args) throws SQLException, InterruptedException, IOException {
+        var settings = ExportSettings.parse(args);
+
+        System.out.println("Exporting " + settings.describe());
+        var start = System.nanoTime();
+        var manifest = new SnapshotExporter(settings).export();
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        var rows = manifest.rows().values().stream().mapToLong(Long::longValue).sum();
+        manifest.rows().forEach((table, count) -> System.out.printf("%-32s %,15d rows%n", table.qualifiedName(), count));
+        System.out.printf("Exported %,d rows as of %s in %ds (%,.0f rows/s)%n",
+                rows, manifest.until(), elapsed.toSeconds(), rows / Math.max(elapsed.toMillis() / 1000.0, 0.001));
+    }
+}
@@ -0,0 +1,52 @@
+package me.karun.bank.credit.dataexport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Written last, so an export directory without one is incomplete.
+ *
+ * @param since null for a full export; otherwise rows created or changed at or after it
+ * @param until the database time of the snapshot every partition was read from
+ */
+record ExportManifest(Instant since, Instant until, Map<ExportTable, Long> rows) {
+
+    static final String FILE_NAME = "manifest.properties";
+
+    void write(Path output) throws IOException {
+        var properties = new Properties();
+        if (since != null) {
+            properties.setProperty("since", since.toString());
+        }
+        properties.setProperty("until", until.toString());
+        rows.forEach((table, count) -> properties.setProperty(table.fileName() + ".rows", count.toString()));
+        try (var out = Files.newBufferedWriter(output.resolve(FILE_NAME))) {
+            properties.store(out, "Customer data export");
+        }
+    }
+
+    static ExportManifest read(Path output) throws IOException {
+        var file = output.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("No " + FILE_NAME + " in " + output + "; the export is missing or incomplete");
+        }
+        var properties = new Properties();
+        try (var in = Files.newBufferedReader(file)) {
+            properties.load(in);
+        }
+        var rows = new EnumMap<ExportTable, Long>(ExportTable.class);
+        for (var table : ExportTable.values()) {
+            var count = properties.getProperty(table.fileName() + ".rows");
+            if (count != null) {
+                rows.put(table, Long.parseLong(count));
+            }
+        }
+        var since = properties.getProperty("since");
+        return new ExportManifest(since != null ? Instant.parse(since) : null, Instant.parse(properties.getProperty("until")), rows);
+    }
+}
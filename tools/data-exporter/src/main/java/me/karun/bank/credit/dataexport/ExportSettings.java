@@ -0,0 +1,100 @@
+package me.karun.bank.credit.dataexport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Run settings, parsed from {@code --name=value} arguments.
+ *
+ * @param since      export only rows created or changed at or after this instant; empty exports
+ *                   everything. {@code --previous=<export dir>} starts where that export's
+ *                   snapshot ended, less {@link #INCREMENTAL_OVERLAP}
+ * @param partitions key ranges each table is split into; one file (or directory) per range
+ * @param streams    concurrent connections, each reading one partition at a time
+ * @param fetchSize  rows the server-side cursor returns per round trip
+ */
+public record ExportSettings(
+        String jdbcUrl,
+        String username,
+        String password,
+        Path output,
+        Optional<Instant> since,
+        int partitions,
+        int streams,
+        int fetchSize,
+        Set<Format> formats
+) {
+
+    // Rows are timestamped by the application before they commit, so a row committed just after
+    // the previous snapshot can carry a time before it; re-reading a short window catches it
+    static final Duration INCREMENTAL_OVERLAP = Duration.ofMinutes(5);
+
+    public static ExportSettings parse(String... args) {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            var separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        var since = Optional.ofNullable(options.remove("since")).map(Instant::parse);
+        var previous = Optional.ofNullable(options.remove("previous")).map(Path::of);
+        if (since.isPresent() && previous.isPresent()) {
+            throw new IllegalArgumentException("Pass either --since or --previous, not both");
+        }
+        var settings = new ExportSettings(
+                take(options, "jdbc-url", "jdbc:postgresql://localhost:5432/credit_card_platform"),
+                take(options, "username", "dev"),
+                take(options, "password", "dev"),
+                Path.of(take(options, "output", "export/" + LocalDate.now(ZoneOffset.UTC))),
+                previous.isPresent() ? Optional.of(previousUntil(previous.get()).minus(INCREMENTAL_OVERLAP)) : since,
+                Integer.parseInt(take(options, "partitions", "16")),
+                Integer.parseInt(take(options, "streams", String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                Integer.parseInt(take(options, "fetch-size", "10000")),
+                formats(take(options, "format", "csv,columnar"))
+        );
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+        return settings;
+    }
+
+    private static String take(Map<String, String> options, String name, String defaultValue) {
+        var value = options.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static Instant previousUntil(Path previous) {
+        try {
+            return ExportManifest.read(previous).until();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the manifest of " + previous, e);
+        }
+    }
+
+    private static Set<Format> formats(String value) {
+        return Arrays.stream(value.split(","))
+                .map(format -> Format.valueOf(format.trim().toUpperCase(Locale.ROOT)))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(Format.class)));
+    }
+
+    String describe() {
+        return since.map(instant -> "changes since " + instant).orElse("all rows")
+                + " in " + partitions + " partitions per table over " + streams + " streams from " + jdbcUrl
+                + " as " + formats + " into " + output;
+    }
+}
@@ -0,0 +1,68 @@
+package me.karun.bank.credit.dataexport;
+
+/**
+ * Tables the exporter extracts. Password hashes are never selected, and SSNs leave the database
+ * only as their last four digits.
+ */
+enum ExportTable {
+    CUSTOMERS("customers", "customer.customers", "c", "c.id",
+            "c.id AS customer_id, c.email, c.status, c.created_at, c.verified_at",
+            // Completing a profile changes the customer's status without touching the customers row's timestamps
+            "c.created_at >= ? OR c.verified_at >= ? OR EXISTS ("
+                    + "SELECT 1 FROM customer.customer_profiles p WHERE p.customer_id = c.id AND p.created_at >= ?)"),
+    CUSTOMER_PROFILES("customer_profiles", "customer.customer_profiles", "p", "p.customer_id",
+            "p.customer_id, p.first_name, p.last_name, p.date_of_birth, '***-**-' || p.ssn_last_four AS ssn_masked, "
+                    + "p.street_address, p.unit, p.city, p.state, p.zip_code, p.phone, p.created_at, p.updated_at, p.version",
+            "p.created_at >= ? OR p.updated_at >= ?");
+
+    private final String fileName;
+    private final String qualifiedName;
+    private final String from;
+    private final String key;
+    private final String columns;
+    private final String changedSince;
+
+    ExportTable(String fileName, String qualifiedName, String alias, String key, String columns, String changedSince) {
+        this.fileName = fileName;
+        this.qualifiedName = qualifiedName;
+        this.from = qualifiedName + " " + alias;
+        this.key = key;
+        this.columns = columns;
+        this.changedSince = changedSince;
+    }
+
+    String fileName() {
+        return fileName;
+    }
+
+    String qualifiedName() {
+        return qualifiedName;
+    }
+
+    /**
+     * Selects one key range; bind the range's bounds, then {@link #changedSinceParameters()}
+     * copies of the since instant when incremental.
+     */
+    String selectSql(KeyRange range, boolean incremental) {
+        var sql = new StringBuilder("SELECT ").append(columns).append(" FROM ").append(from)
+                .append(" WHERE ").append(range.predicate(key));
+        if (incremental) {
+            sql.append(" AND (").append(changedSince).append(')');
+        }
+        return sql.toString();
+    }
+
+    int changedSinceParameters() {
+        return (int) changedSince.chars().filter(c -> c == '?').count();
+    }
+
+    // Sampled, so picking boundaries reads a fraction of the table's pages rather than every key
+    String boundariesSql(double samplePercent) {
+        return "SELECT percentile_disc(?::float8[]) WITHIN GROUP (ORDER BY " + key + ")::text[] FROM " + from
+                + " TABLESAMPLE SYSTEM (" + samplePercent + ") REPEATABLE (0)";
+    }
+
+    String estimatedRowsSql() {
+        return "SELECT reltuples::bigint FROM pg_class WHERE oid = '" + qualifiedName + "'::regclass";
+    }
+}
@@ -0,0 +1,35 @@
+package me.karun.bank.credit.dataexport;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Output layouts, each under its own directory of the export:
+ * {@code csv/<table>/part-00000.csv.gz} and {@code columnar/<table>/part-00000/<column>.csv.gz}.
+ */
+enum Format {
+    CSV {
+        @Override
+        PartitionWriter open(Path output, ExportTable table, int partition, List<String> columns) throws IOException {
+            return new CsvPartitionWriter(tableDirectory(output, table).resolve(partName(partition) + ".csv.gz"), columns);
+        }
+    },
+    COLUMNAR {
+        @Override
+        PartitionWriter open(Path output, ExportTable table, int partition, List<String> columns) throws IOException {
+            return new ColumnarPartitionWriter(tableDirectory(output, table).resolve(partName(partition)), columns);
+        }
+    };
+
+    abstract PartitionWriter open(Path output, ExportTable table, int partition, List<String> columns) throws IOException;
+
+    Path tableDirectory(Path output, ExportTable table) {
+        return output.resolve(name().toLowerCase(Locale.ROOT)).resolve(table.fileName());
+    }
+
+    private static String partName(int partition) {
+        return "part-%05d".formatted(partition);
+    }
+}
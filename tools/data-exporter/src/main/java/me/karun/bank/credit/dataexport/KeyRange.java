@@ -0,0 +1,58 @@
+package me.karun.bank.credit.dataexport;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A half-open range of primary keys, {@code [from, to)}; a null bound is unbounded.
+ */
+record KeyRange(UUID from, UUID to) {
+
+    static final KeyRange ALL = new KeyRange(null, null);
+
+    /**
+     * Splits the key space at the given boundaries, which must already be in Postgres order:
+     * {@link UUID#compareTo} compares signed halves, so it would sort them differently.
+     */
+    static List<KeyRange> between(List<UUID> boundaries) {
+        var distinct = boundaries.stream().distinct().toList();
+        var ranges = new ArrayList<KeyRange>(distinct.size() + 1);
+        UUID from = null;
+        for (var boundary : distinct) {
+            ranges.add(new KeyRange(from, boundary));
+            from = boundary;
+        }
+        ranges.add(new KeyRange(from, null));
+        return ranges;
+    }
+
+    String predicate(String key) {
+        if (from != null && to != null) {
+            return key + " >= ? AND " + key + " < ?";
+        }
+        if (from != null) {
+            return key + " >= ?";
+        }
+        if (to != null) {
+            return key + " < ?";
+        }
+        return "TRUE";
+    }
+
+    /**
+     * Binds the bounds {@link #predicate} refers to, starting at {@code index}, and returns the
+     * next free index.
+     */
+    int bind(PreparedStatement statement, int index) throws SQLException {
+        if (from != null) {
+            statement.setObject(index++, from);
+        }
+        if (to != null) {
+            statement.setObject(index++, to);
+        }
+        return index;
+    }
+}
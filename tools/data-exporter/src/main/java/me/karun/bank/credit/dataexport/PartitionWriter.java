@@ -0,0 +1,30 @@
+package me.karun.bank.credit.dataexport;
+
+import me.karun.bank.credit.infrastructure.csv.CsvWriter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes one key range of a table. Rows go to a temporary file as they arrive, so memory stays
+ * flat however large the range; the file takes its final name only in {@link #finish()}, and
+ * closing an unfinished writer deletes it.
+ */
+interface PartitionWriter extends Closeable {
+
+    void write(List<?> row);
+
+    void finish() throws IOException;
+
+    static CsvWriter gzipCsv(Path file) throws IOException {
+        return new CsvWriter(new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8)));
+    }
+}
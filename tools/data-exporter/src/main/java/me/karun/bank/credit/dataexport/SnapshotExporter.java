@@ -0,0 +1,222 @@
+package me.karun.bank.credit.dataexport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Exports every table from one Postgres snapshot. A coordinator transaction exports its snapshot
+ * and every partition's transaction imports it, so partitions read on different connections see
+ * exactly the same committed rows. Streams claim partitions from a shared counter; each partition
+ * is read through a server-side cursor (auto-commit off plus a fetch size), so a stream holds at
+ * most one fetch of rows however large the table.
+ */
+final class SnapshotExporter {
+
+    // Enough sampled keys to place boundaries within a fraction of a percent of even
+    private static final long BOUNDARY_SAMPLE_ROWS = 100_000;
+
+    private final ExportSettings settings;
+    private final Map<ExportTable, LongAdder> exported = new EnumMap<>(ExportTable.class);
+
+    SnapshotExporter(ExportSettings settings) {
+        this.settings = settings;
+        for (var table : ExportTable.values()) {
+            exported.put(table, new LongAdder());
+        }
+    }
+
+    ExportManifest export() throws SQLException, InterruptedException, IOException {
+        Files.createDirectories(settings.output());
+        try (var existing = Files.list(settings.output())) {
+            if (existing.findAny().isPresent()) {
+                throw new IllegalArgumentException("Output directory " + settings.output() + " is not empty");
+            }
+        }
+
+        try (var coordinator = connect()) {
+            String snapshot;
+            Instant until;
+            try (var statement = coordinator.createStatement();
+                 var resultSet = statement.executeQuery("SELECT pg_export_snapshot(), now()")) {
+                resultSet.next();
+                snapshot = resultSet.getString(1);
+                until = resultSet.getTimestamp(2).toInstant();
+            }
+
+            var partitions = new ArrayList<Partition>();
+            for (var table : ExportTable.values()) {
+                var ranges = keyRanges(coordinator, table);
+                for (int i = 0; i < ranges.size(); i++) {
+                    partitions.add(new Partition(table, i, ranges.get(i)));
+                }
+            }
+            exportPartitions(snapshot, partitions);
+            // The snapshot can be imported only while the transaction that exported it is open
+            coordinator.commit();
+
+            var totals = new EnumMap<ExportTable, Long>(ExportTable.class);
+            exported.forEach((table, count) -> totals.put(table, count.sum()));
+            var manifest = new ExportManifest(settings.since().orElse(null), until, totals);
+            manifest.write(settings.output());
+            return manifest;
+        }
+    }
+
+    private List<KeyRange> keyRanges(Connection connection, ExportTable table) throws SQLException {
+        if (settings.partitions() <= 1) {
+            return List.of(KeyRange.ALL);
+        }
+        long estimatedRows;
+        try (var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(table.estimatedRowsSql())) {
+            resultSet.next();
+            estimatedRows = resultSet.getLong(1);
+        }
+        var samplePercent = estimatedRows <= BOUNDARY_SAMPLE_ROWS ? 100.0 : 100.0 * BOUNDARY_SAMPLE_ROWS / estimatedRows;
+        var fractions = IntStream.range(1, settings.partitions())
+                .mapToObj(i -> (double) i / settings.partitions())
+                .toArray(Double[]::new);
+
+        try (var statement = connection.prepareStatement(table.boundariesSql(samplePercent))) {
+            statement.setArray(1, connection.createArrayOf("float8", fractions));
+            try (var resultSet = statement.executeQuery()) {
+                resultSet.next();
+                var boundaries = resultSet.getArray(1);
+                // An empty table, or an empty sample of a tiny one
+                if (boundaries == null) {
+                    return List.of(KeyRange.ALL);
+                }
+                return KeyRange.between(Arrays.stream((String[]) boundaries.getArray()).map(UUID::fromString).toList());
+            }
+        }
+    }
+
+    private void exportPartitions(String snapshot, List<Partition> partitions) throws InterruptedException {
+        var nextPartition = new AtomicInteger();
+        var streams = Executors.newFixedThreadPool(settings.streams());
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < settings.streams(); i++) {
+                futures.add(streams.submit(() -> {
+                    try (var connection = connect()) {
+                        int partition;
+                        while ((partition = nextPartition.getAndIncrement()) < partitions.size()) {
+                            exportPartition(connection, snapshot, partitions.get(partition));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (var future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // Stop the other streams from claiming more partitions
+                    nextPartition.set(partitions.size());
+                    throw new IllegalStateException("Export failed", e.getCause());
+                }
+            }
+        } finally {
+            streams.shutdownNow();
+        }
+    }
+
+    private void exportPartition(Connection connection, String snapshot, Partition partition) throws SQLException, IOException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("SET TRANSACTION SNAPSHOT '" + snapshot + "'");
+        }
+        var table = partition.table();
+        var incremental = settings.since().isPresent();
+        var rows = 0L;
+        try (var select = connection.prepareStatement(table.selectSql(partition.range(), incremental))) {
+            select.setFetchSize(settings.fetchSize());
+            var index = partition.range().bind(select, 1);
+            if (incremental) {
+                var since = settings.since().get().atOffset(ZoneOffset.UTC);
+                for (int i = 0; i < table.changedSinceParameters(); i++) {
+                    select.setObject(index++, since);
+                }
+            }
+            try (var resultSet = select.executeQuery()) {
+                var columns = columnNames(resultSet.getMetaData());
+                var writers = new ArrayList<PartitionWriter>();
+                try {
+                    for (var format : settings.formats()) {
+                        writers.add(format.open(settings.output(), table, partition.number(), columns));
+                    }
+                    while (resultSet.next()) {
+                        var row = row(resultSet, columns.size());
+                        for (var writer : writers) {
+                            writer.write(row);
+                        }
+                        rows++;
+                    }
+                    for (var writer : writers) {
+                        writer.finish();
+                    }
+                } finally {
+                    for (var writer : writers) {
+                        writer.close();
+                    }
+                }
+            }
+        }
+        connection.commit();
+        exported.get(table).add(rows);
+        System.out.printf("  %s part-%05d: %,d rows%n", table.fileName(), partition.number(), rows);
+    }
+
+    private static List<String> columnNames(ResultSetMetaData metaData) throws SQLException {
+        var columns = new ArrayList<String>(metaData.getColumnCount());
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            columns.add(metaData.getColumnLabel(i));
+        }
+        return columns;
+    }
+
+    private static List<Object> row(ResultSet resultSet, int columns) throws SQLException {
+        var row = new Object[columns];
+        for (int i = 0; i < columns; i++) {
+            var value = resultSet.getObject(i + 1);
+            if (value instanceof Timestamp timestamp) {
+                value = timestamp.toInstant();
+            } else if (value instanceof java.sql.Date date) {
+                value = date.toLocalDate();
+            }
+            row[i] = value;
+        }
+        return Arrays.asList(row);
+    }
+
+    private Connection connect() throws SQLException {
+        var connection = DriverManager.getConnection(settings.jdbcUrl(), settings.username(), settings.password());
+        connection.setAutoCommit(false);
+        connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        // Read-only transactions can still import a snapshot, and never take row locks
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    private record Partition(ExportTable table, int number, KeyRange range) {
+    }
+}
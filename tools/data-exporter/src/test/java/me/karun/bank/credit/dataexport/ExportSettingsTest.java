@@ -0,0 +1,48 @@
+package me.karun.bank.credit.dataexport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportSettingsTest {
+
+    @Test
+    void shouldExportEverythingInBothFormats_whenNoOptionsAreGiven() {
+        var settings = ExportSettings.parse();
+
+        assertThat(settings.since()).isEmpty();
+        assertThat(settings.formats()).containsExactly(Format.CSV, Format.COLUMNAR);
+    }
+
+    @Test
+    void shouldStartBeforePreviousSnapshot_whenPreviousExportIsGiven(@TempDir Path previous) throws IOException {
+        var until = Instant.parse("2026-01-02T00:00:00Z");
+        new ExportManifest(null, until, Map.of(ExportTable.CUSTOMERS, 10L)).write(previous);
+
+        var settings = ExportSettings.parse("--previous=" + previous, "--format=csv");
+
+        assertThat(settings.since()).contains(until.minus(ExportSettings.INCREMENTAL_OVERLAP));
+        assertThat(settings.formats()).isEqualTo(Set.of(Format.CSV));
+    }
+
+    @Test
+    void shouldRejectArguments_whenSinceAndPreviousAreBothGiven() {
+        assertThatThrownBy(() -> ExportSettings.parse("--since=2026-01-01T00:00:00Z", "--previous=export/2026-01-01"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectPreviousExport_whenItHasNoManifest(@TempDir Path incomplete) {
+        assertThatThrownBy(() -> ExportSettings.parse("--previous=" + incomplete))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("incomplete");
+    }
+}
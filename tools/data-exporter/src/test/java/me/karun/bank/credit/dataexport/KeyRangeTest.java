@@ -0,0 +1,31 @@
+package me.karun.bank.credit.dataexport;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyRangeTest {
+
+    private static final UUID FIRST = UUID.fromString("01900000-0000-7000-8000-000000000000");
+    private static final UUID SECOND = UUID.fromString("01950000-0000-7000-8000-000000000000");
+
+    @Test
+    void shouldCoverWholeKeySpace_whenSplitAtBoundaries() {
+        var ranges = KeyRange.between(List.of(FIRST, FIRST, SECOND));
+
+        assertThat(ranges).containsExactly(
+                new KeyRange(null, FIRST),
+                new KeyRange(FIRST, SECOND),
+                new KeyRange(SECOND, null));
+    }
+
+    @Test
+    void shouldOnlyConstrainBoundedEnds_whenBuildingPredicate() {
+        assertThat(new KeyRange(null, FIRST).predicate("c.id")).isEqualTo("c.id < ?");
+        assertThat(new KeyRange(FIRST, SECOND).predicate("c.id")).isEqualTo("c.id >= ? AND c.id < ?");
+        assertThat(KeyRange.ALL.predicate("c.id")).isEqualTo("TRUE");
+    }
+}
@@ -0,0 +1,68 @@
+package me.karun.bank.credit.dataexport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionWriterTest {
+
+    private static final List<String> COLUMNS = List.of("customer_id", "city", "unit");
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldWriteGzippedCsvWithHeader_whenCsvPartitionIsFinished() throws IOException {
+        try (var writer = Format.CSV.open(output, ExportTable.CUSTOMER_PROFILES, 3, COLUMNS)) {
+            writer.write(Arrays.asList("a", "Portland, OR", null));
+            writer.write(Arrays.asList("b", "Austin", "4B"));
+            writer.finish();
+        }
+
+        assertThat(gunzip(output.resolve("csv/customer_profiles/part-00003.csv.gz")))
+                .isEqualTo("customer_id,city,unit\na,\"Portland, OR\",\nb,Austin,4B\n");
+    }
+
+    @Test
+    void shouldWriteOneFilePerColumn_whenColumnarPartitionIsFinished() throws IOException {
+        try (var writer = Format.COLUMNAR.open(output, ExportTable.CUSTOMER_PROFILES, 0, COLUMNS)) {
+            writer.write(Arrays.asList("a", "Austin", LocalDate.of(2026, 1, 1)));
+            writer.write(Arrays.asList("b", "Austin", null));
+            writer.finish();
+        }
+
+        var partition = output.resolve("columnar/customer_profiles/part-00000");
+        assertThat(gunzip(partition.resolve("customer_id.csv.gz"))).isEqualTo("a\nb\n");
+        assertThat(gunzip(partition.resolve("city.csv.gz"))).isEqualTo("Austin\nAustin\n");
+        assertThat(gunzip(partition.resolve("unit.csv.gz"))).isEqualTo("2026-01-01\n\n");
+    }
+
+    @Test
+    void shouldLeaveNoFiles_whenPartitionIsClosedUnfinished() throws IOException {
+        for (var format : Format.values()) {
+            try (var writer = format.open(output, ExportTable.CUSTOMERS, 0, COLUMNS)) {
+                writer.write(Arrays.asList("a", "Austin", null));
+            }
+        }
+
+        try (var files = Files.walk(output)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (var in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+plugins {
+    application
+    id("io.spring.dependency-management")
+}
+
+val springBootVersion: String by project
+val junitVersion: String by project
+val postgresqlVersion: String by project
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:$springBootVersion")
+    }
+}
+
+dependencies {
+    implementation(project(":shared:infrastructure"))
+    implementation("org.postgresql:postgresql:$postgresqlVersion")
+
+    testImplementation(platform("org.junit:junit-bom:$junitVersion"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.assertj:assertj-core")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+// ./gradlew :tools:data-generator:run --args="--customers=10m --seed=42 --streams=8"
+application {
+    mainClass.set("me.karun.bank.credit.datagen.DataGenerator")
+}
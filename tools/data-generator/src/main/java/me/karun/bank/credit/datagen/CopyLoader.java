@@ -0,0 +1,159 @@
+package me.karun.bank.credit.datagen;
+
+import me.karun.bank.credit.infrastructure.csv.CsvWriter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Loads a dataset through {@code COPY ... FROM STDIN}, one connection per stream. Streams claim
+ * batches of customer indexes from a shared counter and commit each batch, with all four tables,
+ * in one transaction, so a batch is either fully loaded or not at all.
+ */
+final class CopyLoader {
+
+    private static final int COPY_BUFFER_BYTES = 1 << 16;
+    private static final long PROGRESS_INTERVAL_SECONDS = 10;
+
+    private final DataSettings settings;
+    private final Dataset dataset;
+    private final Map<Table, LongAdder> loaded = new EnumMap<>(Table.class);
+
+    CopyLoader(DataSettings settings, Dataset dataset) {
+        this.settings = settings;
+        this.dataset = dataset;
+        for (var table : Table.values()) {
+            loaded.put(table, new LongAdder());
+        }
+    }
+
+    Map<Table, Long> load() throws SQLException, InterruptedException {
+        try (var connection = connect()) {
+            connection.setAutoCommit(true);
+            try (var statement = connection.createStatement()) {
+                if (settings.truncate()) {
+                    statement.execute("TRUNCATE customer.profile_audit, customer.verification_tokens, "
+                            + "customer.customer_profiles, customer.customers");
+                }
+                for (var partition : auditPartitions()) {
+                    statement.execute(partition);
+                }
+            }
+        }
+
+        var batches = (settings.customers() + settings.batch() - 1) / settings.batch();
+        var nextBatch = new AtomicLong();
+        var streams = Executors.newFixedThreadPool(settings.streams());
+        var progress = Executors.newSingleThreadScheduledExecutor();
+        progress.scheduleAtFixedRate(() -> System.out.printf("  %,d / %,d customers%n",
+                        loaded.get(Table.CUSTOMERS).sum(), settings.customers()),
+                PROGRESS_INTERVAL_SECONDS, PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < settings.streams(); i++) {
+                futures.add(streams.submit(() -> {
+                    try (var connection = connect()) {
+                        long batch;
+                        while ((batch = nextBatch.getAndIncrement()) < batches) {
+                            loadBatch(connection, batch);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (var future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // Stop the other streams from claiming more batches
+                    nextBatch.set(batches);
+                    throw new IllegalStateException("Load failed", e.getCause());
+                }
+            }
+        } finally {
+            progress.shutdownNow();
+            streams.shutdownNow();
+        }
+
+        try (var connection = connect(); var statement = connection.createStatement()) {
+            statement.execute("ANALYZE customer.customers, customer.customer_profiles, "
+                    + "customer.verification_tokens, customer.profile_audit");
+        }
+        var totals = new EnumMap<Table, Long>(Table.class);
+        loaded.forEach((table, count) -> totals.put(table, count.sum()));
+        return totals;
+    }
+
+    private void loadBatch(Connection connection, long batch) throws SQLException {
+        var from = batch * settings.batch();
+        var to = Math.min(from + settings.batch(), settings.customers());
+        var customers = LongStream.range(from, to).mapToObj(dataset::customer).toList();
+
+        copy(connection, Table.CUSTOMERS, customers, graph -> Stream.of(graph.customer().values()));
+        copy(connection, Table.CUSTOMER_PROFILES, customers, graph -> graph.profile().stream().map(CustomerGraph.ProfileRow::values));
+        copy(connection, Table.VERIFICATION_TOKENS, customers, graph -> graph.tokens().stream().map(CustomerGraph.TokenRow::values));
+        copy(connection, Table.PROFILE_AUDIT, customers, graph -> graph.audits().stream().map(CustomerGraph.AuditRow::values));
+        connection.commit();
+    }
+
+    private void copy(Connection connection, Table table, List<CustomerGraph> customers,
+                      Function<CustomerGraph, Stream<List<Object>>> rows) throws SQLException {
+        var out = new PGCopyOutputStream(connection.unwrap(PGConnection.class), table.copySql(), COPY_BUFFER_BYTES);
+        var count = 0L;
+        // Closing the writer ends the COPY
+        try (var csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)))) {
+            for (var row : (Iterable<List<Object>>) customers.stream().flatMap(rows)::iterator) {
+                csv.writeRow(row);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        loaded.get(table).add(count);
+    }
+
+    // profile_audit is partitioned by month and the service only creates partitions ahead of now
+    private List<String> auditPartitions() {
+        var statements = new ArrayList<String>();
+        var month = YearMonth.from(dataset.firstRegistration().atZone(ZoneOffset.UTC));
+        var last = YearMonth.from(dataset.asOf().atZone(ZoneOffset.UTC));
+        for (; !month.isAfter(last); month = month.plusMonths(1)) {
+            statements.add(String.format(
+                    "CREATE TABLE IF NOT EXISTS customer.profile_audit_p%d_%02d PARTITION OF customer.profile_audit "
+                            + "FOR VALUES FROM ('%s') TO ('%s')",
+                    month.getYear(), month.getMonthValue(),
+                    month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant(),
+                    month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant()));
+        }
+        return statements;
+    }
+
+    private Connection connect() throws SQLException {
+        var connection = DriverManager.getConnection(settings.jdbcUrl(), settings.username(), settings.password());
+        connection.setAutoCommit(false);
+        return connection;
+    }
+}
@@ -0,0 +1,55 @@
+package me.karun.bank.credit.datagen;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * One customer and every row that references it, as the service would have written them.
+ */
+record CustomerGraph(
+        CustomerRow customer,
+        Optional<ProfileRow> profile,
+        List<TokenRow> tokens,
+        List<AuditRow> audits
+) {
+
+    record CustomerRow(UUID id, String email, String passwordHash, String status, Instant createdAt, Instant verifiedAt) {
+
+        List<Object> values() {
+            return Arrays.asList(id, email, passwordHash, status, createdAt, verifiedAt);
+        }
+    }
+
+    record ProfileRow(UUID customerId, String firstName, String lastName, LocalDate dateOfBirth,
+                      String ssnEncrypted, String ssnLastFour, Address address, String phone,
+                      Instant createdAt, Instant updatedAt, long version) {
+
+        List<Object> values() {
+            return Arrays.asList(customerId, firstName, lastName, dateOfBirth, ssnEncrypted, ssnLastFour,
+                    address.street(), address.unit(), address.city(), address.state(), address.zipCode(),
+                    phone, createdAt, updatedAt, version);
+        }
+    }
+
+    record Address(String street, String unit, String city, String state, String zipCode) {
+    }
+
+    record TokenRow(UUID id, UUID customerId, String tokenHash, Instant expiresAt, Instant createdAt) {
+
+        List<Object> values() {
+            return Arrays.asList(id, customerId, tokenHash, expiresAt, createdAt);
+        }
+    }
+
+    record AuditRow(UUID id, UUID customerId, String fieldName, String oldValue, String newValue,
+                    Instant changedAt, UUID changedBy) {
+
+        List<Object> values() {
+            return Arrays.asList(id, customerId, fieldName, oldValue, newValue, changedAt, changedBy);
+        }
+    }
+}
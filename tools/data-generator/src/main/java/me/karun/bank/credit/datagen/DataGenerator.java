@@ -0,0 +1,32 @@
+package me.karun.bank.credit.datagen;
+
+import me.karun.bank.credit.infrastructure.encryption.AwsSecretsManagerEncryptionService;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Loads a synthetic, reproducible customer dataset into a migrated database. Every generated
+ * customer can sign in with {@value Dataset#PASSWORD}.
+ */
+public final class DataGenerator {
+
+    private DataGenerator() {
+    }
+
+    public static void main(String[] args) throws SQLException, InterruptedException {
+        var settings = DataSettings.parse(args);
+        var encryptionService = new AwsSecretsManagerEncryptionService(settings.encryptionKey());
+        var dataset = new Dataset(settings.seed(), settings.asOf(), settings.months(), encryptionService);
+
+        System.out.println("Loading " + settings.describe());
+        var start = System.nanoTime();
+        var totals = new CopyLoader(settings, dataset).load();
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        var rows = totals.values().stream().mapToLong(Long::longValue).sum();
+        totals.forEach((table, count) -> System.out.printf("%-32s %,15d rows%n", table.qualifiedName(), count));
+        System.out.printf("Loaded %,d rows in %ds (%,.0f rows/s)%n",
+                rows, elapsed.toSeconds(), rows / Math.max(elapsed.toMillis() / 1000.0, 0.001));
+    }
+}
@@ -0,0 +1,86 @@
+package me.karun.bank.credit.datagen;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Run settings, parsed from {@code --name=value} arguments. Counts accept {@code 250k} or
+ * {@code 50m}.
+ *
+ * @param seed    with {@code asOf}, fixes every generated row; rerunning with both produces the
+ *                same dataset
+ * @param asOf    the newest registration, by default the start of today (UTC)
+ * @param months  how far back registrations go
+ * @param streams concurrent COPY connections
+ * @param batch   customers generated and committed per COPY transaction
+ */
+public record DataSettings(
+        String jdbcUrl,
+        String username,
+        String password,
+        long customers,
+        long seed,
+        Instant asOf,
+        int months,
+        int streams,
+        int batch,
+        String encryptionKey,
+        boolean truncate
+) {
+
+    public static DataSettings parse(String... args) {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            var separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        var settings = new DataSettings(
+                take(options, "jdbc-url", "jdbc:postgresql://localhost:5432/credit_card_platform"),
+                take(options, "username", "dev"),
+                take(options, "password", "dev"),
+                count(take(options, "customers", "1m")),
+                Long.parseLong(take(options, "seed", "42")),
+                options.containsKey("as-of")
+                        ? Instant.parse(options.remove("as-of"))
+                        : LocalDate.now(ZoneOffset.UTC).atStartOfDay(ZoneOffset.UTC).toInstant(),
+                Integer.parseInt(take(options, "months", "24")),
+                Integer.parseInt(take(options, "streams", String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                (int) count(take(options, "batch", "10k")),
+                // Development key from application.yml, so the gateway can decrypt what is loaded
+                take(options, "encryption-key", "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY="),
+                Boolean.parseBoolean(take(options, "truncate", "false"))
+        );
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+        return settings;
+    }
+
+    private static String take(Map<String, String> options, String name, String defaultValue) {
+        var value = options.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    static long count(String value) {
+        var lower = value.toLowerCase(Locale.ROOT).replace("_", "");
+        if (lower.endsWith("k")) {
+            return Long.parseLong(lower.substring(0, lower.length() - 1)) * 1_000;
+        }
+        if (lower.endsWith("m")) {
+            return Long.parseLong(lower.substring(0, lower.length() - 1)) * 1_000_000;
+        }
+        return Long.parseLong(lower);
+    }
+
+    String describe() {
+        return customers + " customers registered over the " + months + " months before " + asOf
+                + " (seed " + seed + "), " + streams + " COPY streams of " + batch + " into " + jdbcUrl;
+    }
+}
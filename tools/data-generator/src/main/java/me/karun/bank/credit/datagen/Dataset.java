@@ -0,0 +1,250 @@
+package me.karun.bank.credit.datagen;
+
+import me.karun.bank.credit.datagen.CustomerGraph.Address;
+import me.karun.bank.credit.datagen.CustomerGraph.AuditRow;
+import me.karun.bank.credit.datagen.CustomerGraph.CustomerRow;
+import me.karun.bank.credit.datagen.CustomerGraph.ProfileRow;
+import me.karun.bank.credit.datagen.CustomerGraph.TokenRow;
+import me.karun.bank.credit.infrastructure.encryption.EncryptionService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Generates customer {@code n} of a dataset from the seed and {@code n} alone, so any stream can
+ * produce any slice and the result does not depend on how the work was split. Encrypted SSNs are
+ * the exception: AES-GCM draws a fresh IV per call, so only their plaintext is reproducible.
+ *
+ * <p>The skew follows what production sees: registrations grow towards the present, a quarter of
+ * customers never verify, names, cities and email domains are Zipf-distributed, and most profiles
+ * are never edited while a few are edited constantly.
+ */
+final class Dataset {
+
+    static final String PASSWORD = "SecurePass123!";
+    // BCrypt of PASSWORD at the production strength (12); hashing per row would dominate the run
+    static final String PASSWORD_HASH = "$2a$12$jsvsu6EcTHiKCNqG5HYoL.76Y78rDcumM.wDcANG7JtQGccVriyR2";
+
+    static final String PENDING_VERIFICATION = "PENDING_VERIFICATION";
+    static final String VERIFIED = "VERIFIED";
+    static final String PROFILE_COMPLETE = "PROFILE_COMPLETE";
+    static final String SUSPENDED = "SUSPENDED";
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long UUID_VERSION_7 = 0x7000L;
+    private static final long UUID_VARIANT = 0x8000_0000_0000_0000L;
+    private static final long UUID_RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(24);
+    private static final int MAX_PROFILE_UPDATES = 200;
+
+    private static final WeightedChoice<String> STATUSES = WeightedChoice.of(
+            List.of(PENDING_VERIFICATION, VERIFIED, PROFILE_COMPLETE, SUSPENDED), 0.22, 0.18, 0.56, 0.04);
+    private static final WeightedChoice<String> FIRST_NAMES = WeightedChoice.zipf(List.of(
+            "James", "Mary", "Michael", "Patricia", "John", "Jennifer", "Robert", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Maria", "Karen",
+            "Daniel", "Lisa", "Wei", "Nancy", "Jose", "Sandra", "Aisha", "Ashley", "Omar", "Emily",
+            "Liam", "Sofia", "Priya", "Chen", "Mohammed", "Olivia", "Juan", "Fatima", "Noah", "Mei"), 0.9);
+    private static final WeightedChoice<String> LAST_NAMES = WeightedChoice.zipf(List.of(
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Nguyen", "Clark", "Chen", "Patel", "Kim",
+            "O'Brien", "Okafor", "Rossi", "Khan", "Singh", "Cohen", "Murphy", "Van der Berg", "Smith-Jones", "Le"), 0.8);
+    private static final List<String> POPULAR_DOMAINS = List.of(
+            "gmail.com", "yahoo.com", "outlook.com", "icloud.com", "hotmail.com", "aol.com", "comcast.net", "proton.me");
+    private static final WeightedChoice<String> EMAIL_DOMAINS = WeightedChoice.zipf(
+            IntStream.range(0, 500)
+                    .mapToObj(i -> i < POPULAR_DOMAINS.size() ? POPULAR_DOMAINS.get(i) : "mail" + i + ".example.com")
+                    .toList(), 1.3);
+    private static final WeightedChoice<City> CITIES = WeightedChoice.zipf(List.of(
+            new City("New York", "NY", "100"), new City("Los Angeles", "CA", "900"), new City("Chicago", "IL", "606"),
+            new City("Houston", "TX", "770"), new City("Phoenix", "AZ", "850"), new City("Philadelphia", "PA", "191"),
+            new City("San Antonio", "TX", "782"), new City("San Diego", "CA", "921"), new City("Dallas", "TX", "752"),
+            new City("Jacksonville", "FL", "322"), new City("Austin", "TX", "787"), new City("San Jose", "CA", "951"),
+            new City("Columbus", "OH", "432"), new City("Charlotte", "NC", "282"), new City("Indianapolis", "IN", "462"),
+            new City("Seattle", "WA", "981"), new City("Denver", "CO", "802"), new City("Washington", "DC", "200"),
+            new City("Boston", "MA", "021"), new City("Nashville", "TN", "372"), new City("Detroit", "MI", "482"),
+            new City("Portland", "OR", "972"), new City("Las Vegas", "NV", "891"), new City("Atlanta", "GA", "303"),
+            new City("Miami", "FL", "331"), new City("Minneapolis", "MN", "554"), new City("Springfield", "IL", "627"),
+            new City("Boise", "ID", "837"), new City("Burlington", "VT", "054"), new City("Cheyenne", "WY", "820")), 0.7);
+    private static final List<String> STREETS = List.of(
+            "Main St", "Oak Ave", "Maple Dr", "Cedar Ln", "Park Ave", "Pine St", "Elm St", "Washington Blvd",
+            "Lake View Rd", "Hillcrest Dr", "Sunset Blvd", "Broadway", "Church St", "Mill Rd", "River Rd");
+
+    private final long seed;
+    private final Instant asOf;
+    private final Instant firstRegistration;
+    private final EncryptionService encryptionService;
+
+    Dataset(long seed, Instant asOf, int months, EncryptionService encryptionService) {
+        this.seed = seed;
+        this.asOf = asOf;
+        this.firstRegistration = asOf.atZone(ZoneOffset.UTC).minusMonths(months).toInstant();
+        this.encryptionService = encryptionService;
+    }
+
+    Instant firstRegistration() {
+        return firstRegistration;
+    }
+
+    Instant asOf() {
+        return asOf;
+    }
+
+    CustomerGraph customer(long index) {
+        var random = new SplittableRandom(seed ^ (index * GOLDEN_GAMMA));
+
+        var createdAt = registeredAt(random);
+        var id = uuidV7(createdAt, random);
+        var status = STATUSES.pick(random);
+        var firstName = FIRST_NAMES.pick(random);
+        var lastName = LAST_NAMES.pick(random);
+        var email = (firstName + "." + lastName).toLowerCase(Locale.ROOT).replaceAll("[^a-z.]", "")
+                + "." + index + "@" + EMAIL_DOMAINS.pick(random);
+        var verifiedAt = status.equals(PENDING_VERIFICATION) ? null : earliest(createdAt.plus(exponential(random, Duration.ofHours(3))));
+
+        var tokens = tokens(random, id, createdAt, verifiedAt);
+        var audits = new ArrayList<AuditRow>();
+        Optional<ProfileRow> profile = Optional.empty();
+        if (status.equals(PROFILE_COMPLETE) || (status.equals(SUSPENDED) && random.nextDouble() < 0.6)) {
+            profile = Optional.of(profile(random, id, firstName, lastName, verifiedAt, audits));
+        }
+        var customer = new CustomerRow(id, email, PASSWORD_HASH, status, createdAt, verifiedAt);
+        return new CustomerGraph(customer, profile, tokens, audits);
+    }
+
+    // The square root of a uniform draw has a linearly rising density, so each month brings more
+    // registrations than the one before it
+    private Instant registeredAt(SplittableRandom random) {
+        var span = Duration.between(firstRegistration, asOf).toMillis();
+        return firstRegistration.plusMillis((long) (Math.sqrt(random.nextDouble()) * span));
+    }
+
+    // One token at registration; unverified customers often ask for more
+    private List<TokenRow> tokens(SplittableRandom random, UUID customerId, Instant createdAt, Instant verifiedAt) {
+        var resends = verifiedAt == null ? geometric(random, 0.5, 5) : (random.nextDouble() < 0.1 ? 1 : 0);
+        var until = verifiedAt != null ? verifiedAt : asOf;
+        var tokens = new ArrayList<TokenRow>(resends + 1);
+        for (int i = 0; i <= resends; i++) {
+            var issuedAt = createdAt.plusMillis(Duration.between(createdAt, until).toMillis() * i / (resends + 1));
+            var rawToken = new UUID(random.nextLong(), random.nextLong()).toString();
+            tokens.add(new TokenRow(uuidV7(issuedAt, random), customerId, Integer.toHexString(rawToken.hashCode()),
+                    issuedAt.plus(TOKEN_LIFETIME), issuedAt));
+        }
+        return tokens;
+    }
+
+    private ProfileRow profile(SplittableRandom random, UUID customerId, String firstName, String lastName,
+                               Instant verifiedAt, List<AuditRow> audits) {
+        var createdAt = earliest(verifiedAt.plus(exponential(random, Duration.ofDays(1))));
+        var ssn = ssn(random);
+        var city = CITIES.pick(random);
+        var address = address(random, city);
+        var phone = random.nextDouble() < 0.85 ? phone(random) : null;
+
+        var updates = updateCount(random);
+        var updateTimes = random.longs(updates, createdAt.toEpochMilli(), asOf.toEpochMilli() + 1).sorted().toArray();
+        for (var updateTime : updateTimes) {
+            var changedAt = Instant.ofEpochMilli(updateTime);
+            if (random.nextDouble() < 0.55) {
+                var newPhone = phone(random);
+                audit(random, audits, customerId, changedAt, "phone", phone, newPhone);
+                phone = newPhone;
+            } else {
+                city = random.nextDouble() < 0.3 ? CITIES.pick(random) : city;
+                var moved = address(random, city);
+                audit(random, audits, customerId, changedAt, "address.street", address.street(), moved.street());
+                audit(random, audits, customerId, changedAt, "address.unit", address.unit(), moved.unit());
+                audit(random, audits, customerId, changedAt, "address.city", address.city(), moved.city());
+                audit(random, audits, customerId, changedAt, "address.state", address.state(), moved.state());
+                audit(random, audits, customerId, changedAt, "address.zipCode", address.zipCode(), moved.zipCode());
+                address = moved;
+            }
+        }
+        var updatedAt = updates == 0 ? null : Instant.ofEpochMilli(updateTimes[updates - 1]);
+        return new ProfileRow(customerId, firstName, lastName, dateOfBirth(random), encryptionService.encrypt(ssn),
+                ssn.substring(ssn.length() - 4), address, phone, createdAt, updatedAt, updates);
+    }
+
+    // Mirrors FieldChange.between: unchanged fields are not audited
+    private void audit(SplittableRandom random, List<AuditRow> audits, UUID customerId, Instant changedAt,
+                       String fieldName, String oldValue, String newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            audits.add(new AuditRow(uuidV7(changedAt, random), customerId, fieldName, oldValue, newValue, changedAt, customerId));
+        }
+    }
+
+    // Seven in ten profiles are never edited; the rest follow a Pareto tail
+    private static int updateCount(SplittableRandom random) {
+        if (random.nextDouble() < 0.7) {
+            return 0;
+        }
+        var pareto = Math.pow(1 - random.nextDouble(), -1 / 1.2);
+        return (int) Math.min(pareto, MAX_PROFILE_UPDATES);
+    }
+
+    private static Address address(SplittableRandom random, City city) {
+        var street = random.nextInt(1, 10_000) + " " + STREETS.get(random.nextInt(STREETS.size()));
+        var unit = random.nextDouble() < 0.2 ? "Apt " + random.nextInt(1, 500) : null;
+        return new Address(street, unit, city.name(), city.state(), city.zipPrefix() + twoDigits(random.nextInt(100)));
+    }
+
+    // Valid area numbers exclude 000, 666 and 900-999; groups and serials are never all zeros
+    private static String ssn(SplittableRandom random) {
+        var area = random.nextInt(1, 899);
+        if (area >= 666) {
+            area++;
+        }
+        return String.format("%03d-%02d-%04d", area, random.nextInt(1, 100), random.nextInt(1, 10_000));
+    }
+
+    private LocalDate dateOfBirth(SplittableRandom random) {
+        var age = (int) Math.round(Math.max(18, Math.min(90, 38 + random.nextGaussian() * 13)));
+        return LocalDate.ofInstant(asOf, ZoneOffset.UTC).minusYears(age).minusDays(random.nextInt(365));
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "555-" + String.format("%04d", random.nextInt(10_000));
+    }
+
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+
+    private Instant earliest(Instant instant) {
+        return instant.isAfter(asOf) ? asOf : instant;
+    }
+
+    private static Duration exponential(SplittableRandom random, Duration mean) {
+        return Duration.ofMillis((long) (-Math.log(1 - random.nextDouble()) * mean.toMillis()));
+    }
+
+    private static int geometric(SplittableRandom random, double continueProbability, int max) {
+        var count = 0;
+        while (count < max && random.nextDouble() < continueProbability) {
+            count++;
+        }
+        return count;
+    }
+
+    // Same layout as UuidV7Generator, but timestamped with the generated instant and drawn from
+    // the row's random so ids are reproducible
+    private static UUID uuidV7(Instant timestamp, SplittableRandom random) {
+        var mostSignificantBits = (timestamp.truncatedTo(ChronoUnit.MILLIS).toEpochMilli() << 16)
+                | UUID_VERSION_7 | random.nextInt(1 << 12);
+        return new UUID(mostSignificantBits, UUID_VARIANT | (random.nextLong() & UUID_RANDOM_MASK));
+    }
+
+    private record City(String name, String state, String zipPrefix) {
+    }
+}
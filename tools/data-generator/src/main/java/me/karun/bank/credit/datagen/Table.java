@@ -0,0 +1,33 @@
+package me.karun.bank.credit.datagen;
+
+/**
+ * Tables the generator loads, in foreign-key order.
+ */
+enum Table {
+    CUSTOMERS("customer.customers",
+            "id, email, password_hash, status, created_at, verified_at"),
+    CUSTOMER_PROFILES("customer.customer_profiles",
+            "customer_id, first_name, last_name, date_of_birth, ssn_encrypted, ssn_last_four, street_address, unit, "
+                    + "city, state, zip_code, phone, created_at, updated_at, version"),
+    VERIFICATION_TOKENS("customer.verification_tokens",
+            "id, customer_id, token_hash, expires_at, created_at"),
+    PROFILE_AUDIT("customer.profile_audit",
+            "id, customer_id, field_name, old_value, new_value, changed_at, changed_by");
+
+    private final String qualifiedName;
+    private final String columns;
+
+    Table(String qualifiedName, String columns) {
+        this.qualifiedName = qualifiedName;
+        this.columns = columns;
+    }
+
+    String qualifiedName() {
+        return qualifiedName;
+    }
+
+    // In CSV format an unquoted empty field is NULL; generated values are never empty strings
+    String copySql() {
+        return "COPY " + qualifiedName + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+    }
+}
@@ -0,0 +1,51 @@
+package me.karun.bank.credit.datagen;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Picks values with fixed relative weights, in O(log n) per pick.
+ */
+final class WeightedChoice<T> {
+
+    private final List<T> values;
+    private final double[] cumulative;
+
+    private WeightedChoice(List<T> values, double[] weights) {
+        if (values.size() != weights.length || values.isEmpty()) {
+            throw new IllegalArgumentException("Expected one weight per value");
+        }
+        this.values = List.copyOf(values);
+        this.cumulative = new double[weights.length];
+        var total = 0.0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    static <T> WeightedChoice<T> of(List<T> values, double... weights) {
+        return new WeightedChoice<>(values, weights);
+    }
+
+    /**
+     * Weights values by rank, the first most common, as names, cities and email domains are in
+     * practice.
+     */
+    static <T> WeightedChoice<T> zipf(List<T> values, double exponent) {
+        var weights = new double[values.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1 / Math.pow(i + 1, exponent);
+        }
+        return new WeightedChoice<>(values, weights);
+    }
+
+    T pick(SplittableRandom random) {
+        var index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return values.get(Math.min(index >= 0 ? index : -index - 1, values.size() - 1));
+    }
+}
@@ -0,0 +1,28 @@
+package me.karun.bank.credit.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataSettingsTest {
+
+    @Test
+    void shouldParseSuffixedCounts_whenGiven() {
+        var settings = DataSettings.parse("--customers=50m", "--batch=5k", "--seed=7", "--as-of=2026-01-01T00:00:00Z");
+
+        assertThat(settings.customers()).isEqualTo(50_000_000);
+        assertThat(settings.batch()).isEqualTo(5_000);
+        assertThat(settings.seed()).isEqualTo(7);
+        assertThat(settings.asOf()).isEqualTo(Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void shouldRejectArgument_whenOptionIsUnknown() {
+        assertThatThrownBy(() -> DataSettings.parse("--customer=5"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("customer");
+    }
+}
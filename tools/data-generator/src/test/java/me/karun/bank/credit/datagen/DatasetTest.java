@@ -0,0 +1,96 @@
+package me.karun.bank.credit.datagen;
+
+import me.karun.bank.credit.infrastructure.encryption.AwsSecretsManagerEncryptionService;
+import me.karun.bank.credit.infrastructure.encryption.EncryptionService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatasetTest {
+
+    private static final Instant AS_OF = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final EncryptionService encryptionService =
+            new AwsSecretsManagerEncryptionService("MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=");
+    private final Dataset dataset = new Dataset(42, AS_OF, 24, encryptionService);
+
+    @Test
+    void shouldGenerateSameCustomer_whenSeedAndIndexAreTheSame() {
+        var again = new Dataset(42, AS_OF, 24, encryptionService);
+
+        for (long index = 0; index < 200; index++) {
+            assertThat(again.customer(index))
+                    .usingRecursiveComparison()
+                    .ignoringFields("profile.value.ssnEncrypted")
+                    .isEqualTo(dataset.customer(index));
+        }
+    }
+
+    @Test
+    void shouldGenerateDifferentCustomers_whenSeedsDiffer() {
+        var other = new Dataset(43, AS_OF, 24, encryptionService);
+
+        assertThat(other.customer(0).customer().id()).isNotEqualTo(dataset.customer(0).customer().id());
+    }
+
+    @Test
+    void shouldEncryptValidSsn_whenProfileIsGenerated() {
+        var profile = LongStream.range(0, 100).mapToObj(dataset::customer)
+                .flatMap(graph -> graph.profile().stream())
+                .findFirst().orElseThrow();
+
+        var ssn = encryptionService.decrypt(profile.ssnEncrypted());
+
+        assertThat(ssn).matches("(?!000|666|9)\\d{3}-(?!00)\\d{2}-(?!0000)\\d{4}");
+        assertThat(ssn).endsWith(profile.ssnLastFour());
+    }
+
+    @Test
+    void shouldEndAuditTrailAtProfileValues_whenProfileWasUpdated() {
+        var graph = LongStream.range(0, 1_000).mapToObj(dataset::customer)
+                .filter(candidate -> candidate.audits().size() > 5)
+                .findFirst().orElseThrow();
+        var profile = graph.profile().orElseThrow();
+        var audits = graph.audits();
+
+        assertThat(audits).isSortedAccordingTo(Comparator.comparing(CustomerGraph.AuditRow::changedAt));
+        assertThat(audits).allSatisfy(audit -> {
+            assertThat(audit.customerId()).isEqualTo(profile.customerId());
+            assertThat(audit.changedAt()).isBetween(profile.createdAt(), AS_OF);
+            assertThat(audit.oldValue()).isNotEqualTo(audit.newValue());
+        });
+        assertThat(profile.updatedAt()).isEqualTo(audits.get(audits.size() - 1).changedAt());
+        audits.stream().filter(audit -> audit.fieldName().equals("phone")).reduce((first, second) -> second)
+                .ifPresent(lastPhoneChange -> assertThat(profile.phone()).isEqualTo(lastPhoneChange.newValue()));
+        audits.stream().filter(audit -> audit.fieldName().equals("address.street")).reduce((first, second) -> second)
+                .ifPresent(lastMove -> assertThat(profile.address().street()).isEqualTo(lastMove.newValue()));
+    }
+
+    @Test
+    void shouldOrderEveryCustomerTimeline_whenGenerated() {
+        LongStream.range(0, 1_000).mapToObj(dataset::customer).forEach(graph -> {
+            var customer = graph.customer();
+            assertThat(customer.createdAt()).isBetween(dataset.firstRegistration(), AS_OF);
+            assertThat(customer.verifiedAt() == null).isEqualTo(customer.status().equals(Dataset.PENDING_VERIFICATION));
+            assertThat(graph.tokens()).isNotEmpty()
+                    .allSatisfy(token -> assertThat(token.createdAt()).isAfterOrEqualTo(customer.createdAt()));
+            graph.profile().ifPresent(profile ->
+                    assertThat(profile.createdAt()).isAfterOrEqualTo(customer.verifiedAt()));
+        });
+    }
+
+    @Test
+    void shouldRegisterMoreCustomersRecently_whenGeneratingMany() {
+        var midpoint = dataset.firstRegistration().plusMillis((AS_OF.toEpochMilli() - dataset.firstRegistration().toEpochMilli()) / 2);
+
+        var recent = LongStream.range(0, 10_000).mapToObj(dataset::customer)
+                .filter(graph -> graph.customer().createdAt().isAfter(midpoint))
+                .count();
+
+        assertThat(recent).isGreaterThan(7_000);
+    }
+}
@@ -0,0 +1,28 @@
+plugins {
+    application
+    id("io.spring.dependency-management")
+}
+
+val springBootVersion: String by project
+val junitVersion: String by project
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:$springBootVersion")
+    }
+}
+
+dependencies {
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+    implementation("tools.jackson.core:jackson-databind")
+
+    testImplementation(platform("org.junit:junit-bom:$junitVersion"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.assertj:assertj-core")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+// ./gradlew :tools:load-generator:run --args="--model=open --rate=20 --duration=2m"
+application {
+    mainClass.set("me.karun.bank.credit.loadgen.LoadGenerator")
+}
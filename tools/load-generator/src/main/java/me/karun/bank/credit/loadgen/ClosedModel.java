@@ -0,0 +1,43 @@
+package me.karun.bank.credit.loadgen;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A fixed population of users, each starting its next journey once the previous one has ended
+ * and the think time has passed. Throughput follows the gateway's latency, so this model shows
+ * capacity at a given concurrency but hides queueing that real, independent arrivals would cause.
+ */
+public class ClosedModel implements LoadModel {
+
+    private final int users;
+    private final Duration thinkTime;
+
+    public ClosedModel(int users, Duration thinkTime) {
+        this.users = users;
+        this.thinkTime = thinkTime;
+    }
+
+    @Override
+    public void run(Journeys journeys, Results results, long startNanos, long endNanos) throws InterruptedException {
+        var finished = new CountDownLatch(users);
+        var next = CompletableFuture.delayedExecutor(thinkTime.toNanos(), TimeUnit.NANOSECONDS);
+        for (int user = 0; user < users; user++) {
+            startNext(journeys, endNanos, next, finished);
+        }
+        finished.await();
+    }
+
+    private void startNext(Journeys journeys, long endNanos, Executor next, CountDownLatch finished) {
+        var now = System.nanoTime();
+        if (now >= endNanos) {
+            finished.countDown();
+            return;
+        }
+        // Always continue on another thread so a run of fast failures cannot grow the stack
+        journeys.start(now).whenCompleteAsync((ignored, failure) -> startNext(journeys, endNanos, next, finished), next);
+    }
+}
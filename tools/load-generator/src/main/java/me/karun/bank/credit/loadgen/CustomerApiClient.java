@@ -0,0 +1,95 @@
+package me.karun.bank.credit.loadgen;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking calls to the customer API and the gateway's verification token hook, so a
+ * journey holds no thread while it waits on the gateway.
+ */
+public class CustomerApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final URI customers;
+    private final URI tokenHook;
+
+    public CustomerApiClient(URI baseUri) {
+        this.customers = baseUri.resolve("/api/v1/customers");
+        this.tokenHook = baseUri.resolve("/test-hooks/verification-tokens");
+    }
+
+    CompletableFuture<HttpResponse<String>> register(String email, String password) {
+        return send(post(customers, Map.of("email", email, "password", password)));
+    }
+
+    CompletableFuture<HttpResponse<String>> claimVerificationToken(String email) {
+        var uri = URI.create(tokenHook + "?email=" + URLEncoder.encode(email, StandardCharsets.UTF_8));
+        return send(HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build());
+    }
+
+    CompletableFuture<HttpResponse<String>> verifyEmail(String token) {
+        return send(post(URI.create(customers + "/verify-email"), Map.of("token", token)));
+    }
+
+    CompletableFuture<HttpResponse<String>> completeProfile(String customerId, Map<String, Object> profile) {
+        return send(jsonRequest(profileUri(customerId)).PUT(body(profile)).build());
+    }
+
+    CompletableFuture<HttpResponse<String>> getProfile(String customerId, String etag) {
+        var request = HttpRequest.newBuilder(profileUri(customerId)).timeout(REQUEST_TIMEOUT).GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return send(request.build());
+    }
+
+    CompletableFuture<HttpResponse<String>> updateProfile(String customerId, String etag, Map<String, Object> changes) {
+        var request = jsonRequest(profileUri(customerId)).method("PATCH", body(changes));
+        if (etag != null) {
+            request.header("If-Match", etag);
+        }
+        return send(request.build());
+    }
+
+    JsonNode read(HttpResponse<String> response) {
+        return jsonMapper.readTree(response.body());
+    }
+
+    private URI profileUri(String customerId) {
+        return URI.create(customers + "/" + customerId + "/profile");
+    }
+
+    private HttpRequest post(URI uri, Map<String, ?> body) {
+        return jsonRequest(uri).POST(body(body)).build();
+    }
+
+    private HttpRequest.Builder jsonRequest(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body(Map<String, ?> body) {
+        return HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body));
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
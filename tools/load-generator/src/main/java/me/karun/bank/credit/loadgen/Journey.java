@@ -0,0 +1,175 @@
+package me.karun.bank.credit.loadgen;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * One new customer's onboarding: register, verify the emailed token, complete the profile, read it
+ * back and change the phone number with the ETag just read. A step that fails ends the journey.
+ * In the hot-profile scenario a journey is instead a single read of an already onboarded profile.
+ *
+ * <p>Step latencies run from sending the request to reading the response. The journey latency
+ * runs from when the load model meant to start it, so time spent waiting behind a slow gateway
+ * is not hidden.
+ */
+final class Journey {
+
+    private static final String PASSWORD = "SecurePass123!";
+    private static final String[] FIRST_NAMES = {"Jane", "John", "Maria", "Wei", "Aisha", "Liam", "Sofia", "Omar"};
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Garcia", "Chen", "Khan", "O'Brien", "Rossi", "Okafor"};
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final CustomerApiClient client;
+    private final Results results;
+    private final long intendedStartNanos;
+    private final boolean measured;
+    private final String email;
+
+    private Journey(CustomerApiClient client, Results results, String runId, long intendedStartNanos) {
+        this.client = client;
+        this.results = results;
+        this.intendedStartNanos = intendedStartNanos;
+        this.measured = results.isMeasured(intendedStartNanos);
+        this.email = "load-" + runId + "-" + SEQUENCE.incrementAndGet() + "@example.com";
+    }
+
+    static Journeys factory(CustomerApiClient client, Results results, String runId) {
+        return intendedStartNanos -> new Journey(client, results, runId, intendedStartNanos).run();
+    }
+
+    /**
+     * Journeys that each read one of {@code customerIds}, picked at random, without If-None-Match,
+     * so every read loads the profile and concurrent reads of one profile pile up on the same load.
+     */
+    static Journeys hotProfileReads(CustomerApiClient client, Results results, String runId, List<String> customerIds) {
+        return intendedStartNanos -> {
+            var customerId = customerIds.get(ThreadLocalRandom.current().nextInt(customerIds.size()));
+            return new Journey(client, results, runId, intendedStartNanos).readProfile(customerId);
+        };
+    }
+
+    /**
+     * Onboards {@code customers} customers before the run and returns their ids, failing if any of
+     * them cannot be onboarded. Their requests are recorded apart from the run's results.
+     */
+    static List<String> onboard(CustomerApiClient client, String runId, int customers) {
+        var setup = new Results(Long.MIN_VALUE);
+        var onboarded = IntStream.range(0, customers)
+                .mapToObj(i -> new Journey(client, setup, runId, System.nanoTime()).onboard())
+                .toList();
+        try {
+            return onboarded.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Could not onboard the hot profiles: " + setup.errorBreakdown(), e);
+        }
+    }
+
+    private CompletableFuture<Void> run() {
+        return finish(onboard()
+                .thenCompose(customerId -> step(Step.GET_PROFILE, 200, () -> client.getProfile(customerId, null))
+                        .thenCompose(profile -> step(Step.UPDATE_PROFILE, 200, () -> client.updateProfile(
+                                customerId, profile.headers().firstValue("ETag").orElse(null), Map.of("phone", phone()))))));
+    }
+
+    private CompletableFuture<String> onboard() {
+        return step(Step.REGISTER, 201, () -> client.register(email, PASSWORD))
+                .thenCompose(registered -> {
+                    var customerId = client.read(registered).get("customerId").asString();
+                    return claimToken()
+                            .thenCompose(token -> step(Step.VERIFY_EMAIL, 200, () -> client.verifyEmail(token)))
+                            .thenCompose(verified -> step(Step.COMPLETE_PROFILE, 200,
+                                    () -> client.completeProfile(customerId, profile())))
+                            .thenApply(completed -> customerId);
+                });
+    }
+
+    private CompletableFuture<Void> readProfile(String customerId) {
+        return finish(step(Step.GET_PROFILE, 200, () -> client.getProfile(customerId, null)));
+    }
+
+    private CompletableFuture<Void> finish(CompletableFuture<?> steps) {
+        return steps
+                .handle((response, failure) -> {
+                    if (measured) {
+                        if (failure == null) {
+                            results.journeyCompleted(System.nanoTime() - intendedStartNanos);
+                        } else {
+                            results.journeyFailed();
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private CompletableFuture<String> claimToken() {
+        return client.claimVerificationToken(email).thenApply(response -> {
+            if (response.statusCode() != 200) {
+                fail(Step.VERIFY_EMAIL, "token hook HTTP " + response.statusCode());
+            }
+            return client.read(response).get("token").asString();
+        });
+    }
+
+    private CompletableFuture<HttpResponse<String>> step(Step step, int expectedStatus,
+                                                         Supplier<CompletableFuture<HttpResponse<String>>> request) {
+        var start = System.nanoTime();
+        return request.get().handle((response, failure) -> {
+            if (failure != null) {
+                var cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+                fail(step, cause.getClass().getSimpleName());
+            }
+            if (response.statusCode() != expectedStatus) {
+                fail(step, "HTTP " + response.statusCode());
+            }
+            if (measured) {
+                results.stepSucceeded(step, System.nanoTime() - start);
+            }
+            return response;
+        });
+    }
+
+    private void fail(Step step, String reason) {
+        if (measured) {
+            results.stepFailed(step, reason);
+        }
+        throw new JourneyAbortedException();
+    }
+
+    private static Map<String, Object> profile() {
+        var random = ThreadLocalRandom.current();
+        return Map.of(
+                "firstName", FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                "lastName", LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                "dateOfBirth", LocalDate.of(1950, 1, 1).plusDays(random.nextInt(365 * 50)).toString(),
+                // Well-formed and never all zeros, so it always passes SSN validation
+                "ssn", String.format("%03d-%02d-%04d", random.nextInt(100, 666), random.nextInt(10, 100), random.nextInt(1000, 10000)),
+                "address", Map.of(
+                        "street", random.nextInt(1, 9999) + " Main St",
+                        "city", "Springfield",
+                        "state", "IL",
+                        "zipCode", String.format("%05d", random.nextInt(10000, 99999))),
+                "phone", phone());
+    }
+
+    private static String phone() {
+        return "555-" + String.format("%04d", ThreadLocalRandom.current().nextInt(10000));
+    }
+
+    /**
+     * Stops the remaining steps of a journey whose failure has already been recorded.
+     */
+    private static final class JourneyAbortedException extends RuntimeException {
+
+        JourneyAbortedException() {
+            super(null, null, false, false);
+        }
+    }
+}
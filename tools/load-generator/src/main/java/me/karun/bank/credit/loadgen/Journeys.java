@@ -0,0 +1,13 @@
+package me.karun.bank.credit.loadgen;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Starts a journey that a load model scheduled for {@code intendedStartNanos}
+ * ({@link System#nanoTime()} time). The future completes, never exceptionally, when it ends.
+ */
+@FunctionalInterface
+public interface Journeys {
+
+    CompletableFuture<Void> start(long intendedStartNanos);
+}
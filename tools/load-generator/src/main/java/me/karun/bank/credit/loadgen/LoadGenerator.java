@@ -0,0 +1,51 @@
+package me.karun.bank.credit.loadgen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Drives the onboarding journey, or reads of a few hot profiles, against a running gateway and
+ * prints a report. The gateway must run with {@code platform.load-test.token-hook=true} so
+ * customers can be onboarded with their verification tokens.
+ */
+public final class LoadGenerator {
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        var settings = LoadSettings.parse(args);
+        var model = settings.model() == LoadSettings.Model.CLOSED
+                ? new ClosedModel(settings.users(), settings.thinkTime())
+                : new OpenModel(settings.rate(), settings.maxInFlight());
+
+        var client = new CustomerApiClient(settings.baseUri());
+        var runId = UUID.randomUUID().toString().substring(0, 8);
+        var hotProfiles = settings.scenario() == LoadSettings.Scenario.HOT_PROFILE
+                ? Journey.onboard(client, runId, settings.hotProfiles())
+                : List.<String>of();
+
+        var startNanos = System.nanoTime();
+        var measureFromNanos = startNanos + settings.warmup().toNanos();
+        var endNanos = measureFromNanos + settings.duration().toNanos();
+        var results = new Results(measureFromNanos);
+        var journeys = switch (settings.scenario()) {
+            case ONBOARDING -> Journey.factory(client, results, runId);
+            case HOT_PROFILE -> Journey.hotProfileReads(client, results, runId, hotProfiles);
+        };
+
+        System.out.println("Running " + settings.describe());
+        model.run(journeys, results, startNanos, endNanos);
+
+        // Open-model journeys scheduled near the end may finish late; throughput uses the window
+        // in which measured journeys were started
+        var report = Report.of(settings, results, Duration.ofNanos(endNanos - measureFromNanos));
+        System.out.print(report);
+        if (settings.reportFile().isPresent()) {
+            Files.writeString(settings.reportFile().get(), report);
+        }
+    }
+}
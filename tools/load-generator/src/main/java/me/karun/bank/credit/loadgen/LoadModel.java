@@ -0,0 +1,10 @@
+package me.karun.bank.credit.loadgen;
+
+/**
+ * Decides when journeys start. Returns once no more journeys will start and those started have
+ * ended.
+ */
+public interface LoadModel {
+
+    void run(Journeys journeys, Results results, long startNanos, long endNanos) throws InterruptedException;
+}
@@ -0,0 +1,96 @@
+package me.karun.bank.credit.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Run settings, parsed from {@code --name=value} arguments. Durations accept {@code 90s},
+ * {@code 2m} or ISO-8601.
+ *
+ * @param scenario    {@code onboarding}: each journey onboards a new customer; {@code hot-profile}:
+ *                    each journey reads one of {@code hotProfiles} profiles onboarded before the
+ *                    run, so many users read the same profile at once
+ * @param model       {@code closed}: a fixed number of users, each starting a journey when the
+ *                    last one ends; {@code open}: journeys start at a constant rate, however
+ *                    long earlier ones take
+ * @param users       concurrent users in the closed model
+ * @param rate        journeys started per second in the open model
+ * @param maxInFlight journeys the open model lets run at once; starts beyond it are dropped and
+ *                    reported, so a stalled gateway cannot exhaust the generator
+ */
+public record LoadSettings(
+        URI baseUri,
+        Scenario scenario,
+        int hotProfiles,
+        Model model,
+        int users,
+        double rate,
+        int maxInFlight,
+        Duration duration,
+        Duration warmup,
+        Duration thinkTime,
+        Optional<Path> reportFile
+) {
+
+    public enum Scenario {
+        ONBOARDING, HOT_PROFILE
+    }
+
+    public enum Model {
+        CLOSED, OPEN
+    }
+
+    public static LoadSettings parse(String... args) {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            var separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        var settings = new LoadSettings(
+                URI.create(take(options, "base-url", "http://localhost:8080")),
+                Scenario.valueOf(take(options, "scenario", "onboarding").replace('-', '_').toUpperCase(Locale.ROOT)),
+                Integer.parseInt(take(options, "hot-profiles", "1")),
+                Model.valueOf(take(options, "model", "closed").toUpperCase(Locale.ROOT)),
+                Integer.parseInt(take(options, "users", "10")),
+                Double.parseDouble(take(options, "rate", "10")),
+                Integer.parseInt(take(options, "max-in-flight", "1000")),
+                duration(take(options, "duration", "60s")),
+                duration(take(options, "warmup", "10s")),
+                duration(take(options, "think-time", "0s")),
+                Optional.ofNullable(options.remove("report")).map(Path::of)
+        );
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+        if (settings.hotProfiles() < 1) {
+            throw new IllegalArgumentException("Expected at least one hot profile but got " + settings.hotProfiles());
+        }
+        return settings;
+    }
+
+    private static String take(Map<String, String> options, String name, String defaultValue) {
+        var value = options.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static Duration duration(String value) {
+        var upper = value.toUpperCase(Locale.ROOT);
+        return Duration.parse(upper.startsWith("P") ? upper : "PT" + upper);
+    }
+
+    String describe() {
+        var load = model == Model.CLOSED
+                ? "closed, " + users + " users" + (thinkTime.isZero() ? "" : ", think time " + thinkTime.toMillis() + "ms")
+                : "open, " + rate + " journeys/s, at most " + maxInFlight + " in flight";
+        var journeys = scenario == Scenario.HOT_PROFILE ? "reads of " + hotProfiles + (hotProfiles == 1 ? " hot profile, " : " hot profiles, ") : "";
+        return journeys + load + ", " + duration.toSeconds() + "s after " + warmup.toSeconds() + "s warm-up against " + baseUri;
+    }
+}
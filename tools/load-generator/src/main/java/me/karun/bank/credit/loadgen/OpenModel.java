@@ -0,0 +1,59 @@
+package me.karun.bank.credit.loadgen;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Journeys start on a fixed schedule whatever the gateway's latency, as independent customers
+ * would arrive. When more than {@code maxInFlight} journeys are still running a scheduled start is
+ * dropped and counted rather than delayed, so the generator never quietly lowers the rate.
+ */
+public class OpenModel implements LoadModel {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final double journeysPerSecond;
+    private final int maxInFlight;
+
+    public OpenModel(double journeysPerSecond, int maxInFlight) {
+        this.journeysPerSecond = journeysPerSecond;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public void run(Journeys journeys, Results results, long startNanos, long endNanos) throws InterruptedException {
+        var intervalNanos = TimeUnit.SECONDS.toNanos(1) / journeysPerSecond;
+        var inFlight = new AtomicInteger();
+        for (long i = 0; ; i++) {
+            var intendedStart = startNanos + (long) (i * intervalNanos);
+            if (intendedStart >= endNanos) {
+                break;
+            }
+            parkUntil(intendedStart);
+            if (inFlight.get() >= maxInFlight) {
+                if (results.isMeasured(intendedStart)) {
+                    results.journeyDropped();
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            journeys.start(intendedStart).whenComplete((ignored, failure) -> inFlight.decrementAndGet());
+        }
+        var drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
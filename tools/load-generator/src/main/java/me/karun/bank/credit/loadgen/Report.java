@@ -0,0 +1,55 @@
+package me.karun.bank.credit.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Plain-text summary of a run: throughput, latency percentiles per step and for whole journeys,
+ * and every distinct error with its count.
+ */
+final class Report {
+
+    private static final String ROW = "%-30s %8s %8s %8s %9s %9s %9s %9s %9s%n";
+
+    private Report() {
+    }
+
+    static String of(LoadSettings settings, Results results, Duration measured) {
+        var seconds = measured.toNanos() / 1e9;
+        var out = new StringBuilder();
+        out.append("Load: ").append(settings.describe()).append('\n');
+        var completed = results.journeys().getTotalCount();
+        out.append(String.format(Locale.ROOT, "Journeys: %d completed (%.1f/s), %d failed, %d dropped%n%n",
+                completed, completed / seconds, results.failedJourneys(), results.droppedJourneys()));
+
+        out.append(String.format(Locale.ROOT, ROW, "", "ok", "errors", "per s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (var step : Step.values()) {
+            out.append(row(step.label(), results.step(step), results.errors(step), seconds));
+        }
+        out.append(row("journey", results.journeys(), results.failedJourneys(), seconds));
+
+        var errors = results.errorBreakdown();
+        if (!errors.isEmpty()) {
+            out.append("\nErrors:\n");
+            errors.forEach((reason, count) -> out.append(String.format(Locale.ROOT, "  %-50s %8d%n", reason, count)));
+        }
+        return out.toString();
+    }
+
+    private static String row(String label, Histogram histogram, long errors, double seconds) {
+        var count = histogram.getTotalCount();
+        return String.format(Locale.ROOT, ROW, label, count, errors,
+                String.format(Locale.ROOT, "%.1f", (count + errors) / seconds),
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                count == 0 ? "-" : String.format(Locale.ROOT, "%.1f", histogram.getMaxValue() / 1000.0));
+    }
+
+    private static String millis(Histogram histogram, double percentile) {
+        if (histogram.getTotalCount() == 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.1f", histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+}
@@ -0,0 +1,96 @@
+package me.karun.bank.credit.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms (microseconds) per step and per journey, plus error counts. Journeys that
+ * were scheduled to start before the measurement window opened are not recorded, so warm-up
+ * traffic never reaches the report.
+ */
+public class Results {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Step, Histogram> steps = new EnumMap<>(Step.class);
+    private final Histogram journeys = histogram();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder failedJourneys = new LongAdder();
+    private final LongAdder droppedJourneys = new LongAdder();
+    private final long measureFromNanos;
+
+    public Results(long measureFromNanos) {
+        this.measureFromNanos = measureFromNanos;
+        for (var step : Step.values()) {
+            steps.put(step, histogram());
+        }
+    }
+
+    public boolean isMeasured(long intendedStartNanos) {
+        return intendedStartNanos >= measureFromNanos;
+    }
+
+    void stepSucceeded(Step step, long elapsedNanos) {
+        record(steps.get(step), elapsedNanos);
+    }
+
+    void stepFailed(Step step, String reason) {
+        errors.computeIfAbsent(step.label() + " " + reason, key -> new LongAdder()).increment();
+    }
+
+    void journeyCompleted(long elapsedNanos) {
+        record(journeys, elapsedNanos);
+    }
+
+    void journeyFailed() {
+        failedJourneys.increment();
+    }
+
+    void journeyDropped() {
+        droppedJourneys.increment();
+    }
+
+    public Histogram step(Step step) {
+        return steps.get(step);
+    }
+
+    public Histogram journeys() {
+        return journeys;
+    }
+
+    public long failedJourneys() {
+        return failedJourneys.sum();
+    }
+
+    public long droppedJourneys() {
+        return droppedJourneys.sum();
+    }
+
+    public long errors(Step step) {
+        return errors.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(step.label() + " "))
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    public Map<String, Long> errorBreakdown() {
+        var breakdown = new TreeMap<String, Long>();
+        errors.forEach((reason, count) -> breakdown.put(reason, count.sum()));
+        return breakdown;
+    }
+
+    private static void record(Histogram histogram, long elapsedNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_MICROS));
+    }
+
+    private static Histogram histogram() {
+        return new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    }
+}
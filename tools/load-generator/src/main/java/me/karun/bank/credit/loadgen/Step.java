@@ -0,0 +1,22 @@
+package me.karun.bank.credit.loadgen;
+
+/**
+ * Requests in the onboarding journey, in the order a journey makes them.
+ */
+public enum Step {
+    REGISTER("POST /customers"),
+    VERIFY_EMAIL("POST /customers/verify-email"),
+    COMPLETE_PROFILE("PUT /profile"),
+    GET_PROFILE("GET /profile"),
+    UPDATE_PROFILE("PATCH /profile");
+
+    private final String label;
+
+    Step(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,49 @@
+package me.karun.bank.credit.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadSettingsTest {
+
+    @Test
+    void shouldUseDefaults_whenNoArgumentsGiven() {
+        var settings = LoadSettings.parse();
+
+        assertThat(settings.baseUri()).isEqualTo(URI.create("http://localhost:8080"));
+        assertThat(settings.scenario()).isEqualTo(LoadSettings.Scenario.ONBOARDING);
+        assertThat(settings.model()).isEqualTo(LoadSettings.Model.CLOSED);
+        assertThat(settings.duration()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(settings.reportFile()).isEmpty();
+    }
+
+    @Test
+    void shouldParseShortAndIsoDurations_whenGiven() {
+        var settings = LoadSettings.parse("--model=open", "--rate=25.5", "--duration=2m", "--warmup=PT15S");
+
+        assertThat(settings.model()).isEqualTo(LoadSettings.Model.OPEN);
+        assertThat(settings.rate()).isEqualTo(25.5);
+        assertThat(settings.duration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(settings.warmup()).isEqualTo(Duration.ofSeconds(15));
+    }
+
+    @Test
+    void shouldParseHotProfileScenario_whenGiven() {
+        var settings = LoadSettings.parse("--scenario=hot-profile", "--hot-profiles=3", "--users=200");
+
+        assertThat(settings.scenario()).isEqualTo(LoadSettings.Scenario.HOT_PROFILE);
+        assertThat(settings.hotProfiles()).isEqualTo(3);
+        assertThat(settings.describe()).startsWith("reads of 3 hot profiles, closed, 200 users");
+    }
+
+    @Test
+    void shouldRejectArgument_whenOptionIsUnknown() {
+        assertThatThrownBy(() -> LoadSettings.parse("--user=5"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("user");
+    }
+}
@@ -0,0 +1,72 @@
+package me.karun.bank.credit.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenModelTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldStartJourneysOnFixedSchedule_whenJourneysCompleteImmediately() throws Exception {
+        var intendedStarts = new CopyOnWriteArrayList<Long>();
+        var start = System.nanoTime();
+
+        new OpenModel(100, 10).run(recording(intendedStarts), new Results(start), start, start + SECOND / 5);
+
+        assertThat(intendedStarts).hasSize(20);
+        assertThat(intendedStarts.get(1) - intendedStarts.get(0)).isEqualTo(SECOND / 100);
+    }
+
+    @Test
+    void shouldDropAndCountStarts_whenTooManyJourneysAreInFlight() throws Exception {
+        var stalled = new CompletableFuture<Void>();
+        var start = System.nanoTime();
+        var results = new Results(start);
+        var started = new CopyOnWriteArrayList<Long>();
+
+        var run = CompletableFuture.runAsync(() -> {
+            try {
+                new OpenModel(100, 5).run(intendedStart -> {
+                    started.add(intendedStart);
+                    return stalled;
+                }, results, start, start + SECOND / 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        while (results.droppedJourneys() < 15 && !run.isDone()) {
+            Thread.sleep(5);
+        }
+        stalled.complete(null);
+        run.get(5, TimeUnit.SECONDS);
+
+        assertThat(started).hasSize(5);
+        assertThat(results.droppedJourneys()).isEqualTo(15);
+    }
+
+    @Test
+    void shouldNotCountDrops_whenScheduledDuringWarmup() throws Exception {
+        var stalled = new CompletableFuture<Void>();
+        var start = System.nanoTime();
+        var results = new Results(start + SECOND);
+
+        stalled.completeAsync(() -> null, CompletableFuture.delayedExecutor(300, TimeUnit.MILLISECONDS));
+        new OpenModel(100, 1).run(intendedStart -> stalled, results, start, start + SECOND / 5);
+
+        assertThat(results.droppedJourneys()).isZero();
+    }
+
+    private static Journeys recording(List<Long> intendedStarts) {
+        return intendedStart -> {
+            intendedStarts.add(intendedStart);
+            return CompletableFuture.completedFuture(null);
+        };
+    }
+}